@@ -13,6 +13,8 @@
 
 package org.onap.a1pesimulator.configuration;
 
+import org.onap.a1pesimulator.util.SimulationClock;
+import org.onap.a1pesimulator.util.SimulationTaskScheduler;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,14 +24,17 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 public class VesPmThreadPoolTaskSchedulerConfig {
 
     private Integer poolSize;
+    private final SimulationClock simulationClock;
 
-    public VesPmThreadPoolTaskSchedulerConfig(@Value("${ves.pm.maxPoolSize}") Integer poolSize) {
+    public VesPmThreadPoolTaskSchedulerConfig(@Value("${ves.pm.maxPoolSize}") Integer poolSize,
+            SimulationClock simulationClock) {
         this.poolSize = poolSize;
+        this.simulationClock = simulationClock;
     }
 
     @Bean
     public ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler() {
-        ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+        ThreadPoolTaskScheduler threadPoolTaskScheduler = new SimulationTaskScheduler(simulationClock);
         threadPoolTaskScheduler.setPoolSize(poolSize);
         threadPoolTaskScheduler.setThreadNamePrefix("VesPmThreadPoolTaskScheduler");
         return threadPoolTaskScheduler;
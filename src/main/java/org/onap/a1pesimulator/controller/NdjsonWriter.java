@@ -0,0 +1,60 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.springframework.http.MediaType;
+
+/**
+ * Writes entities as newline delimited JSON, one object per line, while they are produced
+ */
+class NdjsonWriter implements AutoCloseable {
+
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private final JsonGenerator generator;
+
+    NdjsonWriter(ObjectMapper mapper, OutputStream out) throws IOException {
+        this.generator = mapper.getFactory().createGenerator(out);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    void write(Map<String, Object> entity) {
+        try {
+            generator.writeObject(entity);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the entity wrapped in an object with a single field, so entities of several types can share a stream
+     */
+    void write(String type, Map<String, Object> entity) {
+        write(Map.<String, Object>of(type, entity));
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
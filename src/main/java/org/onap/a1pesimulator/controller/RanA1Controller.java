@@ -15,11 +15,11 @@ package org.onap.a1pesimulator.controller;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
-import java.util.Collection;
 import org.onap.a1pesimulator.data.PolicyNotification;
 import org.onap.a1pesimulator.data.PolicyNotificationActionEnum;
 import org.onap.a1pesimulator.service.a1.A1Service;
-import org.onap.a1pesimulator.service.a1.OnPolicyAction;
+import org.onap.a1pesimulator.service.a1.PolicyActionDispatcher;
+import org.onap.a1pesimulator.service.a1.PolicyInstance;
 import org.onap.a1pesimulator.service.a1.PolicyInstancesHolder;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -43,14 +43,14 @@ public class RanA1Controller {
     private static final String TOPIC_POLICY = "/topic/policy";
     private final SimpMessagingTemplate messagingTemplate;
     private final A1Service a1Service;
-    private final Collection<OnPolicyAction> onPolicyActions;
+    private final PolicyActionDispatcher policyActionDispatcher;
     private final PolicyInstancesHolder policyHolder;
 
     public RanA1Controller(A1Service a1Service, SimpMessagingTemplate messagingTemplate,
-            Collection<OnPolicyAction> onPolicyActions, PolicyInstancesHolder policyHolder) {
+            PolicyActionDispatcher policyActionDispatcher, PolicyInstancesHolder policyHolder) {
         this.a1Service = a1Service;
         this.messagingTemplate = messagingTemplate;
-        this.onPolicyActions = onPolicyActions;
+        this.policyActionDispatcher = policyActionDispatcher;
         this.policyHolder = policyHolder;
     }
 
@@ -72,8 +72,9 @@ public class RanA1Controller {
         if (!response.getStatusCode().is2xxSuccessful()) {
             return response;
         }
-        policyHolder.addPolicy(policyInstanceId, body);
-        onPolicyActions.forEach(action -> handleOnPolicyAction(policyTypeId, policyInstanceId, body, action));
+        PolicyInstance policy = new PolicyInstance(policyTypeId, policyInstanceId, body);
+        policyHolder.addPolicy(policy);
+        policyActionDispatcher.dispatch(policy);
         messagingTemplate.convertAndSend(TOPIC_POLICY,
                 new PolicyNotification(policyInstanceId, policyTypeId, PolicyNotificationActionEnum.CREATED, body));
         return response;
@@ -114,10 +115,4 @@ public class RanA1Controller {
             throws URISyntaxException {
         return a1Service.getPolicy(policyTypeId, policyInstanceId);
     }
-
-    private void handleOnPolicyAction(Integer policyTypeId, String policyId, String body, OnPolicyAction action) {
-        if (action.isForMe(policyTypeId, policyId, body)) {
-            action.onPolicy(policyTypeId, policyId, body);
-        }
-    }
 }
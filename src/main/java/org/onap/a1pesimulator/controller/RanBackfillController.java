@@ -0,0 +1,71 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.controller;
+
+import java.util.Collection;
+
+import org.onap.a1pesimulator.data.fileready.BackfillRequest;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus;
+import org.onap.a1pesimulator.service.pm.BackfillService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.ApiOperation;
+
+@RestController
+@RequestMapping({"${restapi.version}/ran/backfill"})
+public class RanBackfillController {
+
+    private static final Logger log = LoggerFactory.getLogger(RanBackfillController.class);
+    private final BackfillService backfillService;
+
+    public RanBackfillController(BackfillService backfillService) {
+        this.backfillService = backfillService;
+    }
+
+    @ApiOperation("Start generating PM Bulk Files for every cell and reporting period of a past time range")
+    @PostMapping
+    public ResponseEntity<BackfillStatus> startBackfill(final @RequestBody BackfillRequest request) {
+        try {
+            return ResponseEntity.accepted().body(backfillService.start(request));
+        } catch (IllegalArgumentException e) {
+            log.info("Backfill not started: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping
+    public ResponseEntity<Collection<BackfillStatus>> getBackfills() {
+        return ResponseEntity.ok(backfillService.getAll());
+    }
+
+    @ApiOperation("Progress of the backfill job with files per second")
+    @GetMapping(value = "/{id}")
+    public ResponseEntity<BackfillStatus> getBackfill(final @PathVariable String id) {
+        return ResponseEntity.of(backfillService.getStatus(id));
+    }
+
+    @DeleteMapping(value = "/{id}")
+    public ResponseEntity<BackfillStatus> cancelBackfill(final @PathVariable String id) {
+        return ResponseEntity.of(backfillService.cancel(id));
+    }
+}
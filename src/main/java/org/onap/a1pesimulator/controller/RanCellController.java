@@ -13,13 +13,22 @@
 
 package org.onap.a1pesimulator.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+import org.onap.a1pesimulator.data.EntityPage;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.ReportingMethodEnum;
+import org.onap.a1pesimulator.data.cell.CellBulkRequest;
+import org.onap.a1pesimulator.data.cell.CellBulkResult;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.RanCell;
 import org.onap.a1pesimulator.data.fileready.RanPeriodicEvent;
 import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.cell.RanCellBulkService;
 import org.onap.a1pesimulator.service.cell.RanCellService;
 import org.onap.a1pesimulator.service.cell.RanCellStateService;
 import org.onap.a1pesimulator.service.report.RanReportsBrokerService;
@@ -34,6 +43,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
@@ -46,14 +56,19 @@ public class RanCellController {
     private final RanCellService ranCellService;
     private final RanCellStateService ranCellStateService;
     private final RanReportsBrokerService ranReportsBrokerService;
+    private final RanCellBulkService ranCellBulkService;
+    private final ObjectMapper objectMapper;
 
     public static final String CONFLICT_ERROR_MESSAGE = "The changing of the cell state is not allowed in current state";
 
     public RanCellController(RanCellService ranCellService, RanCellStateService ranCellStateService,
-            RanReportsBrokerService ranReportsBrokerService) {
+            RanReportsBrokerService ranReportsBrokerService, RanCellBulkService ranCellBulkService,
+            ObjectMapper objectMapper) {
         this.ranCellService = ranCellService;
         this.ranCellStateService = ranCellStateService;
         this.ranReportsBrokerService = ranReportsBrokerService;
+        this.ranCellBulkService = ranCellBulkService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -61,6 +76,33 @@ public class RanCellController {
         return ResponseEntity.ok(ranCellService.getCells());
     }
 
+    @ApiOperation("Page of cells ordered by id, connected UEs are computed only if the field is selected")
+    @GetMapping(params = "limit")
+    public ResponseEntity<EntityPage<Map<String, Object>>> getCellsPage(
+            @ApiParam(value = "Id of the last cell of the previous page") final @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Maximal number of cells", example = "1000") final @RequestParam int limit,
+            @ApiParam(value = "Comma separated fields, all if not set") final @RequestParam(required = false) String fields) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> cells = new ArrayList<>(limit);
+        String nextCursor = ranCellService.forEachCell(cursor, limit, FieldSelection.parse(fields), cells::add);
+        return ResponseEntity.ok(new EntityPage<>(cells, nextCursor));
+    }
+
+    @ApiOperation("Stream of cells ordered by id as newline delimited JSON")
+    @GetMapping(produces = NdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamCells(
+            @ApiParam(value = "Id of the last cell already received") final @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Comma separated fields, all if not set") final @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                ranCellService.forEachCell(cursor, null, selection, writer::write);
+            }
+        });
+    }
+
     @GetMapping(value = "/{identifier}")
     public ResponseEntity<CellDetails> getCellById(final @PathVariable String identifier) {
         return ResponseEntity.ok(ranCellService.getCellById(identifier));
@@ -136,6 +178,20 @@ public class RanCellController {
         return ResponseEntity.status(HttpStatus.CONFLICT).build();
     }
 
+    @ApiOperation("Start sending normal VES events for all selected cells, first events are spread over the period")
+    @PostMapping(value = "/start")
+    public ResponseEntity<CellBulkResult> startSendingReports(@ApiParam(value = "Cell selection") final @RequestBody CellBulkRequest request,
+            @ApiParam(value = "Granularity period in seconds", example = "60") final @RequestParam(required = false) Integer interval,
+            @ApiParam(value = "Reporting Method", defaultValue = "FILE_READY", required = true) final @RequestParam() ReportingMethodEnum reportingMethod) {
+        return ResponseEntity.accepted().body(ranCellBulkService.start(request, interval, reportingMethod));
+    }
+
+    @ApiOperation("Stop sending normal VES events for all selected cells")
+    @PostMapping(value = "/stop")
+    public ResponseEntity<CellBulkResult> stopSendingReports(@ApiParam(value = "Cell selection") final @RequestBody CellBulkRequest request) {
+        return ResponseEntity.accepted().body(ranCellBulkService.stop(request));
+    }
+
     @GetMapping(value = "/{identifier}/pmConfig")
     public ResponseEntity<RanPeriodicEvent> getPMConfig(final @PathVariable String identifier) {
         checkIfCellExistOrThrowException(identifier);
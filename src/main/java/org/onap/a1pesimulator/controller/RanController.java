@@ -13,15 +13,25 @@
 
 package org.onap.a1pesimulator.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import org.onap.a1pesimulator.data.FieldSelection;
+import java.util.List;
 import org.onap.a1pesimulator.data.Topology;
 import org.onap.a1pesimulator.service.cell.RanCellService;
+import org.onap.a1pesimulator.service.report.OnEventActionBus;
+import org.onap.a1pesimulator.service.report.OnEventActionBus.ActionStats;
+import org.onap.a1pesimulator.service.ue.RanUeService;
 import org.onap.a1pesimulator.util.ItemsRefresher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping({"${restapi.version}/ran"})
@@ -29,11 +39,18 @@ public class RanController {
 
     private static final Logger log = LoggerFactory.getLogger(RanController.class);
     private final RanCellService ranCellService;
+    private final RanUeService ranUeService;
     private final ItemsRefresher refresher;
+    private final ObjectMapper objectMapper;
+    private final OnEventActionBus onEventActionBus;
 
-    public RanController(RanCellService ranCellService, final ItemsRefresher refresher) {
+    public RanController(RanCellService ranCellService, RanUeService ranUeService, final ItemsRefresher refresher,
+            ObjectMapper objectMapper, OnEventActionBus onEventActionBus) {
         this.ranCellService = ranCellService;
+        this.ranUeService = ranUeService;
         this.refresher = refresher;
+        this.objectMapper = objectMapper;
+        this.onEventActionBus = onEventActionBus;
     }
 
     @GetMapping
@@ -41,10 +58,29 @@ public class RanController {
         return ResponseEntity.ok(ranCellService.getTopology());
     }
 
+    @ApiOperation("Stream of the topology as newline delimited JSON, all cells first and then all UEs")
+    @GetMapping(produces = NdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamRan(
+            @ApiParam(value = "Comma separated fields, all if not set") final @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                ranCellService.forEachCell(null, null, selection, cell -> writer.write("cell", cell));
+                ranUeService.forEachUserEquipment(null, null, selection, ue -> writer.write("userEquipment", ue));
+            }
+        });
+    }
+
     @GetMapping(value = "/refresh")
     public ResponseEntity<Void> refreshRan() {
         refresher.refresh();
         log.info("Refreshed the items on request");
         return ResponseEntity.ok().build();
     }
+
+    @ApiOperation("Queue length, handled and dropped events and lag of every asynchronous event action")
+    @GetMapping(value = "/eventActions")
+    public ResponseEntity<List<ActionStats>> getEventActionStats() {
+        return ResponseEntity.ok(onEventActionBus.getStats());
+    }
 }
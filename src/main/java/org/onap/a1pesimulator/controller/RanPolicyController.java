@@ -13,21 +13,57 @@
 
 package org.onap.a1pesimulator.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.onap.a1pesimulator.data.PolicyBulkNotification;
+import org.onap.a1pesimulator.data.PolicyBulkResult;
+import org.onap.a1pesimulator.data.PolicyNotificationActionEnum;
 import org.onap.a1pesimulator.service.a1.A1Service;
+import org.onap.a1pesimulator.service.a1.PolicyActionDispatcher;
+import org.onap.a1pesimulator.service.a1.PolicyBulkReader;
+import org.onap.a1pesimulator.service.a1.PolicyInstance;
+import org.onap.a1pesimulator.service.a1.PolicyInstancesHolder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 
 @Controller
 public class RanPolicyController {
 
+    private static final String TOPIC_POLICY = "/topic/policy";
+    private static final String MISSING_POLICY_ID_OR_BODY = "policyId and body are required";
+
     private final A1Service a1Service;
+    private final PolicyInstancesHolder policyHolder;
+    private final PolicyActionDispatcher policyActionDispatcher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper mapper;
+    private final int chunkSize;
 
-    public RanPolicyController(A1Service a1Service) {
+    public RanPolicyController(A1Service a1Service, PolicyInstancesHolder policyHolder,
+            PolicyActionDispatcher policyActionDispatcher, SimpMessagingTemplate messagingTemplate,
+            ObjectMapper mapper, @Value("${policy.bulk.chunk.size}") int chunkSize) {
         this.a1Service = a1Service;
+        this.policyHolder = policyHolder;
+        this.policyActionDispatcher = policyActionDispatcher;
+        this.messagingTemplate = messagingTemplate;
+        this.mapper = mapper;
+        this.chunkSize = Math.max(1, chunkSize);
     }
 
     /**
@@ -42,4 +78,113 @@ public class RanPolicyController {
             throws IOException, URISyntaxException {
         return a1Service.getAllPoliciesForType(policyTypeId);
     }
+
+    /**
+     * Latency of validating policy instances against the schema of the given policy type
+     *
+     * @return number of validations with average and maximum latency
+     */
+    @GetMapping(value = "${restapi.version}/ran/policies/{policyTypeId}/validationStats",
+            produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<String> getValidationStats(@PathVariable Integer policyTypeId) {
+        return ResponseEntity.ok(a1Service.getValidationLatencyStats(policyTypeId));
+    }
+
+    /**
+     * Method for creating or updating many policies of given policy type in one go. Body is a JSON array or newline
+     * delimited JSON of {"policyId": "...", "body": {...}} items. Items are stored and their policy actions are run
+     * chunk by chunk while the body is read, one notification is sent for the whole request. A malformed item fails
+     * the request, the items before it stay stored.
+     *
+     * @return status per policy
+     */
+    @PostMapping(value = "${restapi.version}/ran/policies/{policyTypeId}")
+    public ResponseEntity<Object> putPolicies(@PathVariable Integer policyTypeId, InputStream body) {
+        List<PolicyBulkResult> results = new ArrayList<>();
+        List<String> created = new ArrayList<>();
+        try {
+            PolicyBulkReader.readPolicies(mapper, body, chunkSize,
+                    items -> results.addAll(putPolicies(policyTypeId, items, created)));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(getParseError(e, results.size()));
+        } finally {
+            notify(policyTypeId, PolicyNotificationActionEnum.CREATED, created);
+        }
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Method for deleting many policies of given policy type in one go. Body is a JSON array or newline delimited
+     * JSON of policy ids. Policies are deleted chunk by chunk while the body is read, a malformed item fails the
+     * request and the policies before it stay deleted.
+     *
+     * @return status per policy
+     */
+    @DeleteMapping(value = "${restapi.version}/ran/policies/{policyTypeId}")
+    public ResponseEntity<Object> deletePolicies(@PathVariable Integer policyTypeId, InputStream body) {
+        List<PolicyBulkResult> results = new ArrayList<>();
+        List<String> deleted = new ArrayList<>();
+        try {
+            PolicyBulkReader.readPolicyIds(mapper, body, chunkSize,
+                    policyIds -> results.addAll(deletePolicies(policyTypeId, policyIds, deleted)));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(getParseError(e, results.size()));
+        } finally {
+            notify(policyTypeId, PolicyNotificationActionEnum.DELETED, deleted);
+        }
+        return ResponseEntity.ok(results);
+    }
+
+    private List<PolicyBulkResult> putPolicies(Integer policyTypeId, List<PolicyBulkReader.Item> items,
+            List<String> created) {
+        Map<String, String> policies = new LinkedHashMap<>();
+        items.stream().filter(item -> item.getPolicyId() != null && item.getBody() != null)
+                .forEach(item -> policies.put(item.getPolicyId(), item.getBody()));
+        Map<String, HttpStatus> statuses = a1Service.putPolicies(policyTypeId, policies);
+
+        List<PolicyInstance> accepted = new ArrayList<>();
+        policies.forEach((policyId, policy) -> {
+            if (statuses.get(policyId).is2xxSuccessful()) {
+                accepted.add(new PolicyInstance(policyTypeId, policyId, policy));
+            }
+        });
+        accepted.forEach(policyHolder::addPolicy);
+        policyActionDispatcher.dispatchAll(accepted);
+        accepted.forEach(policy -> created.add(policy.getPolicyId()));
+
+        return items.stream().map(item -> toResult(item.getPolicyId(),
+                item.getBody() == null ? null : statuses.get(item.getPolicyId()))).collect(Collectors.toList());
+    }
+
+    private List<PolicyBulkResult> deletePolicies(Integer policyTypeId, List<String> policyIds,
+            List<String> deleted) {
+        List<String> validIds = policyIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<String, HttpStatus> statuses = a1Service.deletePolicies(policyTypeId, validIds);
+
+        validIds.stream().filter(id -> statuses.get(id).is2xxSuccessful()).forEach(id -> {
+            policyHolder.removePolicy(id);
+            deleted.add(id);
+        });
+
+        return policyIds.stream().map(id -> toResult(id, id == null ? null : statuses.get(id)))
+                       .collect(Collectors.toList());
+    }
+
+    private void notify(Integer policyTypeId, PolicyNotificationActionEnum action, List<String> policyIds) {
+        if (!policyIds.isEmpty()) {
+            messagingTemplate.convertAndSend(TOPIC_POLICY, new PolicyBulkNotification(policyTypeId, action, policyIds));
+        }
+    }
+
+    private static String getParseError(IOException e, int processedCount) {
+        return "Cannot parse bulk policy request, " + processedCount + " items before the error were processed: "
+                       + e.getMessage();
+    }
+
+    private static PolicyBulkResult toResult(String policyId, HttpStatus status) {
+        if (policyId == null || status == null) {
+            return new PolicyBulkResult(policyId, HttpStatus.BAD_REQUEST.value(), MISSING_POLICY_ID_OR_BODY);
+        }
+        return new PolicyBulkResult(policyId, status.value());
+    }
 }
@@ -13,7 +13,15 @@
 
 package org.onap.a1pesimulator.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import org.onap.a1pesimulator.data.EntityPage;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.ue.RanUserEquipment;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
 import org.onap.a1pesimulator.service.ue.RanUeService;
@@ -21,16 +29,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping({"${restapi.version}/ran/ues"})
 public class RanUeController {
 
     private final RanUeService ranUeService;
+    private final ObjectMapper objectMapper;
 
-    public RanUeController(RanUeService ranUeService) {
+    public RanUeController(RanUeService ranUeService, ObjectMapper objectMapper) {
         this.ranUeService = ranUeService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -38,6 +50,33 @@ public class RanUeController {
         return ResponseEntity.ok(ranUeService.getUes());
     }
 
+    @ApiOperation("Page of UEs ordered by id, cells in range are computed only if the field is selected")
+    @GetMapping(params = "limit")
+    public ResponseEntity<EntityPage<Map<String, Object>>> getUesPage(
+            @ApiParam(value = "Id of the last UE of the previous page") final @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Maximal number of UEs", example = "1000") final @RequestParam int limit,
+            @ApiParam(value = "Comma separated fields, all if not set") final @RequestParam(required = false) String fields) {
+        if (limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        List<Map<String, Object>> ues = new ArrayList<>(limit);
+        String nextCursor = ranUeService.forEachUserEquipment(cursor, limit, FieldSelection.parse(fields), ues::add);
+        return ResponseEntity.ok(new EntityPage<>(ues, nextCursor));
+    }
+
+    @ApiOperation("Stream of UEs ordered by id as newline delimited JSON")
+    @GetMapping(produces = NdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamUes(
+            @ApiParam(value = "Id of the last UE already received") final @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Comma separated fields, all if not set") final @RequestParam(required = false) String fields) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        return ResponseEntity.ok().contentType(NdjsonWriter.APPLICATION_NDJSON).body(out -> {
+            try (NdjsonWriter writer = new NdjsonWriter(objectMapper, out)) {
+                ranUeService.forEachUserEquipment(cursor, null, selection, writer::write);
+            }
+        });
+    }
+
     @GetMapping(value = "/{identifier}")
     public ResponseEntity<UserEquipment> getUeById(final @PathVariable String identifier) {
 
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.data;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Fields of topology entities requested by a client. Expensive fields, like connected UEs of a cell, are computed only
+ * when selected.
+ */
+public class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * @param fields comma separated field names, all fields are selected if null or blank
+     */
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new FieldSelection(Arrays.stream(fields.split(",")).map(String::trim).filter(field -> !field.isEmpty())
+                                          .collect(Collectors.toSet()));
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.data;
+
+import java.util.Collection;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * One notification for all policy instances created or deleted by a bulk request
+ */
+@Data
+@AllArgsConstructor
+public class PolicyBulkNotification {
+
+    private Integer typeId;
+    private PolicyNotificationActionEnum action;
+    private Collection<String> ids;
+}
@@ -13,6 +13,7 @@
 
 package org.onap.a1pesimulator.data;
 
+import java.util.Date;
 import org.onap.a1pesimulator.data.ves.VesEvent;
 
 import lombok.Builder;
@@ -29,4 +30,5 @@ public class RequestParameters {
     VesEvent vesEvent;
     Integer interval;
     ReportingMethodEnum reportingMethod;
+    Date startTime;
 }
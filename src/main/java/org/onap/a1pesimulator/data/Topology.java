@@ -29,4 +29,6 @@ public class Topology {
 
     Collection<CellDetails> cells;
     Collection<UserEquipment> userEquipments;
+    long cellTopologyVersion;
+    long ueTopologyVersion;
 }
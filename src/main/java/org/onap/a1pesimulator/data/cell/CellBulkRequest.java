@@ -0,0 +1,42 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.data.cell;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+
+/**
+ * Selects cells for a bulk operation. Explicit cell ids take precedence over "all", prefix and state narrow down
+ * either of them. A request selecting nothing affects no cell.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CellBulkRequest {
+
+    private List<String> cellIds;
+    private boolean all;
+    private String prefix;
+    private CellStateEnum state;
+    /**
+     * Event sent by started cells, the global PM VES structure if not set
+     */
+    private VesEvent vesEvent;
+}
@@ -16,39 +16,124 @@ package org.onap.a1pesimulator.data.cell;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.Collection;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.cell.state.CellStateMachine;
 import org.onap.a1pesimulator.data.cell.state.machine.InactiveState;
 
+/**
+ * Cell with its state. State transitions are compare-and-set on the state handler, so concurrent transitions of the
+ * same cell never get lost and exactly one of competing callers succeeds.
+ */
 @Getter
-@Builder
+@FieldNameConstants
 public class CellDetails {
 
-    private String id;
-    private Double latitude;
-    private Double longitude;
+    private final String id;
+    private final Double latitude;
+    private final Double longitude;
+
+    @FieldNameConstants.Exclude
+    private final AtomicReference<CellStateMachine> cellStateMachine;
+
+    private final Collection<String> connectedUserEquipments;
+
+    @Builder
+    private CellDetails(String id, Double latitude, Double longitude, Collection<String> connectedUserEquipments) {
+        this(id, latitude, longitude, new AtomicReference<>(InactiveState.INSTANCE), connectedUserEquipments);
+    }
+
+    private CellDetails(String id, Double latitude, Double longitude,
+            AtomicReference<CellStateMachine> cellStateMachine, Collection<String> connectedUserEquipments) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.cellStateMachine = cellStateMachine;
+        this.connectedUserEquipments = connectedUserEquipments;
+    }
+
+    /**
+     * Copy of the cell at another position. The copy shares the state with this cell, transitions made on either of
+     * them are visible on both.
+     */
+    public CellDetails withPosition(Double latitude, Double longitude) {
+        return new CellDetails(id, latitude, longitude, cellStateMachine, connectedUserEquipments);
+    }
+
+    /**
+     * Copy of the cell with other connected UEs, sharing the state with this cell like {@link #withPosition}
+     */
+    public CellDetails withConnectedUserEquipments(Collection<String> connectedUserEquipments) {
+        return new CellDetails(id, latitude, longitude, cellStateMachine, connectedUserEquipments);
+    }
 
-    @Setter
     @JsonIgnore
-    @Builder.Default
-    private CellStateMachine cellStateMachine = new InactiveState();
+    public CellStateMachine getCellStateMachine() {
+        return cellStateMachine.get();
+    }
 
-    @Setter
-    private Collection<String> connectedUserEquipments;
+    public void setCellStateMachine(CellStateMachine state) {
+        cellStateMachine.set(state);
+    }
 
-    public void previousState() {
-        cellStateMachine.prev(this);
+    /**
+     * Moves the cell to the previous state, returns false if there is no previous state
+     */
+    public boolean previousState() {
+        CellStateMachine current;
+        CellStateMachine previous;
+        do {
+            current = cellStateMachine.get();
+            previous = current.prev();
+            if (previous == null) {
+                return false;
+            }
+        } while (!cellStateMachine.compareAndSet(current, previous));
+        return true;
     }
 
-    public void nextState() {
-        cellStateMachine.next(this);
+    /**
+     * Moves the cell to the next state, returns false if there is no next state
+     */
+    public boolean nextState() {
+        CellStateMachine current;
+        CellStateMachine next;
+        do {
+            current = cellStateMachine.get();
+            next = current.next();
+            if (next == null) {
+                return false;
+            }
+        } while (!cellStateMachine.compareAndSet(current, next));
+        return true;
     }
 
-    @JsonProperty("currentState")
+    /**
+     * Moves the cell to the next state only if it is in the expected state, returns false if the cell is in another
+     * state or another caller moved it first
+     */
+    public boolean nextState(CellStateEnum expected) {
+        CellStateMachine current = cellStateMachine.get();
+        if (current.getState() != expected) {
+            return false;
+        }
+        CellStateMachine next = current.next();
+        return next != null && cellStateMachine.compareAndSet(current, next);
+    }
+
+    @JsonProperty(Fields.currentState)
     public CellStateEnum getCurrentState() {
-        return cellStateMachine.getState();
+        return cellStateMachine.get().getState();
+    }
+
+    /**
+     * Names of the JSON properties of a cell, the state is not a field but still a property
+     */
+    public static final class Fields {
+
+        public static final String currentState = "currentState";
     }
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.data.cell;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+
+@Getter
+@AllArgsConstructor
+public class CellStatusNotification {
+
+    private String id;
+    private CellStateEnum currentState;
+
+    public static CellStatusNotification of(CellDetails cell) {
+        return new CellStatusNotification(cell.getId(), cell.getCurrentState());
+    }
+}
@@ -13,19 +13,26 @@
 
 package org.onap.a1pesimulator.data.cell.state;
 
-import org.onap.a1pesimulator.data.cell.CellDetails;
-
+/**
+ * Stateless handler of one cell state, handlers are singletons shared by all cells
+ */
 public abstract class CellStateMachine {
 
-    private CellStateEnum state;
+    private final CellStateEnum state;
 
     protected CellStateMachine(CellStateEnum state) {
         this.state = state;
     }
 
-    public abstract void next(CellDetails cell);
+    /**
+     * Handler of the next state or null if there is no next state
+     */
+    public abstract CellStateMachine next();
 
-    public abstract void prev(CellDetails cell);
+    /**
+     * Handler of the previous state or null if there is no previous state
+     */
+    public abstract CellStateMachine prev();
 
     public CellStateEnum getState() {
         return state;
@@ -13,23 +13,24 @@
 
 package org.onap.a1pesimulator.data.cell.state.machine;
 
-import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.cell.state.CellStateMachine;
 
 public class ActiveState extends CellStateMachine {
 
-    public ActiveState() {
+    public static final ActiveState INSTANCE = new ActiveState();
+
+    private ActiveState() {
         super(CellStateEnum.ACTIVE);
     }
 
     @Override
-    public void next(CellDetails cell) {
-        cell.setCellStateMachine(new GoingToSleepingState());
+    public CellStateMachine next() {
+        return GoingToSleepingState.INSTANCE;
     }
 
     @Override
-    public void prev(CellDetails cell) {
-        cell.setCellStateMachine(new InactiveState());
+    public CellStateMachine prev() {
+        return InactiveState.INSTANCE;
     }
 }
@@ -13,23 +13,24 @@
 
 package org.onap.a1pesimulator.data.cell.state.machine;
 
-import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.cell.state.CellStateMachine;
 
 public class GoingToSleepingState extends CellStateMachine {
 
-    public GoingToSleepingState() {
+    public static final GoingToSleepingState INSTANCE = new GoingToSleepingState();
+
+    private GoingToSleepingState() {
         super(CellStateEnum.GOING_TO_SLEEP);
     }
 
     @Override
-    public void next(CellDetails cell) {
-        cell.setCellStateMachine(new SleepingState());
+    public CellStateMachine next() {
+        return SleepingState.INSTANCE;
     }
 
     @Override
-    public void prev(CellDetails cell) {
-        cell.setCellStateMachine(new InactiveState());
+    public CellStateMachine prev() {
+        return InactiveState.INSTANCE;
     }
 }
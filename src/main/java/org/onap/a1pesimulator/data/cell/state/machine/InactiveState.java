@@ -13,27 +13,24 @@
 
 package org.onap.a1pesimulator.data.cell.state.machine;
 
-import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.cell.state.CellStateMachine;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class InactiveState extends CellStateMachine {
 
-    private static final Logger log = LoggerFactory.getLogger(InactiveState.class);
+    public static final InactiveState INSTANCE = new InactiveState();
 
-    public InactiveState() {
+    private InactiveState() {
         super(CellStateEnum.INACTIVE);
     }
 
     @Override
-    public void next(CellDetails cell) {
-        cell.setCellStateMachine(new ActiveState());
+    public CellStateMachine next() {
+        return ActiveState.INSTANCE;
     }
 
     @Override
-    public void prev(CellDetails cell) {
-        log.info("YOU ARE IN THE INACTIVE STATE, PREVIOUS STATE ISN'T AVAILABLE");
+    public CellStateMachine prev() {
+        return null;
     }
 }
@@ -13,27 +13,24 @@
 
 package org.onap.a1pesimulator.data.cell.state.machine;
 
-import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.cell.state.CellStateMachine;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 public class SleepingState extends CellStateMachine {
 
-    private static final Logger log = LoggerFactory.getLogger(SleepingState.class);
+    public static final SleepingState INSTANCE = new SleepingState();
 
-    public SleepingState() {
+    private SleepingState() {
         super(CellStateEnum.SLEEPING);
     }
 
     @Override
-    public void next(CellDetails cell) {
-        log.info("YOU ARE IN THE SLEEPING STATE, NEXT STATE ISN'T AVAILABLE");
+    public CellStateMachine next() {
+        return null;
     }
 
     @Override
-    public void prev(CellDetails cell) {
-        cell.setCellStateMachine(new InactiveState());
+    public CellStateMachine prev() {
+        return InactiveState.INSTANCE;
     }
 }
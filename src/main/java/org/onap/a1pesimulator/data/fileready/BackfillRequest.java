@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.data.fileready;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+
+/**
+ * Historical PM Bulk Files to generate. One file is written for every selected cell and every reporting period
+ * which ends within the time range.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BackfillRequest {
+
+    private Instant start;
+    private Instant end;
+    /**
+     * Cells to generate files for, all cells if not set
+     */
+    private List<String> cellIds;
+    /**
+     * Event template, the global PM VES structure if not set
+     */
+    private VesEvent vesEvent;
+    /**
+     * Granularity period in seconds, the global VES interval if not set
+     */
+    private Integer granPeriod;
+    private long seed;
+    private BackfillOutput output;
+
+    public enum BackfillOutput {
+        /**
+         * Files are written as they are into xml.pm.location
+         */
+        LOCATION,
+        /**
+         * Files go through the regular pipeline: compression, upload and file ready event
+         */
+        UPLOAD
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.data.fileready;
+
+import java.time.Instant;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Progress of a backfill job
+ */
+@Getter
+@Builder
+public class BackfillStatus {
+
+    private final String id;
+    private final BackfillState state;
+    private final Instant start;
+    private final Instant end;
+    private final int cells;
+    private final int reportingPeriods;
+    private final long totalFiles;
+    private final long writtenFiles;
+    private final long failedFiles;
+    private final long elapsedMillis;
+    private final double filesPerSecond;
+    private final String error;
+    private final String lastFailure;
+
+    public enum BackfillState {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+}
@@ -15,9 +15,13 @@ package org.onap.a1pesimulator.data.ue;
 
 import java.util.Collection;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
+import lombok.experimental.FieldNameConstants;
 
 @Getter
+@NoArgsConstructor
+@FieldNameConstants
 public class UserEquipment {
 
     private String id;
@@ -28,4 +32,10 @@ public class UserEquipment {
     @Setter
     private Collection<String> cellsInRange;
 
+    public UserEquipment(String id, Double latitude, Double longitude, String cellId) {
+        this.id = id;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.cellId = cellId;
+    }
 }
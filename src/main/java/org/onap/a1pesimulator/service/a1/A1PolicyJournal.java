@@ -0,0 +1,467 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Optional persistence of A1 policy schemas and instances. Every change is appended as one JSON line to the
+ * journal, after the configured number of appends the whole state is written to a snapshot in the background and
+ * the journaled changes it covers are cut off the journal. On startup the snapshot is loaded and the journal is
+ * replayed over it.
+ *
+ * <p>The snapshot is a length prefixed binary file, so policy bodies are loaded without any JSON parsing. Replay is
+ * idempotent, a crash between writing the snapshot and truncating the journal recovers the same state.
+ */
+@Service
+public class A1PolicyJournal implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(A1PolicyJournal.class);
+
+    static final String JOURNAL_FILE = "a1-policies.journal";
+    static final String SNAPSHOT_FILE = "a1-policies.snapshot";
+
+    private static final int SNAPSHOT_MAGIC = 0x41315053; // "A1PS"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_BACKOFF_SHIFT = 6;
+
+    private final boolean enabled;
+    private final Path journalFile;
+    private final Path snapshotFile;
+    private final int compactionThreshold;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ObjectReader entryReader = mapper.readerFor(JournalEntry.class);
+    private final ObjectWriter entryWriter = mapper.writerFor(JournalEntry.class);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "a1-journal-compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Supplier<A1PolicyState> stateSupplier;
+    private BufferedWriter writer;
+    private int appendsSinceSnapshot;
+    // compaction starts once appendsSinceSnapshot reaches this, it grows after every failed compaction
+    private int compactionDue;
+    private int compactionFailures;
+    private boolean compacting;
+
+    private long appendCount;
+    private long appendNanos;
+    private long maxAppendNanos;
+
+    public A1PolicyJournal(@Value("${a1.persistence.enabled}") boolean enabled,
+            @Value("${a1.persistence.directory}") String directory,
+            @Value("${a1.persistence.compaction.threshold}") int compactionThreshold) {
+        this.enabled = enabled;
+        this.journalFile = Paths.get(directory, JOURNAL_FILE);
+        this.snapshotFile = Paths.get(directory, SNAPSHOT_FILE);
+        this.compactionThreshold = compactionThreshold;
+        this.compactionDue = compactionThreshold;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Source of the complete current state, used when the journal is compacted into a snapshot
+     */
+    public void setStateSupplier(Supplier<A1PolicyState> stateSupplier) {
+        this.stateSupplier = stateSupplier;
+    }
+
+    /**
+     * Loads the snapshot and replays the journal over it, then opens the journal for appending
+     */
+    public synchronized A1PolicyState recover() {
+        if (!enabled) {
+            return new A1PolicyState();
+        }
+        try {
+            Files.createDirectories(journalFile.getParent());
+            A1PolicyState state = Files.exists(snapshotFile) ? readSnapshot() : new A1PolicyState();
+            long completeLength = replay(state);
+            truncate(completeLength);
+            writer = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+            return state;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot recover A1 policies from " + journalFile.getParent(), e);
+        }
+    }
+
+    /**
+     * Journals the change and applies it. With persistence enabled changes are serialized, so the journal order is
+     * the order in which the changes were applied and a snapshot never misses a journaled change. A change which
+     * cannot be journaled is not applied.
+     */
+    public void putSchema(Integer policyTypeId, String body, Runnable change) {
+        record(new JournalEntry(Operation.PUT_SCHEMA, policyTypeId, null, body), change);
+    }
+
+    public void putPolicy(Integer policyTypeId, String policyId, String body, Runnable change) {
+        record(new JournalEntry(Operation.PUT_POLICY, policyTypeId, policyId, body), change);
+    }
+
+    public void deletePolicy(Integer policyTypeId, String policyId, Runnable change) {
+        record(new JournalEntry(Operation.DELETE_POLICY, policyTypeId, policyId, null), change);
+    }
+
+    @Override
+    public void destroy() {
+        compactor.shutdownNow();
+    }
+
+    /**
+     * Average and maximum journal write latency in microseconds
+     */
+    public synchronized String getWriteLatencyStats() {
+        long average = appendCount == 0 ? 0 : appendNanos / appendCount / 1000;
+        return String.format("%d writes, avg %d us, max %d us", appendCount, average, maxAppendNanos / 1000);
+    }
+
+    private void record(JournalEntry entry, Runnable change) {
+        if (!enabled) {
+            change.run();
+            return;
+        }
+        synchronized (this) {
+            if (writer == null) {
+                change.run();
+                return;
+            }
+            append(entry);
+            change.run();
+            if (++appendsSinceSnapshot >= compactionDue && !compacting && stateSupplier != null) {
+                startCompaction();
+            }
+        }
+    }
+
+    /**
+     * Waits until the compaction started so far is finished
+     *
+     * @return false if the timeout elapsed first
+     */
+    boolean awaitCompaction(long timeout, TimeUnit unit) throws InterruptedException {
+        try {
+            compactor.submit(() -> {}).get(timeout, unit);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        }
+    }
+
+    private void append(JournalEntry entry) {
+        long start = System.nanoTime();
+        try {
+            writer.write(entryWriter.writeValueAsString(entry));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write A1 policy journal " + journalFile, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        appendCount++;
+        appendNanos += elapsed;
+        maxAppendNanos = Math.max(maxAppendNanos, elapsed);
+    }
+
+    /**
+     * Copies the current state and hands it to the compactor. Callers hold the journal lock, so the copy contains
+     * exactly the changes journaled so far.
+     */
+    private void startCompaction() {
+        long journalLength;
+        try {
+            journalLength = Files.size(journalFile);
+        } catch (IOException e) {
+            compactionFailed(e);
+            return;
+        }
+        A1PolicyState state = stateSupplier.get().copy();
+        int appends = appendsSinceSnapshot;
+        compacting = true;
+        compactor.execute(() -> compact(state, journalLength, appends));
+    }
+
+    /**
+     * Writes the state to a new snapshot, then cuts the journal entries it covers off the journal
+     */
+    private void compact(A1PolicyState state, long journalLength, int appends) {
+        long start = System.nanoTime();
+        try {
+            writeSnapshotFile(state);
+        } catch (IOException e) {
+            synchronized (this) {
+                compactionFailed(e);
+            }
+            return;
+        }
+        synchronized (this) {
+            try {
+                dropJournalHead(journalLength);
+                appendsSinceSnapshot -= appends;
+                compactionDue = compactionThreshold;
+                compactionFailures = 0;
+                compacting = false;
+            } catch (IOException e) {
+                // the snapshot is in place, replaying the whole journal over it recovers the same state
+                compactionFailed(e);
+                return;
+            }
+        }
+        log.info("A1 policy journal compacted in {} ms, {}", (System.nanoTime() - start) / 1_000_000,
+                getWriteLatencyStats());
+    }
+
+    private void writeSnapshotFile(A1PolicyState state) throws IOException {
+        Path tmpFile = snapshotFile.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+            writeSnapshot(out, state);
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(tmpFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Replaces the journal by the entries appended after its first bytes, called under the journal lock
+     */
+    private void dropJournalHead(long length) throws IOException {
+        Path tmpFile = journalFile.resolveSibling(JOURNAL_FILE + ".tmp");
+        try (FileChannel in = FileChannel.open(journalFile, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(tmpFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = length;
+            while (position < in.size()) {
+                position += in.transferTo(position, in.size() - position, out);
+            }
+            out.force(true);
+        }
+        writer.close();
+        try {
+            Files.move(tmpFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND);
+        }
+    }
+
+    /**
+     * Keeps the journal as it is and postpones the next compaction, each failure in a row doubles the delay
+     */
+    private void compactionFailed(IOException e) {
+        compactionFailures++;
+        int backoff = compactionThreshold << Math.min(compactionFailures, MAX_BACKOFF_SHIFT);
+        compactionDue = appendsSinceSnapshot + backoff;
+        compacting = false;
+        log.error("Cannot compact A1 policy journal {}, next attempt after {} changes", journalFile,
+                compactionDue - appendsSinceSnapshot, e);
+    }
+
+    private static void writeSnapshot(DataOutputStream out, A1PolicyState state) throws IOException {
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        // the state is a copy, so map sizes match the written entries
+        out.writeInt(state.getSchemas().size());
+        for (Map.Entry<Integer, String> schema : state.getSchemas().entrySet()) {
+            out.writeInt(schema.getKey());
+            writeString(out, schema.getValue());
+        }
+        out.writeInt(state.getPolicies().size());
+        for (Map.Entry<Integer, Map<String, String>> policies : state.getPolicies().entrySet()) {
+            out.writeInt(policies.getKey());
+            out.writeInt(policies.getValue().size());
+            for (Map.Entry<String, String> policy : policies.getValue().entrySet()) {
+                writeString(out, policy.getKey());
+                writeString(out, policy.getValue());
+            }
+        }
+    }
+
+    private A1PolicyState readSnapshot() throws IOException {
+        A1PolicyState state = new A1PolicyState();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(snapshotFile), BUFFER_SIZE))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported A1 policy snapshot format: " + snapshotFile);
+            }
+            int schemaCount = in.readInt();
+            for (int i = 0; i < schemaCount; i++) {
+                state.getSchemas().put(in.readInt(), readString(in));
+            }
+            int policyTypeCount = in.readInt();
+            for (int i = 0; i < policyTypeCount; i++) {
+                int policyTypeId = in.readInt();
+                int policyCount = in.readInt();
+                Map<String, String> policies = new ConcurrentHashMap<>(policyCount * 4 / 3 + 1);
+                for (int j = 0; j < policyCount; j++) {
+                    policies.put(readString(in), readString(in));
+                }
+                state.getPolicies().put(policyTypeId, policies);
+            }
+        }
+        return state;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Replays complete journal lines over the state. A line without its line break was not acknowledged, it is
+     * left when the simulator stopped in the middle of a write.
+     *
+     * @return length of the journal up to the end of the last complete line
+     */
+    private long replay(A1PolicyState state) throws IOException {
+        appendsSinceSnapshot = 0;
+        compactionDue = compactionThreshold;
+        if (!Files.exists(journalFile)) {
+            return 0;
+        }
+        long offset = 0;
+        long completeLength = 0;
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(journalFile), BUFFER_SIZE)) {
+            int next;
+            while ((next = in.read()) != -1) {
+                offset++;
+                if (next != '\n') {
+                    line.write(next);
+                    continue;
+                }
+                completeLength = offset;
+                replayLine(state, line.toString(StandardCharsets.UTF_8).trim());
+                line.reset();
+            }
+        }
+        if (line.size() > 0) {
+            log.warn("Dropping incomplete A1 policy journal entry: {}", line.toString(StandardCharsets.UTF_8));
+        }
+        return completeLength;
+    }
+
+    private void replayLine(A1PolicyState state, String line) {
+        if (line.isEmpty()) {
+            return;
+        }
+        try {
+            apply(state, entryReader.readValue(line));
+            appendsSinceSnapshot++;
+        } catch (JsonProcessingException e) {
+            log.warn("Skipping unreadable A1 policy journal entry: {}", line);
+        }
+    }
+
+    /**
+     * Cuts off an incomplete last entry, so the next append starts on a new line
+     */
+    private void truncate(long completeLength) throws IOException {
+        if (!Files.exists(journalFile)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            if (channel.size() > completeLength) {
+                channel.truncate(completeLength);
+                channel.force(true);
+            }
+        }
+    }
+
+    private static void apply(A1PolicyState state, JournalEntry entry) {
+        switch (entry.getOperation()) {
+            case PUT_SCHEMA:
+                state.getSchemas().put(entry.getPolicyTypeId(), entry.getBody());
+                break;
+            case PUT_POLICY:
+                state.getPolicies().computeIfAbsent(entry.getPolicyTypeId(), id -> new ConcurrentHashMap<>())
+                        .put(entry.getPolicyId(), entry.getBody());
+                break;
+            case DELETE_POLICY:
+                Map<String, String> policies = state.getPolicies().get(entry.getPolicyTypeId());
+                if (policies != null) {
+                    policies.remove(entry.getPolicyId());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    enum Operation {
+        PUT_SCHEMA, PUT_POLICY, DELETE_POLICY
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class JournalEntry {
+
+        private Operation operation;
+        private Integer policyTypeId;
+        private String policyId;
+        private String body;
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Restores persisted A1 policies into the policy store and the policy instances holder on startup. Policy actions
+ * are not triggered again, their effect is part of the simulated RAN state already.
+ */
+@Component
+public class A1PolicyRecovery {
+
+    private static final Logger log = LoggerFactory.getLogger(A1PolicyRecovery.class);
+
+    public A1PolicyRecovery(A1PolicyJournal journal, RanA1ServiceLocalStoreImpl a1Service,
+            PolicyInstancesHolder policyHolder) {
+        if (!journal.isEnabled()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        A1PolicyState state = journal.recover();
+        a1Service.restore(state);
+        state.getPolicies().values().forEach(policies -> policies.forEach(policyHolder::addPolicy));
+        log.info("Recovered {} policy types and {} policies in {} ms", state.getSchemas().size(),
+                state.getPolicyCount(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+
+/**
+ * Policy schemas and policy instances of all policy types, as stored in the snapshot of {@link A1PolicyJournal}
+ */
+@Getter
+public class A1PolicyState {
+
+    private final Map<Integer, String> schemas;
+    private final Map<Integer, Map<String, String>> policies;
+
+    public A1PolicyState() {
+        this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    public A1PolicyState(Map<Integer, String> schemas, Map<Integer, Map<String, String>> policies) {
+        this.schemas = schemas;
+        this.policies = policies;
+    }
+
+    /**
+     * Copy which is not affected by later changes of this state
+     */
+    public A1PolicyState copy() {
+        Map<Integer, Map<String, String>> policiesCopy = new HashMap<>();
+        policies.forEach((policyTypeId, policiesOfType) -> policiesCopy.put(policyTypeId,
+                new HashMap<>(policiesOfType)));
+        return new A1PolicyState(new HashMap<>(schemas), policiesCopy);
+    }
+
+    public int getPolicyCount() {
+        return policies.values().stream().mapToInt(Map::size).sum();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Serialized A1 GET responses kept per key until the data behind the key changes. Every response carries an ETag
+ * computed from the body, so pollers sending If-None-Match get 304 without the body.
+ *
+ * <p>Writers have to call {@link #invalidate(String)} after the data is changed. A response serialized concurrently
+ * with a change is cached under the old version and is therefore never served after the invalidation.
+ */
+class A1ResponseCache {
+
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    void invalidate(String key) {
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    ResponseEntity<String> get(String key, Supplier<String> serializer) {
+        long version = getVersion(key);
+        CachedResponse cached = responses.get(key);
+        if (cached == null || cached.version != version) {
+            cached = new CachedResponse(version, serializer.get());
+            responses.put(key, cached);
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).eTag(cached.eTag).body(cached.body);
+    }
+
+    private long getVersion(String key) {
+        AtomicLong version = versions.get(key);
+        return version == null ? 0 : version.get();
+    }
+
+    private static class CachedResponse {
+
+        private final long version;
+        private final String body;
+        private final String eTag;
+
+        CachedResponse(long version, String body) {
+            this.version = version;
+            this.body = body;
+            this.eTag = "\"" + DigestUtils.md5DigestAsHex(body.getBytes(StandardCharsets.UTF_8)) + "\"";
+        }
+    }
+}
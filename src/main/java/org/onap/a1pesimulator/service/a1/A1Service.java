@@ -15,6 +15,9 @@ package org.onap.a1pesimulator.service.a1;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestClientException;
 
@@ -28,6 +31,20 @@ public interface A1Service {
 
     ResponseEntity<String> deletePolicy(Integer policyTypeId, String policyId) throws URISyntaxException;
 
+    /**
+     * Creates or updates many policy instances of one type in one pass
+     *
+     * @return status per policy id
+     */
+    Map<String, HttpStatus> putPolicies(Integer policyTypeId, Map<String, String> policies);
+
+    /**
+     * Deletes many policy instances of one type in one pass
+     *
+     * @return status per policy id, NOT_FOUND for policies which do not exist
+     */
+    Map<String, HttpStatus> deletePolicies(Integer policyTypeId, Collection<String> policyIds);
+
     ResponseEntity<String> getPolicyTypeIds() throws RestClientException, URISyntaxException;
 
     ResponseEntity<String> getPolicyType(Integer policyTypeId) throws RestClientException, URISyntaxException;
@@ -41,4 +58,9 @@ public interface A1Service {
     ResponseEntity<String> getAllPoliciesForType(Integer policyTypeId)
             throws IOException, RestClientException, URISyntaxException;
 
+    /**
+     * Count, average and maximum latency of validating policy instances against the schema of the policy type
+     */
+    String getValidationLatencyStats(Integer policyTypeId);
+
 }
@@ -15,7 +15,19 @@ package org.onap.a1pesimulator.service.a1;
 
 public interface OnPolicyAction {
 
-    boolean isForMe(Integer policyTypeId, String policyId, String body);
+    /**
+     * Asked once per policy type when its schema is registered, policies of accepted types are passed to
+     * {@link #onPolicy(PolicyInstance)} without further checks
+     */
+    boolean acceptsPolicyType(PolicySchemaValidator policyType);
 
-    void onPolicy(Integer policyTypeId, String policyId, String body);
+    void onPolicy(PolicyInstance policy);
+
+    /**
+     * Policies with different ordering keys can be handled in parallel, policies with the same key are handled in
+     * the order they were received. Policies without key are handled one by one, in the order they were received.
+     */
+    default String getOrderingKey(PolicyInstance policy) {
+        return null;
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs {@link OnPolicyAction}s for created policy instances outside of the A1 request thread. Every worker owns a
+ * bounded queue, actions are routed to workers by their ordering key, so actions sharing a key run in the order the
+ * policies were received while actions of different keys run in parallel. A full queue blocks the caller until the
+ * worker catches up. Policies are routed to the actions bound to their policy type, the body is not looked at.
+ */
+@Service
+public class PolicyActionDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PolicyActionDispatcher.class);
+
+    private final Collection<OnPolicyAction> onPolicyActions;
+    private final Map<Integer, List<OnPolicyAction>> actionsByPolicyType = new ConcurrentHashMap<>();
+    private final List<OnPolicyAction> actionsOfTypesWithoutSchema;
+    private final List<BlockingQueue<Runnable>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+
+    public PolicyActionDispatcher(Collection<OnPolicyAction> onPolicyActions,
+            @Value("${policy.action.workers}") int workerCount,
+            @Value("${policy.action.queue.capacity}") int queueCapacity) {
+        this.onPolicyActions = onPolicyActions;
+        // policies of a type without schema are not restricted by anything
+        this.actionsOfTypesWithoutSchema = getActionsAccepting(PolicySchemaValidator.compile(null));
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            BlockingQueue<Runnable> queue = new LinkedBlockingQueue<>(queueCapacity);
+            Thread worker = new Thread(() -> work(queue), "policy-action-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            queues.add(queue);
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Binds the policy type to the actions accepting its schema, replacing an earlier binding of the same type
+     */
+    public void bindPolicyType(Integer policyTypeId, PolicySchemaValidator policyType) {
+        List<OnPolicyAction> actions = getActionsAccepting(policyType);
+        actionsByPolicyType.put(policyTypeId, actions);
+        log.info("Policies of type {} are handled by {}", policyTypeId,
+                actions.stream().map(action -> action.getClass().getSimpleName()).collect(Collectors.toList()));
+    }
+
+    public void dispatch(PolicyInstance policy) {
+        actionsByPolicyType.getOrDefault(policy.getPolicyTypeId(), actionsOfTypesWithoutSchema)
+                .forEach(action -> submit(action, policy));
+    }
+
+    /**
+     * @param policies policy instances in the order they were received
+     */
+    public void dispatchAll(Collection<PolicyInstance> policies) {
+        policies.forEach(this::dispatch);
+    }
+
+    /**
+     * Number of actions waiting for a worker
+     */
+    public int getPendingCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    /**
+     * Waits until all actions dispatched so far are finished
+     *
+     * @return false if the timeout elapsed first
+     */
+    public boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(queues.size());
+        for (BlockingQueue<Runnable> queue : queues) {
+            queue.put(latch::countDown);
+        }
+        return latch.await(timeout, unit);
+    }
+
+    @Override
+    public void destroy() {
+        workers.forEach(Thread::interrupt);
+    }
+
+    private List<OnPolicyAction> getActionsAccepting(PolicySchemaValidator policyType) {
+        return onPolicyActions.stream().filter(action -> action.acceptsPolicyType(policyType))
+                       .collect(Collectors.toList());
+    }
+
+    private void submit(OnPolicyAction action, PolicyInstance policy) {
+        String key = action.getOrderingKey(policy);
+        // actions without key share the first worker, so they stay in order as well
+        int worker = key == null ? 0 : Math.floorMod(key.hashCode(), queues.size());
+        try {
+            queues.get(worker).put(() -> runSafely(action, policy));
+        } catch (InterruptedException e) {
+            log.warn("Interrupted while dispatching policy {}", policy.getPolicyId());
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void work(BlockingQueue<Runnable> queue) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                queue.take().run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void runSafely(OnPolicyAction action, PolicyInstance policy) {
+        try {
+            action.onPolicy(policy);
+        } catch (RuntimeException e) {
+            log.error("Policy action {} failed for policy {}", action.getClass().getSimpleName(),
+                    policy.getPolicyId(), e);
+        }
+    }
+}
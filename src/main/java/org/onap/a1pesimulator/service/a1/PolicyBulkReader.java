@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Streaming reader of bulk policy requests. Accepts either a JSON array or newline delimited JSON, items are handed
+ * over in chunks of bounded size as they are parsed, so neither the raw request body nor all of its items are held
+ * in memory at once. Chunks handed over before a malformed item are not taken back.
+ *
+ * <p>Policy items look like {"policyId": "1", "body": {...}}, deleted items are plain policy ids or objects with
+ * policyId only.
+ */
+public class PolicyBulkReader {
+
+    private static final String POLICY_ID = "policyId";
+    private static final String BODY = "body";
+
+    private PolicyBulkReader() {
+    }
+
+    /**
+     * Policy instance as read from the request, policyId or body is null when the item is incomplete
+     */
+    public static class Item {
+
+        private final String policyId;
+        private final String body;
+
+        Item(String policyId, String body) {
+            this.policyId = policyId;
+            this.body = body;
+        }
+
+        public String getPolicyId() {
+            return policyId;
+        }
+
+        public String getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * @param consumer called with at most chunkSize items at a time, in the order of the request
+     */
+    public static void readPolicies(ObjectMapper mapper, InputStream in, int chunkSize, Consumer<List<Item>> consumer)
+            throws IOException {
+        read(mapper, in, chunkSize, node -> {
+            JsonNode body = node.get(BODY);
+            return new Item(getPolicyId(node), body == null || body.isNull() ? null : body.toString());
+        }, consumer);
+    }
+
+    /**
+     * @param consumer called with at most chunkSize policy ids at a time, in the order of the request
+     */
+    public static void readPolicyIds(ObjectMapper mapper, InputStream in, int chunkSize,
+            Consumer<List<String>> consumer) throws IOException {
+        read(mapper, in, chunkSize, node -> node.isTextual() ? node.asText() : getPolicyId(node), consumer);
+    }
+
+    private static <T> void read(ObjectMapper mapper, InputStream in, int chunkSize, Function<JsonNode, T> toItem,
+            Consumer<List<T>> consumer) throws IOException {
+        List<T> chunk = new ArrayList<>(chunkSize);
+        try (JsonParser parser = mapper.getFactory().createParser(in)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                chunk.add(toItem.apply(parser.readValueAsTree()));
+                if (chunk.size() >= chunkSize) {
+                    consumer.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+                token = parser.nextToken();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            consumer.accept(chunk);
+        }
+    }
+
+    private static String getPolicyId(JsonNode node) {
+        JsonNode policyId = node.get(POLICY_ID);
+        return policyId == null || policyId.isNull() ? null : policyId.asText();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.onap.a1pesimulator.util.JsonUtils.JsonUtilsException;
+
+/**
+ * Policy instance shared by everything reacting on a policy change. The body is parsed at most once per target
+ * class, no matter how many policy actions look at it.
+ */
+@Getter
+public class PolicyInstance {
+
+    private final Integer policyTypeId;
+    private final String policyId;
+    private final String body;
+    @Getter(AccessLevel.NONE)
+    private final Map<Class<?>, Optional<?>> parsedBodies = new ConcurrentHashMap<>();
+
+    public PolicyInstance(Integer policyTypeId, String policyId, String body) {
+        this.policyTypeId = policyTypeId;
+        this.policyId = policyId;
+        this.body = body;
+    }
+
+    /**
+     * Body deserialized into the given class, empty if the body does not comply with it
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getBodyAs(Class<T> clazz) {
+        return (Optional<T>) parsedBodies.computeIfAbsent(clazz, this::parse);
+    }
+
+    private Optional<?> parse(Class<?> clazz) {
+        try {
+            return Optional.ofNullable(JsonUtils.INSTANCE.deserialize(body, clazz));
+        } catch (JsonUtilsException e) {
+            return Optional.empty();
+        }
+    }
+}
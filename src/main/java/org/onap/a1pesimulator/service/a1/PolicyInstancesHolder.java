@@ -13,35 +13,81 @@
 
 package org.onap.a1pesimulator.service.a1;
 
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import org.onap.a1pesimulator.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
+/**
+ * Keeps the cells targeted by policy instances. Policy bodies are parsed once when added and cells are indexed to
+ * the policies referring to them, so checking a cell does not touch the JSON.
+ */
 @Service
 public class PolicyInstancesHolder {
 
-    Map<String, String> cellPolicyMap = new HashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(PolicyInstancesHolder.class);
+
+    private final Map<String, Set<String>> cellsByPolicyId = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> policyIdsByCell = new ConcurrentHashMap<>();
 
+    /**
+     * Adds or replaces the policy instance. Writers are serialized, so the indexes never disagree, readers are not
+     * blocked.
+     */
     public void addPolicy(String policyId, String body) {
-        cellPolicyMap.put(policyId, body);
+        addPolicy(new PolicyInstance(null, policyId, body));
+    }
+
+    public synchronized void addPolicy(PolicyInstance policy) {
+        String policyId = policy.getPolicyId();
+        unindex(policyId);
+        Set<String> cells = getCellListFromPolicyInstance(policy);
+        cellsByPolicyId.put(policyId, cells);
+        cells.forEach(cell -> policyIdsByCell.computeIfAbsent(cell, c -> ConcurrentHashMap.newKeySet()).add(policyId));
     }
 
-    public void removePolicy(String policyId) {
-        cellPolicyMap.remove(policyId);
+    public synchronized void removePolicy(String policyId) {
+        unindex(policyId);
     }
 
     public boolean containsPoliciesForCell(String cell) {
-        return cellPolicyMap.values().stream().map(this::getCellListFromPolicyInstance).flatMap(List::stream)
-                       .anyMatch(c -> c.equals(cell));
+        Set<String> policyIds = policyIdsByCell.get(cell);
+        return policyIds != null && !policyIds.isEmpty();
+    }
+
+    private void unindex(String policyId) {
+        Set<String> cells = cellsByPolicyId.remove(policyId);
+        if (cells == null) {
+            return;
+        }
+        cells.forEach(cell -> policyIdsByCell.computeIfPresent(cell, (c, policyIds) -> {
+            policyIds.remove(policyId);
+            return policyIds.isEmpty() ? null : policyIds;
+        }));
     }
 
-    private List<String> getCellListFromPolicyInstance(String policyInstance) {
-        RanUeHandoverOnPolicyAction.UeHandoverPolicy policy =
-                JsonUtils.INSTANCE.deserialize(policyInstance, RanUeHandoverOnPolicyAction.UeHandoverPolicy.class);
-        return policy.getResources().stream().flatMap(resources -> resources.getCellIdList().stream())
-                       .collect(Collectors.toList());
+    private Set<String> getCellListFromPolicyInstance(PolicyInstance policyInstance) {
+        Optional<RanUeHandoverOnPolicyAction.UeHandoverPolicy> handoverPolicy =
+                policyInstance.getBodyAs(RanUeHandoverOnPolicyAction.UeHandoverPolicy.class);
+        if (!handoverPolicy.isPresent()) {
+            log.warn("Policy {} does not contain cell resources, it will not block any cell",
+                    policyInstance.getPolicyId());
+            return Collections.emptySet();
+        }
+        RanUeHandoverOnPolicyAction.UeHandoverPolicy policy = handoverPolicy.get();
+        List<RanUeHandoverOnPolicyAction.Resources> resources = policy.getResources();
+        if (resources == null) {
+            return Collections.emptySet();
+        }
+        return resources.stream().map(RanUeHandoverOnPolicyAction.Resources::getCellIdList).filter(Objects::nonNull)
+                       .flatMap(Collection::stream).collect(Collectors.toUnmodifiableSet());
     }
 }
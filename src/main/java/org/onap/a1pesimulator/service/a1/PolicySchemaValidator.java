@@ -0,0 +1,271 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Policy body validator compiled from a JSON schema. Bodies are validated in one streaming pass without building a
+ * tree. Supported keywords are type, enum, properties, required, additionalProperties, items, minItems, maxItems,
+ * minLength, maxLength, minimum and maximum, other keywords are ignored. Immutable, so it can be shared by threads.
+ */
+public final class PolicySchemaValidator {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+    private static final PolicySchemaValidator ANY = new PolicySchemaValidator();
+
+    private final Set<String> types;
+    private final List<JsonNode> allowedValues;
+    private final Map<String, Integer> propertyIndexes = new HashMap<>();
+    private final List<PolicySchemaValidator> properties = new ArrayList<>();
+    private final BitSet required = new BitSet();
+    private final List<String> requiredNames = new ArrayList<>();
+    private final PolicySchemaValidator additionalProperties;
+    private final PolicySchemaValidator items;
+    private final long minItems;
+    private final long maxItems;
+    private final long minLength;
+    private final long maxLength;
+    private final Double minimum;
+    private final Double maximum;
+
+    private PolicySchemaValidator() {
+        types = null;
+        allowedValues = null;
+        additionalProperties = this;
+        items = this;
+        minItems = 0;
+        maxItems = Long.MAX_VALUE;
+        minLength = 0;
+        maxLength = Long.MAX_VALUE;
+        minimum = null;
+        maximum = null;
+    }
+
+    private PolicySchemaValidator(JsonNode schema) {
+        types = readTypes(schema.get("type"));
+        JsonNode enumNode = schema.get("enum");
+        allowedValues = enumNode != null && enumNode.isArray() ? toList(enumNode) : null;
+        JsonNode propertiesNode = schema.path("properties");
+        propertiesNode.fields().forEachRemaining(property -> {
+            propertyIndexes.put(property.getKey(), properties.size());
+            properties.add(compile(property.getValue()));
+        });
+        schema.path("required").forEach(name -> {
+            Integer index = propertyIndexes.get(name.asText());
+            if (index == null) {
+                // required property without own schema accepts any value, even if additional properties are not
+                // allowed
+                index = properties.size();
+                propertyIndexes.put(name.asText(), index);
+                properties.add(ANY);
+            }
+            required.set(index);
+            requiredNames.add(name.asText());
+        });
+        JsonNode additionalNode = schema.get("additionalProperties");
+        if (additionalNode == null || additionalNode.isBoolean()) {
+            additionalProperties = additionalNode == null || additionalNode.asBoolean() ? ANY : null;
+        } else {
+            additionalProperties = compile(additionalNode);
+        }
+        JsonNode itemsNode = schema.get("items");
+        items = itemsNode == null || !itemsNode.isObject() ? ANY : compile(itemsNode);
+        minItems = schema.path("minItems").asLong(0);
+        maxItems = schema.path("maxItems").asLong(Long.MAX_VALUE);
+        minLength = schema.path("minLength").asLong(0);
+        maxLength = schema.path("maxLength").asLong(Long.MAX_VALUE);
+        minimum = schema.has("minimum") ? schema.get("minimum").asDouble() : null;
+        maximum = schema.has("maximum") ? schema.get("maximum").asDouble() : null;
+    }
+
+    /**
+     * Compiles the schema, schema which is not a JSON object accepts everything
+     */
+    public static PolicySchemaValidator compile(JsonNode schema) {
+        return schema == null || !schema.isObject() ? ANY : new PolicySchemaValidator(schema);
+    }
+
+    /**
+     * Compiles create_schema of an A1 policy type definition, policy type without create_schema accepts everything
+     *
+     * @throws IOException if the policy type is not a valid JSON
+     */
+    public static PolicySchemaValidator compilePolicyType(String policyType) throws IOException {
+        return compile(MAPPER.readTree(policyType).get("create_schema"));
+    }
+
+    /**
+     * @return description of the first violation or null if the body is valid
+     */
+    public String validate(String body) {
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            if (parser.nextToken() == null) {
+                return "body is empty";
+            }
+            String error = validate(parser, "$");
+            if (error == null && parser.nextToken() != null) {
+                return "unexpected content after the body";
+            }
+            return error;
+        } catch (JsonProcessingException e) {
+            return "body is not a valid JSON: " + e.getOriginalMessage();
+        } catch (IOException e) {
+            return "body cannot be read";
+        }
+    }
+
+    public boolean isValid(String body) {
+        return validate(body) == null;
+    }
+
+    private String validate(JsonParser parser, String path) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (types != null && !types.contains(typeOf(parser)) && !isIntegralNumber(parser, token)) {
+            parser.skipChildren();
+            return path + " must be of type " + String.join(" or ", types);
+        }
+        if (allowedValues != null) {
+            JsonNode value = parser.readValueAsTree();
+            return allowedValues.contains(value) ? null : path + " must be one of " + allowedValues;
+        }
+        switch (token) {
+            case START_OBJECT:
+                return validateObject(parser, path);
+            case START_ARRAY:
+                return validateArray(parser, path);
+            case VALUE_STRING:
+                int length = parser.getTextLength();
+                return length < minLength || length > maxLength ? path + " has invalid length" : null;
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                double number = parser.getDoubleValue();
+                boolean tooLow = minimum != null && number < minimum;
+                boolean tooHigh = maximum != null && number > maximum;
+                return tooLow || tooHigh ? path + " is out of range" : null;
+            default:
+                return null;
+        }
+    }
+
+    private String validateObject(JsonParser parser, String path) throws IOException {
+        BitSet present = required.isEmpty() ? null : new BitSet();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            Integer index = propertyIndexes.get(name);
+            PolicySchemaValidator schema = index == null ? additionalProperties : properties.get(index);
+            if (schema == null) {
+                parser.skipChildren();
+                return path + "." + name + " is not allowed";
+            }
+            if (index != null && present != null) {
+                present.set(index);
+            }
+            String error = schema == ANY ? skip(parser) : schema.validate(parser, path + "." + name);
+            if (error != null) {
+                return error;
+            }
+        }
+        if (present != null && present.cardinality() < required.cardinality()) {
+            for (String name : requiredNames) {
+                if (!present.get(propertyIndexes.get(name))) {
+                    return path + "." + name + " is required";
+                }
+            }
+        }
+        return null;
+    }
+
+    private String validateArray(JsonParser parser, String path) throws IOException {
+        long count = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            String error = items == ANY ? skip(parser) : items.validate(parser, path + "[" + count + "]");
+            if (error != null) {
+                return error;
+            }
+            count++;
+        }
+        return count < minItems || count > maxItems ? path + " has invalid number of items" : null;
+    }
+
+    private static String skip(JsonParser parser) throws IOException {
+        parser.skipChildren();
+        return null;
+    }
+
+    private boolean isIntegralNumber(JsonParser parser, JsonToken token) throws IOException {
+        // 1.0 is a valid integer in JSON schema
+        return token == JsonToken.VALUE_NUMBER_FLOAT && types.contains("integer")
+                       && parser.getDoubleValue() == Math.rint(parser.getDoubleValue());
+    }
+
+    private static String typeOf(JsonParser parser) {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                return "object";
+            case START_ARRAY:
+                return "array";
+            case VALUE_STRING:
+                return "string";
+            case VALUE_NUMBER_INT:
+                return "integer";
+            case VALUE_NUMBER_FLOAT:
+                return "number";
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return "boolean";
+            default:
+                return "null";
+        }
+    }
+
+    private static Set<String> readTypes(JsonNode type) {
+        if (type == null) {
+            return null;
+        }
+        Set<String> result = new HashSet<>();
+        if (type.isArray()) {
+            type.forEach(item -> result.add(item.asText()));
+        } else {
+            result.add(type.asText());
+        }
+        // every integer is a number as well
+        if (result.contains("number")) {
+            result.add("integer");
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    private static List<JsonNode> toList(JsonNode array) {
+        List<JsonNode> result = new ArrayList<>();
+        array.forEach(result::add);
+        return Collections.unmodifiableList(result);
+    }
+}
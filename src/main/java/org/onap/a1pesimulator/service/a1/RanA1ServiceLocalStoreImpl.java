@@ -13,10 +13,13 @@
 
 package org.onap.a1pesimulator.service.a1;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,19 +33,52 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
- * A1 Service implementation which uses in-memory policy data store.
+ * A1 Service implementation which uses in-memory policy data store. The store is safe for concurrent A1 requests,
+ * every update is a single atomic map operation.
  */
 @Service
 public class RanA1ServiceLocalStoreImpl implements A1Service {
 
     private static final Logger log = LoggerFactory.getLogger(RanA1ServiceLocalStoreImpl.class);
-
-    private Map<Integer, Map<String, String>> policyTypesMap = new HashMap<>();
-    private Map<Integer, String> policySchemaMap = new HashMap<>();
+    private static final String POLICY_TYPE_IDS_KEY = "policyTypeIds";
+    private static final String POLICY_IDS_KEY_PREFIX = "policyIds/";
+    private static final String POLICIES_KEY_PREFIX = "policies/";
+
+    private final Map<Integer, Map<String, String>> policyTypesMap = new ConcurrentHashMap<>();
+    private final Map<Integer, String> policySchemaMap = new ConcurrentHashMap<>();
+    private final Map<Integer, PolicySchemaValidator> validators = new ConcurrentHashMap<>();
+    private final Map<Integer, LatencyStats> validationStats = new ConcurrentHashMap<>();
+    private final A1ResponseCache responseCache = new A1ResponseCache();
     private ObjectMapper mapper;
+    private final A1PolicyJournal journal;
+    private final PolicyActionDispatcher dispatcher;
 
-    public RanA1ServiceLocalStoreImpl(ObjectMapper mapper) {
+    public RanA1ServiceLocalStoreImpl(ObjectMapper mapper, A1PolicyJournal journal,
+            PolicyActionDispatcher dispatcher) {
         this.mapper = mapper;
+        this.journal = journal;
+        this.dispatcher = dispatcher;
+        journal.setStateSupplier(() -> new A1PolicyState(policySchemaMap, policyTypesMap));
+    }
+
+    /**
+     * Loads recovered policy schemas and instances, used on startup before any A1 request is served
+     */
+    public void restore(A1PolicyState state) {
+        policySchemaMap.putAll(state.getSchemas());
+        state.getSchemas().forEach((policyTypeId, schema) -> {
+            try {
+                PolicySchemaValidator validator = PolicySchemaValidator.compilePolicyType(schema);
+                validators.put(policyTypeId, validator);
+                dispatcher.bindPolicyType(policyTypeId, validator);
+            } catch (IOException e) {
+                log.warn("Cannot compile schema of policy type {}, its policies will not be validated", policyTypeId);
+            }
+        });
+        state.getPolicies().forEach((policyTypeId, policies) -> policyTypesMap.put(policyTypeId,
+                new ConcurrentHashMap<>(policies)));
+        responseCache.invalidate(POLICY_TYPE_IDS_KEY);
+        state.getPolicies().keySet().forEach(this::invalidatePoliciesOfType);
     }
 
     @Override
@@ -52,7 +88,18 @@ public class RanA1ServiceLocalStoreImpl implements A1Service {
 
     @Override
     public ResponseEntity<String> putPolicySchema(Integer policyTypeId, String body) {
-        policySchemaMap.put(policyTypeId, body);
+        PolicySchemaValidator validator;
+        try {
+            validator = PolicySchemaValidator.compilePolicyType(body);
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body("Policy type is not a valid JSON");
+        }
+        journal.putSchema(policyTypeId, body, () -> {
+            policySchemaMap.put(policyTypeId, body);
+            validators.put(policyTypeId, validator);
+        });
+        dispatcher.bindPolicyType(policyTypeId, validator);
+        responseCache.invalidate(POLICY_TYPE_IDS_KEY);
         return new ResponseEntity<>(HttpStatus.CREATED);
     }
 
@@ -60,69 +107,136 @@ public class RanA1ServiceLocalStoreImpl implements A1Service {
     public ResponseEntity<String> putPolicy(final Integer policyTypeId, final String policyId, final String body) {
         log.debug("Create or update policy id {} of policy type id {} with following content {} ", policyId,
                 policyTypeId, body);
-        if (policyTypesMap.containsKey(policyTypeId)) {
-            policyTypesMap.get(policyTypeId).put(policyId, body);
-        } else {
-            Map<String, String> policies = new HashMap<>();
-            policies.put(policyId, body);
-            policyTypesMap.put(policyTypeId, policies);
+        String error = validatePolicy(policyTypeId, body);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
         }
+        journal.putPolicy(policyTypeId, policyId, body, () -> putPolicyUnderLock(policyTypeId, policyId, body));
+        invalidatePoliciesOfType(policyTypeId);
         return ResponseEntity.accepted().build();
     }
 
     @Override
     public ResponseEntity<String> deletePolicy(final Integer policyTypeId, final String policyId) {
         log.debug("Delete policy id {} of policy type id {}", policyId, policyTypeId);
-        if (policyTypesMap.containsKey(policyTypeId)) {
-            policyTypesMap.get(policyTypeId).remove(policyId);
-            return ResponseEntity.accepted().build();
-        } else {
+        Map<String, String> policies = policyTypesMap.get(policyTypeId);
+        if (policies == null) {
             return ResponseEntity.notFound().build();
         }
+        journal.deletePolicy(policyTypeId, policyId, () -> policies.remove(policyId));
+        invalidatePoliciesOfType(policyTypeId);
+        return ResponseEntity.accepted().build();
+    }
+
+    @Override
+    public Map<String, HttpStatus> putPolicies(Integer policyTypeId, Map<String, String> policies) {
+        log.debug("Create or update {} policies of policy type id {}", policies.size(), policyTypeId);
+        Map<String, HttpStatus> result = new LinkedHashMap<>();
+        policies.forEach((policyId, body) -> {
+            if (validatePolicy(policyTypeId, body) != null) {
+                result.put(policyId, HttpStatus.BAD_REQUEST);
+                return;
+            }
+            journal.putPolicy(policyTypeId, policyId, body, () -> putPolicyUnderLock(policyTypeId, policyId, body));
+            result.put(policyId, HttpStatus.ACCEPTED);
+        });
+        invalidatePoliciesOfType(policyTypeId);
+        return result;
+    }
+
+    @Override
+    public Map<String, HttpStatus> deletePolicies(Integer policyTypeId, Collection<String> policyIds) {
+        log.debug("Delete {} policies of policy type id {}", policyIds.size(), policyTypeId);
+        Map<String, String> policies = policyTypesMap.get(policyTypeId);
+        Map<String, HttpStatus> result = new LinkedHashMap<>();
+        policyIds.forEach(policyId -> {
+            if (policies == null || !policies.containsKey(policyId)) {
+                result.put(policyId, HttpStatus.NOT_FOUND);
+                return;
+            }
+            journal.deletePolicy(policyTypeId, policyId, () -> policies.remove(policyId));
+            result.put(policyId, HttpStatus.ACCEPTED);
+        });
+        invalidatePoliciesOfType(policyTypeId);
+        return result;
     }
 
     @Override
     public ResponseEntity<String> getPolicyTypeIds() throws RestClientException {
-        return getRestAsString(policySchemaMap.keySet());
+        return responseCache.get(POLICY_TYPE_IDS_KEY, () -> writeValueAsString(policySchemaMap.keySet()));
     }
 
     @Override
     public ResponseEntity<String> getPolicyType(final Integer policyTypeId) throws RestClientException {
-        if (policySchemaMap.isEmpty() || !policySchemaMap.containsKey(policyTypeId)) {
+        String schema = policySchemaMap.get(policyTypeId);
+        if (schema == null) {
             return ResponseEntity.notFound().build();
-        } else {
-            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(policySchemaMap.get(policyTypeId));
         }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(schema);
     }
 
     @Override
     public ResponseEntity<String> getPolicyIdsOfType(final Integer policyTypeId) throws RestClientException {
-        Set<String> result = new HashSet<>();
-        if (policyTypesMap.containsKey(policyTypeId)) {
-            result = policyTypesMap.get(policyTypeId).keySet();
-        }
-        return getRestAsString(result);
+        return responseCache.get(POLICY_IDS_KEY_PREFIX + policyTypeId, () -> {
+            Map<String, String> policies = policyTypesMap.get(policyTypeId);
+            Set<String> result = policies == null ? Collections.emptySet() : policies.keySet();
+            return writeValueAsString(result);
+        });
     }
 
     @Override
     public ResponseEntity<String> getPolicy(final Integer policyTypeId, final String policyId)
             throws RestClientException {
-        if (policyTypesMap.containsKey(policyTypeId) && policyTypesMap.get(policyTypeId).containsKey(policyId)) {
-            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
-                    .body(policyTypesMap.get(policyTypeId).get(policyId));
-        } else {
+        Map<String, String> policies = policyTypesMap.get(policyTypeId);
+        String policy = policies == null ? null : policies.get(policyId);
+        if (policy == null) {
             return ResponseEntity.notFound().build();
         }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(policy);
     }
 
     @Override
     public ResponseEntity<String> getAllPoliciesForType(final Integer policyTypeId) throws RestClientException {
-        return getRestAsString(policyTypesMap.get(policyTypeId));
+        return responseCache.get(POLICIES_KEY_PREFIX + policyTypeId,
+                () -> writeValueAsString(policyTypesMap.get(policyTypeId)));
+    }
+
+    @Override
+    public String getValidationLatencyStats(Integer policyTypeId) {
+        LatencyStats stats = validationStats.get(policyTypeId);
+        return stats == null ? new LatencyStats().toString() : stats.toString();
+    }
+
+    /**
+     * @return description of the violation or null if the policy type has no schema or the body complies with it
+     */
+    private String validatePolicy(Integer policyTypeId, String body) {
+        PolicySchemaValidator validator = validators.get(policyTypeId);
+        if (validator == null) {
+            return null;
+        }
+        long start = System.nanoTime();
+        String error = validator.validate(body);
+        validationStats.computeIfAbsent(policyTypeId, id -> new LatencyStats()).record(System.nanoTime() - start);
+        return error == null ? null : "Policy does not comply with policy type " + policyTypeId + ": " + error;
+    }
+
+    /**
+     * Stores the policy, creating the map of its type if needed. Runs as a journal change, so a snapshot never sees
+     * a type map without the policy it was created for.
+     */
+    private void putPolicyUnderLock(Integer policyTypeId, String policyId, String body) {
+        policyTypesMap.computeIfAbsent(policyTypeId, id -> new ConcurrentHashMap<>()).put(policyId, body);
+    }
+
+    private void invalidatePoliciesOfType(Integer policyTypeId) {
+        responseCache.invalidate(POLICY_IDS_KEY_PREFIX + policyTypeId);
+        responseCache.invalidate(POLICIES_KEY_PREFIX + policyTypeId);
     }
 
-    private ResponseEntity<String> getRestAsString(Object obj) throws RestClientException {
+    private String writeValueAsString(Object obj) {
         try {
-            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(mapper.writeValueAsString(obj));
+            return mapper.writeValueAsString(obj);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Cannot serialize object", e);
         }
@@ -20,12 +20,10 @@ import lombok.Getter;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
 import org.onap.a1pesimulator.data.ue.UserEquipmentNotification;
 import org.onap.a1pesimulator.service.cell.RanCellService;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
 import org.onap.a1pesimulator.service.ue.RanUeService;
-import org.onap.a1pesimulator.util.JsonUtils;
-import org.onap.a1pesimulator.util.JsonUtils.JsonUtilsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -37,34 +35,38 @@ public class RanUeHandoverOnPolicyAction implements OnPolicyAction {
     private static final Logger log = LoggerFactory.getLogger(RanUeHandoverOnPolicyAction.class);
 
     private final RanUeService ranUeService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationHub notificationHub;
     private final RanCellService ranCellService;
     private final PolicyInstancesHolder policyHolder;
 
-    public RanUeHandoverOnPolicyAction(SimpMessagingTemplate messagingTemplate, RanUeService ranUeService,
+    public RanUeHandoverOnPolicyAction(NotificationHub notificationHub, RanUeService ranUeService,
             RanCellService ranCellService, PolicyInstancesHolder policyHolder) {
-        this.messagingTemplate = messagingTemplate;
+        this.notificationHub = notificationHub;
         this.ranUeService = ranUeService;
         this.ranCellService = ranCellService;
         this.policyHolder = policyHolder;
     }
 
     @Override
-    public boolean isForMe(Integer policyTypeId, String policyId, String body) {
-        try {
-            JsonUtils.INSTANCE.deserialize(body, UeHandoverPolicy.class);
-            return true;
-        } catch (JsonUtilsException ex) {
-            log.info(
-                    "Policy {} is not for me because policy body doesn't comply with Ue Handover policy. Follow example: {}",
-                    policyId, POLICY_EXAMPLE);
-            return false;
-        }
+    public boolean acceptsPolicyType(PolicySchemaValidator policyType) {
+        return policyType.isValid(POLICY_EXAMPLE);
+    }
+
+    @Override
+    public String getOrderingKey(PolicyInstance policy) {
+        // the body is parsed on the worker only, updates of the same policy stay in order
+        return policy.getPolicyId();
     }
 
     @Override
-    public void onPolicy(Integer policyTypeId, String policyId, String body) {
-        UeHandoverPolicy policy = JsonUtils.INSTANCE.deserialize(body, UeHandoverPolicy.class);
+    public void onPolicy(PolicyInstance policyInstance) {
+        Optional<UeHandoverPolicy> body = policyInstance.getBodyAs(UeHandoverPolicy.class);
+        if (!body.isPresent()) {
+            log.info("Policy {} is not for me because policy body doesn't comply with Ue Handover policy. "
+                             + "Follow example: {}", policyInstance.getPolicyId(), POLICY_EXAMPLE);
+            return;
+        }
+        UeHandoverPolicy policy = body.get();
         String ueId = policy.getScope().getUeId();
         List<String> cellId = policy.getResources().stream().flatMap(resources -> resources.getCellIdList().stream())
                                       .collect(Collectors.toList());
@@ -83,7 +85,7 @@ public class RanUeHandoverOnPolicyAction implements OnPolicyAction {
         }
 
         ranUeService.handover(ueId, activeCellId.get());
-        messagingTemplate.convertAndSend(TOPIC_UE, new UserEquipmentNotification(ueId, activeCellId.get()));
+        notificationHub.publish(TOPIC_UE, ueId, new UserEquipmentNotification(ueId, activeCellId.get()));
     }
 
     private Optional<String> getActiveCellForUE(String ue) {
@@ -33,13 +33,13 @@ public class SetLowRangeValuesOnPolicyAction implements OnPolicyAction {
     }
 
     @Override
-    public boolean isForMe(Integer policyTypeId, String policyId, String body) {
+    public boolean acceptsPolicyType(PolicySchemaValidator policyType) {
         // disabling for now
         return false;
     }
 
     @Override
-    public void onPolicy(Integer policyTypeId, String policyId, String body) {
+    public void onPolicy(PolicyInstance policy) {
         vesBrokerService.getPeriodicEventsCache().values().forEach(this::updateEvent);
     }
 
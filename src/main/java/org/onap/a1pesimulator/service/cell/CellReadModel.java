@@ -0,0 +1,159 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.service.cell;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.RanCell;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+
+/**
+ * Immutable view of all cells with their connected UEs, ordered by cell id. Cells are copies of the topology cells
+ * which share their state, so a state transition is visible without a new model. Any membership change produces a
+ * new model with a higher version.
+ */
+public class CellReadModel {
+
+    static final CellReadModel EMPTY =
+            new CellReadModel(0, -1, -1, new String[0], new CellDetails[0], Collections.emptyMap());
+
+    private final long version;
+    private final long cellTopologyVersion;
+    private final long ueTopologyVersion;
+    private final String[] ids;
+    private final CellDetails[] cells;
+    private final Map<String, Integer> slotsIgnoreCase;
+    private final List<CellDetails> cellList;
+    private final RanCell ranCell;
+
+    private CellReadModel(long version, long cellTopologyVersion, long ueTopologyVersion, String[] ids,
+            CellDetails[] cells, Map<String, Integer> slotsIgnoreCase) {
+        this.version = version;
+        this.cellTopologyVersion = cellTopologyVersion;
+        this.ueTopologyVersion = ueTopologyVersion;
+        this.ids = ids;
+        this.cells = cells;
+        this.slotsIgnoreCase = slotsIgnoreCase;
+        this.cellList = Collections.unmodifiableList(Arrays.asList(cells));
+        this.ranCell = new RanCell(cellList, cells.length);
+    }
+
+    /**
+     * Builds the model in one pass over the UEs, UE cell ids are matched case insensitive
+     */
+    static CellReadModel build(long version, long cellTopologyVersion, long ueTopologyVersion,
+            Collection<CellDetails> topologyCells, Collection<UserEquipment> userEquipments) {
+        CellDetails[] sorted = topologyCells.stream().sorted(Comparator.comparing(CellDetails::getId))
+                                       .toArray(CellDetails[]::new);
+        String[] ids = new String[sorted.length];
+        Map<String, Integer> slotsIgnoreCase = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        List<Set<String>> connected = new ArrayList<>(sorted.length);
+        for (int slot = 0; slot < sorted.length; slot++) {
+            ids[slot] = sorted[slot].getId();
+            slotsIgnoreCase.putIfAbsent(ids[slot], slot);
+            connected.add(new HashSet<>());
+        }
+        for (UserEquipment ue : userEquipments) {
+            Integer slot = ue.getCellId() == null ? null : slotsIgnoreCase.get(ue.getCellId());
+            if (slot != null) {
+                connected.get(slot).add(ue.getId());
+            }
+        }
+        for (int slot = 0; slot < sorted.length; slot++) {
+            sorted[slot] = sorted[slot].withConnectedUserEquipments(Collections.unmodifiableSet(connected.get(slot)));
+        }
+        return new CellReadModel(version, cellTopologyVersion, ueTopologyVersion, ids, sorted, slotsIgnoreCase);
+    }
+
+    /**
+     * Model with the UE moved between two cells. Only the two affected cells are copied, moving a UE which is already
+     * in the target cell changes nothing.
+     */
+    CellReadModel withHandover(String ueId, String fromCellId, String toCellId) {
+        CellDetails[] next = cells.clone();
+        boolean removed = updateConnected(next, fromCellId, connected -> connected.remove(ueId));
+        boolean added = updateConnected(next, toCellId, connected -> connected.add(ueId));
+        if (!removed && !added) {
+            return this;
+        }
+        return new CellReadModel(version + 1, cellTopologyVersion, ueTopologyVersion, ids, next, slotsIgnoreCase);
+    }
+
+    private boolean updateConnected(CellDetails[] next, String cellId, Predicate<Set<String>> update) {
+        Integer slot = cellId == null ? null : slotsIgnoreCase.get(cellId);
+        if (slot == null) {
+            return false;
+        }
+        Set<String> connected = new HashSet<>(next[slot].getConnectedUserEquipments());
+        if (!update.test(connected)) {
+            return false;
+        }
+        next[slot] = next[slot].withConnectedUserEquipments(Collections.unmodifiableSet(connected));
+        return true;
+    }
+
+    boolean isBuiltFrom(long cellTopologyVersion, long ueTopologyVersion) {
+        return this.cellTopologyVersion == cellTopologyVersion && this.ueTopologyVersion == ueTopologyVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getCellTopologyVersion() {
+        return cellTopologyVersion;
+    }
+
+    public long getUeTopologyVersion() {
+        return ueTopologyVersion;
+    }
+
+    public RanCell getRanCell() {
+        return ranCell;
+    }
+
+    public List<CellDetails> getCells() {
+        return cellList;
+    }
+
+    /**
+     * Cell with the exact id or null
+     */
+    public CellDetails getCellById(String id) {
+        int slot = Arrays.binarySearch(ids, id);
+        return slot < 0 ? null : cells[slot];
+    }
+
+    /**
+     * Cells which follow the given id, all cells if the id is null
+     */
+    public List<CellDetails> getCellsAfter(String id) {
+        if (id == null) {
+            return cellList;
+        }
+        int slot = Arrays.binarySearch(ids, id);
+        return cellList.subList(slot < 0 ? -slot - 1 : slot + 1, cells.length);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.service.cell;
+
+import java.util.concurrent.atomic.AtomicReference;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Shares the current {@link CellReadModel} with all readers. Readers never lock, the model is rebuilt on the first read
+ * after the cell or UE topology changed. Writers are serialized.
+ */
+@Service
+public class CellReadModelHolder {
+
+    private final AtomicReference<CellReadModel> model = new AtomicReference<>(CellReadModel.EMPTY);
+
+    private final RanCellsHolder cellsHolder;
+    private final RanUeHolder ueHolder;
+
+    public CellReadModelHolder(RanCellsHolder cellsHolder, RanUeHolder ueHolder) {
+        this.cellsHolder = cellsHolder;
+        this.ueHolder = ueHolder;
+    }
+
+    public CellReadModel get() {
+        CellReadModel current = model.get();
+        if (current.isBuiltFrom(cellsHolder.getVersion(), ueHolder.getVersion())) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    /**
+     * Moves the UE to another cell, the UE and the model are updated together
+     */
+    public synchronized void handover(UserEquipment ue, String cellId) {
+        CellReadModel current = get();
+        String previousCellId = ue.getCellId();
+        ue.setCellId(cellId);
+        model.set(current.withHandover(ue.getId(), previousCellId, cellId));
+    }
+
+    private synchronized CellReadModel rebuild() {
+        long cellTopologyVersion = cellsHolder.getVersion();
+        long ueTopologyVersion = ueHolder.getVersion();
+        CellReadModel current = model.get();
+        if (current.isBuiltFrom(cellTopologyVersion, ueTopologyVersion)) {
+            return current;
+        }
+        CellReadModel next = CellReadModel.build(current.getVersion() + 1, cellTopologyVersion, ueTopologyVersion,
+                cellsHolder.getAllCells(), ueHolder.getUserEquipments());
+        model.set(next);
+        return next;
+    }
+}
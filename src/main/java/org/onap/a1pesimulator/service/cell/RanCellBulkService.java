@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.cell;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.onap.a1pesimulator.data.ReportingMethodEnum;
+import org.onap.a1pesimulator.data.cell.CellBulkRequest;
+import org.onap.a1pesimulator.data.cell.CellBulkResult;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.report.RanReportsBrokerService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Starts and stops VES reporting of many cells in one pass
+ */
+@Service
+public class RanCellBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(RanCellBulkService.class);
+
+    private final RanCellsHolder cellsHolder;
+    private final RanCellStateService cellStateService;
+    private final RanReportsBrokerService reportsBrokerService;
+
+    public RanCellBulkService(RanCellsHolder cellsHolder, RanCellStateService cellStateService,
+            RanReportsBrokerService reportsBrokerService) {
+        this.cellsHolder = cellsHolder;
+        this.cellStateService = cellStateService;
+        this.reportsBrokerService = reportsBrokerService;
+    }
+
+    /**
+     * Activates the selected inactive cells and starts sending VES events for them, first events are spread over the
+     * interval
+     */
+    public CellBulkResult start(CellBulkRequest request, Integer interval, ReportingMethodEnum reportingMethod) {
+        long start = System.nanoTime();
+        List<String> notFound = new ArrayList<>();
+        List<String> conflicts = new ArrayList<>();
+        List<String> selected = select(request, notFound);
+        List<String> activated = new ArrayList<>(selected.size());
+        for (String cellId : selected) {
+            if (cellStateService.activateState(cellId)) {
+                activated.add(cellId);
+            } else {
+                conflicts.add(cellId);
+            }
+        }
+        VesEvent vesEvent =
+                request.getVesEvent() != null ? request.getVesEvent() : reportsBrokerService.getGlobalPmVesStructure();
+        int reportingInterval = interval != null ? interval : reportsBrokerService.getGlobalVesInterval();
+        reportsBrokerService.startSendingReports(activated, vesEvent, reportingInterval, reportingMethod);
+        return summarize("Started", selected.size(), activated.size(), notFound, conflicts, start);
+    }
+
+    /**
+     * Deactivates the selected cells, takes them out of failure mode and stops sending their VES events
+     */
+    public CellBulkResult stop(CellBulkRequest request) {
+        long start = System.nanoTime();
+        List<String> notFound = new ArrayList<>();
+        List<String> conflicts = new ArrayList<>();
+        List<String> selected = select(request, notFound);
+        int stopped = 0;
+        for (String cellId : selected) {
+            if (cellStateService.stopState(cellId)) {
+                cellsHolder.unmarkCellInFailure(cellId);
+                reportsBrokerService.stopSendingReports(cellId);
+                stopped++;
+            } else {
+                conflicts.add(cellId);
+            }
+        }
+        return summarize("Stopped", selected.size(), stopped, notFound, conflicts, start);
+    }
+
+    List<String> select(CellBulkRequest request, Collection<String> notFound) {
+        Collection<String> candidates;
+        if (request.getCellIds() != null && !request.getCellIds().isEmpty()) {
+            candidates = new LinkedHashSet<>(request.getCellIds());
+            candidates.stream().filter(id -> !cellsHolder.getCellIds().contains(id)).forEach(notFound::add);
+            candidates.removeAll(notFound);
+        } else if (request.isAll() || request.getPrefix() != null || request.getState() != null) {
+            candidates = cellsHolder.getCellIds();
+        } else {
+            return new ArrayList<>();
+        }
+        return candidates.stream().filter(id -> matches(request, id)).collect(Collectors.toList());
+    }
+
+    private boolean matches(CellBulkRequest request, String cellId) {
+        if (request.getPrefix() != null && !cellId.startsWith(request.getPrefix())) {
+            return false;
+        }
+        if (request.getState() == null) {
+            return true;
+        }
+        CellDetails cell = cellsHolder.getCellById(cellId);
+        return cell.getCurrentState() == request.getState();
+    }
+
+    private static CellBulkResult summarize(String action, int selected, int changed, List<String> notFound,
+            List<String> conflicts, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double cellsPerSecond = changed == 0 ? 0 : changed * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        log.info("{} {} of {} selected cells in {} ms ({} cells/s), {} not found, {} in conflicting state", action,
+                changed, selected, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(cellsPerSecond),
+                notFound.size(), conflicts.size());
+        return CellBulkResult.builder().selected(selected).changed(changed).notFound(notFound).conflicts(conflicts)
+                       .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).cellsPerSecond(cellsPerSecond)
+                       .build();
+    }
+}
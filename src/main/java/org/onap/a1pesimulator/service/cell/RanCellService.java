@@ -14,7 +14,10 @@
 package org.onap.a1pesimulator.service.cell;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.Topology;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.CellWithStatus;
@@ -30,6 +33,16 @@ public interface RanCellService {
 
     RanCell getCells();
 
+    /**
+     * Passes cells ordered by id, which follow the cursor, to the consumer. Only selected fields are put in the cell
+     * views.
+     *
+     * @param cursor id of the last cell of the previous page, null to start from the first cell
+     * @param limit maximal number of cells, null for all remaining cells
+     * @return cursor of the next page or null if there are no more cells
+     */
+    String forEachCell(String cursor, Integer limit, FieldSelection fields, Consumer<Map<String, Object>> consumer);
+
     void failure(String id);
 
     void recoverFromFailure(String id);
@@ -13,17 +13,24 @@
 
 package org.onap.a1pesimulator.service.cell;
 
+import java.text.MessageFormat;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.Topology;
 import org.onap.a1pesimulator.data.cell.Cell;
 import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellDetails.Fields;
 import org.onap.a1pesimulator.data.cell.CellWithStatus;
 import org.onap.a1pesimulator.data.cell.RanCell;
-import org.onap.a1pesimulator.data.ue.UserEquipment;
-import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.exception.CellNotFoundException;
 import org.onap.a1pesimulator.service.report.RanVesHolder;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -32,11 +39,14 @@ public class RanCellServiceImpl implements RanCellService {
     private final RanCellsHolder ranCellsHolder;
     private final RanUeHolder ueHolder;
     private final RanVesHolder vesHolder;
+    private final CellReadModelHolder readModelHolder;
 
-    public RanCellServiceImpl(RanCellsHolder ranCellsHolder, RanUeHolder ueHolder, RanVesHolder vesHolder) {
+    public RanCellServiceImpl(RanCellsHolder ranCellsHolder, RanUeHolder ueHolder, RanVesHolder vesHolder,
+            CellReadModelHolder readModelHolder) {
         this.ranCellsHolder = ranCellsHolder;
         this.ueHolder = ueHolder;
         this.vesHolder = vesHolder;
+        this.readModelHolder = readModelHolder;
     }
 
     @Override
@@ -46,28 +56,57 @@ public class RanCellServiceImpl implements RanCellService {
 
     @Override
     public CellDetails getCellById(String id) {
-        CellDetails cellDetails = ranCellsHolder.getCellById(id);
-        cellDetails.setConnectedUserEquipments(getConnectedUserEquipments(cellDetails.getId()));
+        CellDetails cellDetails = readModelHolder.get().getCellById(id);
+        if (cellDetails == null) {
+            throw new CellNotFoundException(MessageFormat.format("Cell not found: {0}", id));
+        }
         return cellDetails;
     }
 
     @Override
     public RanCell getCells() {
-        Collection<CellDetails> cellDetails = ranCellsHolder.getAllCells();
-        cellDetails.forEach(cell -> cell.setConnectedUserEquipments(getConnectedUserEquipments(cell.getId())));
-        return new RanCell(cellDetails, cellDetails.size());
+        return readModelHolder.get().getRanCell();
+    }
+
+    @Override
+    public String forEachCell(String cursor, Integer limit, FieldSelection fields,
+            Consumer<Map<String, Object>> consumer) {
+        Iterator<CellDetails> cells = readModelHolder.get().getCellsAfter(cursor).iterator();
+        String last = null;
+        int count = 0;
+        while (cells.hasNext() && (limit == null || count < limit)) {
+            CellDetails cell = cells.next();
+            consumer.accept(toView(cell, fields));
+            last = cell.getId();
+            count++;
+        }
+        return cells.hasNext() ? last : null;
     }
 
     @Override
     public Topology getTopology() {
-        Collection<CellDetails> cellList = ranCellsHolder.getCellDetailsList();
-        cellList.forEach(cell -> cell.setConnectedUserEquipments(getConnectedUserEquipments(cell.getId())));
-        return Topology.builder().cells(cellList).userEquipments(ueHolder.getUserEquipments()).build();
+        CellReadModel model = readModelHolder.get();
+        return Topology.builder().cells(model.getCells()).userEquipments(ueHolder.getUserEquipments())
+                       .cellTopologyVersion(model.getCellTopologyVersion())
+                       .ueTopologyVersion(model.getUeTopologyVersion()).build();
     }
 
-    private Set<String> getConnectedUserEquipments(String cellId) {
-        Collection<UserEquipment> cellUes = ueHolder.getUserEquipmentsConnectedToCell(cellId);
-        return cellUes.stream().map(UserEquipment::getId).collect(Collectors.toSet());
+    private static Map<String, Object> toView(CellDetails cell, FieldSelection fields) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put(Fields.id, cell.getId());
+        if (fields.includes(Fields.latitude)) {
+            view.put(Fields.latitude, cell.getLatitude());
+        }
+        if (fields.includes(Fields.longitude)) {
+            view.put(Fields.longitude, cell.getLongitude());
+        }
+        if (fields.includes(Fields.connectedUserEquipments)) {
+            view.put(Fields.connectedUserEquipments, cell.getConnectedUserEquipments());
+        }
+        if (fields.includes(Fields.currentState)) {
+            view.put(Fields.currentState, cell.getCurrentState());
+        }
+        return view;
     }
 
     @Override
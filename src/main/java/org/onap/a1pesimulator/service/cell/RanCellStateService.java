@@ -15,10 +15,11 @@ package org.onap.a1pesimulator.service.cell;
 
 import java.util.Optional;
 import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellStatusNotification;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -27,13 +28,13 @@ public class RanCellStateService {
     private static final Logger log = LoggerFactory.getLogger(RanCellStateService.class);
 
     private final RanCellsHolder cellsHolder;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationHub notificationHub;
 
     public static final String TOPIC_CELL = "/topic/cellStatus";
 
-    public RanCellStateService(RanCellsHolder cellsHolder, SimpMessagingTemplate messagingTemplate) {
+    public RanCellStateService(RanCellsHolder cellsHolder, NotificationHub notificationHub) {
         this.cellsHolder = cellsHolder;
-        this.messagingTemplate = messagingTemplate;
+        this.notificationHub = notificationHub;
     }
 
     public boolean activateState(String identifier) {
@@ -85,14 +86,10 @@ public class RanCellStateService {
     }
 
     private boolean previousStateIfPossible(CellDetails cell) {
-
-        CellStateEnum state = cell.getCellStateMachine().getState();
-        if (state == CellStateEnum.SLEEPING || state == CellStateEnum.GOING_TO_SLEEP || state == CellStateEnum.ACTIVE) {
-            cell.previousState();
-        } else {
+        if (!cell.previousState()) {
             log.info("Cell {} is in {} state! The changing of the state isn't allowed."
                              + "Supported states are: GOING_TO_SLEEP, SLEEPING, ACTIVE.", cell.getId(),
-                    cell.getCellStateMachine().getState().value);
+                    cell.getCurrentState().value);
             return false;
         }
 
@@ -100,13 +97,10 @@ public class RanCellStateService {
     }
 
     private boolean nextStateIfPossible(CellDetails cellDetails, CellStateEnum shouldBe) {
-
-        if (cellDetails.getCellStateMachine().getState() == shouldBe) {
-            cellDetails.nextState();
-        } else {
+        if (!cellDetails.nextState(shouldBe)) {
             log.info(
                     "Cell {} is in {} state. The changing of the state isn't allowed. " + "The supported state is: {}!",
-                    cellDetails.getId(), cellDetails.getCellStateMachine().getState().value, shouldBe.value);
+                    cellDetails.getId(), cellDetails.getCurrentState().value, shouldBe.value);
             return false;
         }
 
@@ -123,6 +117,6 @@ public class RanCellStateService {
     }
 
     private void sendCellNotification(CellDetails cellDetails) {
-        messagingTemplate.convertAndSend(TOPIC_CELL, cellDetails);
+        notificationHub.publish(TOPIC_CELL, cellDetails.getId(), CellStatusNotification.of(cellDetails));
     }
 }
@@ -15,37 +15,44 @@ package org.onap.a1pesimulator.service.cell;
 
 import java.text.MessageFormat;
 import java.util.Collection;
-import java.util.HashSet;
-import java.util.List;
+import java.util.Collections;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
-import java.util.function.BinaryOperator;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+import org.onap.a1pesimulator.data.TopologyDiff;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.CellList.Cell;
-import org.onap.a1pesimulator.data.cell.CellList.CellData;
 import org.onap.a1pesimulator.exception.CellNotFoundException;
+import org.onap.a1pesimulator.service.distance.DistanceService;
+import org.onap.a1pesimulator.util.ReloadMeter;
 import org.onap.a1pesimulator.util.TopologyReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 @Service
 public class RanCellsHolder {
 
-    private Map<String, CellDetails> cellDetailsById;
-    private final Collection<CellInFailureMode> cellsInFailureMode = new HashSet<>();
+    private static final Logger log = LoggerFactory.getLogger(RanCellsHolder.class);
+
+    private volatile NavigableMap<String, CellDetails> cellDetailsById = Collections.emptyNavigableMap();
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, CellInFailureMode> cellsInFailureMode = new ConcurrentHashMap<>();
 
     private final TopologyReader topologyReader;
+    private final DistanceService distanceService;
 
-    public RanCellsHolder(TopologyReader topologyReader) {
+    public RanCellsHolder(TopologyReader topologyReader, DistanceService distanceService) {
         this.topologyReader = topologyReader;
+        this.distanceService = distanceService;
         refresh();
     }
 
@@ -54,10 +61,11 @@ public class RanCellsHolder {
     }
 
     public CellDetails getCellById(String id) {
-        if (!cellDetailsById.containsKey(id)) {
+        CellDetails cell = cellDetailsById.get(id);
+        if (cell == null) {
             throw new CellNotFoundException(MessageFormat.format("Cell not found: {0}", id));
         }
-        return cellDetailsById.get(id);
+        return cell;
     }
 
     public Collection<CellDetails> getCellDetailsList() {
@@ -68,54 +76,119 @@ public class RanCellsHolder {
         return cellDetailsById.values();
     }
 
+    /**
+     * Cells ordered by id which follow the given id, all cells if the id is null
+     */
+    public Collection<CellDetails> getCellsAfter(String id) {
+        NavigableMap<String, CellDetails> cells = cellDetailsById;
+        return id == null ? cells.values() : cells.tailMap(id, false).values();
+    }
+
+    /**
+     * Marks the cell as failing, marking an already failing cell again keeps its sleeping mode detection time
+     */
     public void markCellInFailure(String id) {
-        cellsInFailureMode.add(CellInFailureMode.builder().id(id).build());
+        cellsInFailureMode.computeIfAbsent(id, CellInFailureMode::new);
     }
 
     public boolean isInFailureMode(String id) {
-        return cellsInFailureMode.stream().anyMatch(byIdPredicate(id));
+        return cellsInFailureMode.containsKey(id);
     }
 
     public void unmarkCellInFailure(String id) {
-        cellsInFailureMode.removeIf(byIdPredicate(id));
+        cellsInFailureMode.remove(id);
     }
 
     public Optional<CellInFailureMode> getCellsInFailureMode(String id) {
-        return cellsInFailureMode.stream().filter(byIdPredicate(id)).findFirst();
+        return Optional.ofNullable(cellsInFailureMode.get(id));
+    }
+
+    public int getCellsInFailureModeCount() {
+        return cellsInFailureMode.size();
     }
 
-    @Getter
-    @Builder
     public static class CellInFailureMode {
 
+        private static final long NOT_DETECTED = Long.MIN_VALUE;
+
+        @Getter
         private final String id;
-        @Setter
-        private Long sleepingModeDetectedTime;
+        private final AtomicLong sleepingModeDetectedTime = new AtomicLong(NOT_DETECTED);
+
+        CellInFailureMode(String id) {
+            this.id = id;
+        }
+
+        public Long getSleepingModeDetectedTime() {
+            long time = sleepingModeDetectedTime.get();
+            return time == NOT_DETECTED ? null : time;
+        }
+
+        /**
+         * Records the time sleeping mode was detected first, returns false if it had been recorded already
+         */
+        public boolean detectSleepingMode(long time) {
+            return sleepingModeDetectedTime.compareAndSet(NOT_DETECTED, time);
+        }
+    }
+
+    /**
+     * Reloads the cell topology. Cells whose position did not change are kept as they are, including their state,
+     * moved cells keep their state as well. The new cell map replaces the old one in one step.
+     */
+    public synchronized TopologyDiff refresh() {
+        ReloadMeter meter = new ReloadMeter();
+        Map<String, CellDetails> current = cellDetailsById;
+        NavigableMap<String, CellDetails> next = new TreeMap<>();
+        TopologyDiff diff = new TopologyDiff();
+        topologyReader.readCellTopology(cellData -> {
+            Cell loaded = cellData.getCell();
+            CellDetails existing = current.get(loaded.getNodeId());
+            CellDetails cell = existing;
+            if (existing == null) {
+                diff.getAdded().add(loaded.getNodeId());
+                cell = toCellDetails(loaded);
+            } else if (hasSamePosition(existing, loaded)) {
+                diff.unchanged();
+            } else {
+                diff.getChanged().add(loaded.getNodeId());
+                cell = existing.withPosition(loaded.getLatitude(), loaded.getLongitude());
+            }
+            if (next.putIfAbsent(loaded.getNodeId(), cell) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", loaded.getNodeId()));
+            }
+        });
+        current.keySet().stream().filter(id -> !next.containsKey(id)).forEach(diff.getRemoved()::add);
+
+        if (diff.isEmpty() && version.get() > 0) {
+            log.debug("Cell topology has not changed, reloaded in {}", meter);
+            return diff;
+        }
+        distanceService.indexCells(next.values());
+        cellDetailsById = next;
+        diff.getRemoved().forEach(this::unmarkCellInFailure);
+        log.info("Cell topology version {} loaded in {}: {}", version.incrementAndGet(), meter, diff);
+        return diff;
     }
 
-    public void refresh() {
-        List<CellData> cellDatas = topologyReader.loadCellTopology().getCellList();
-        cellDetailsById = cellDatas.stream().collect(Collectors.toMap(cellData -> cellData.getCell().getNodeId(),
-                this::toCellDetails, throwingMerger(), TreeMap::new));
+    /**
+     * Version of the cell topology, incremented by every reload which changed it
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     public boolean hasChanged() {
         return topologyReader.topologyCellHasChanged();
     }
 
-    private <T> BinaryOperator<T> throwingMerger() {
-        return (u, v) -> {
-            throw new IllegalStateException(String.format("Duplicate key %s", u));
-        };
+    private static boolean hasSamePosition(CellDetails existing, Cell loaded) {
+        return Objects.equals(existing.getLatitude(), loaded.getLatitude()) && Objects.equals(existing.getLongitude(),
+                loaded.getLongitude());
     }
 
-    private CellDetails toCellDetails(CellData data) {
-        Cell cell = data.getCell();
+    private static CellDetails toCellDetails(Cell cell) {
         return CellDetails.builder().id(cell.getNodeId()).latitude(cell.getLatitude()).longitude(cell.getLongitude())
                        .build();
     }
-
-    public static Predicate<CellInFailureMode> byIdPredicate(String id) {
-        return cell -> cell.getId().equals(id);
-    }
 }
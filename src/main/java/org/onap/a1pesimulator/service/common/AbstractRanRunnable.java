@@ -13,26 +13,39 @@
 
 package org.onap.a1pesimulator.service.common;
 
-import java.util.Collection;
-
 import org.onap.a1pesimulator.data.ves.VesEvent;
-import org.onap.a1pesimulator.service.report.OnEventAction;
+import org.onap.a1pesimulator.service.report.MeasurementIndex;
+import org.onap.a1pesimulator.service.report.MeasurementSample;
+import org.onap.a1pesimulator.service.report.OnEventActionBus;
 
 public abstract class AbstractRanRunnable implements Runnable {
 
     protected VesEvent event;
+    protected MeasurementIndex measurementIndex;
     protected final EventCustomizer eventCustomizer;
-    protected final Collection<OnEventAction> onEventAction;
+    protected final OnEventActionBus onEventActionBus;
 
 
     protected AbstractRanRunnable(VesEvent event, EventCustomizer eventCustomizer,
-            Collection<OnEventAction> onEventActions) {
+            OnEventActionBus onEventActionBus) {
         this.event = event;
+        this.measurementIndex = MeasurementIndex.of(event);
         this.eventCustomizer = eventCustomizer;
-        this.onEventAction = onEventActions;
+        this.onEventActionBus = onEventActionBus;
     }
 
     public void updateEvent(VesEvent event) {
         this.event = event;
+        this.measurementIndex = MeasurementIndex.of(event);
+    }
+
+    /**
+     * Customizes the event and publishes it with its sample to the event actions
+     */
+    protected VesEvent customizeAndNotify() {
+        MeasurementSample sample = measurementIndex.newSample();
+        VesEvent customizedEvent = eventCustomizer.apply(event, sample);
+        onEventActionBus.publish(customizedEvent, sample);
+        return customizedEvent;
     }
 }
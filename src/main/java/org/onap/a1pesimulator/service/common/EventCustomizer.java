@@ -13,11 +13,35 @@
 
 package org.onap.a1pesimulator.service.common;
 
+import java.util.SplittableRandom;
 import java.util.function.Function;
 
 import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.report.MeasurementSample;
 
 @FunctionalInterface
 public interface EventCustomizer extends Function<VesEvent, VesEvent> {
 
+    /**
+     * Customizes the event and records generated values into the sample. Customizers not generating values
+     * themselves fill the sample from the customized event.
+     */
+    default VesEvent apply(VesEvent event, MeasurementSample sample) {
+        VesEvent customized = apply(event);
+        MeasurementSample parsed = sample.getIndex().sampleOf(customized);
+        for (int slot = 0; slot < sample.getIndex().size(); slot++) {
+            if (parsed.has(slot)) {
+                sample.set(slot, parsed.get(slot));
+            }
+        }
+        return customized;
+    }
+
+    /**
+     * Customizes the event drawing random values from the given stream. Customizers without their own range
+     * resolution ignore the stream. The sample is optional.
+     */
+    default VesEvent apply(VesEvent event, MeasurementSample sample, SplittableRandom random) {
+        return sample == null ? apply(event) : apply(event, sample);
+    }
 }
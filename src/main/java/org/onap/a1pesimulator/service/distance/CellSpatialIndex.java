@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.distance;
+
+import static org.onap.a1pesimulator.util.DistanceCalculator.EARTH_RADIUS;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.util.DistanceCalculator;
+
+/**
+ * Uniform latitude/longitude grid over cell positions. Bucket size matches the cell range, so a range query only
+ * visits the buckets around the point instead of every cell in the topology. Immutable once built.
+ *
+ * <p>Every indexed cell gets a slot. Slots follow the case insensitive order of cell ids, so sorted slot arrays
+ * can be used as compact adjacency lists.
+ */
+public class CellSpatialIndex {
+
+    private static final double HALF_LONGITUDE = 180;
+    private static final double MAX_LATITUDE = 90;
+    private static final double FULL_LONGITUDE = 360;
+    private static final double MIN_BUCKET_KM = 0.001;
+    private static final int[] NO_SLOTS = new int[0];
+
+    private final double range;
+    private final double bucketSize;
+    private final String[] cellIds;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, Bucket> buckets = new HashMap<>();
+    private final int maxBucketSize;
+
+    public CellSpatialIndex(Collection<CellDetails> cells, double range) {
+        this.range = range;
+        this.bucketSize = Math.toDegrees(Math.max(range, MIN_BUCKET_KM) / EARTH_RADIUS);
+
+        CellDetails[] positioned = cells.stream().filter(CellSpatialIndex::hasPosition)
+                                           .sorted(Comparator.comparing(CellDetails::getId,
+                                                   String.CASE_INSENSITIVE_ORDER)).toArray(CellDetails[]::new);
+        this.cellIds = new String[positioned.length];
+        this.latitudes = new double[positioned.length];
+        this.longitudes = new double[positioned.length];
+        Map<Long, int[]> bucketFill = new HashMap<>();
+        for (int slot = 0; slot < positioned.length; slot++) {
+            cellIds[slot] = positioned[slot].getId();
+            latitudes[slot] = positioned[slot].getLatitude();
+            longitudes[slot] = positioned[slot].getLongitude();
+            bucketFill.computeIfAbsent(keyOf(slot), k -> new int[1])[0]++;
+        }
+        bucketFill.forEach((key, fill) -> {
+            buckets.put(key, new Bucket(fill[0]));
+            fill[0] = 0;
+        });
+        for (int slot = 0; slot < positioned.length; slot++) {
+            long key = keyOf(slot);
+            buckets.get(key).set(bucketFill.get(key)[0]++, slot, latitudes[slot], longitudes[slot]);
+        }
+        this.maxBucketSize = buckets.values().stream().mapToInt(bucket -> bucket.slots.length).max().orElse(0);
+    }
+
+    public int size() {
+        return cellIds.length;
+    }
+
+    public String getCellId(int slot) {
+        return cellIds[slot];
+    }
+
+    /**
+     * Slot of the cell or negative value if the cell is not indexed, cell id is matched case insensitive
+     */
+    public int getSlot(String cellId) {
+        if (cellId == null) {
+            return -1;
+        }
+        return Arrays.binarySearch(cellIds, cellId, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    /**
+     * Sorted slots of cells closer than the range to the given point
+     */
+    public int[] getSlotsInRange(double latitude, double longitude) {
+        if (range <= 0 || cellIds.length == 0) {
+            return NO_SLOTS;
+        }
+        double latitudeSpan = Math.toDegrees(range / EARTH_RADIUS);
+        double longitudeSpan = getLongitudeSpan(latitude, latitudeSpan);
+
+        int minLatitudeBucket = bucket(latitude - latitudeSpan);
+        int maxLatitudeBucket = bucket(latitude + latitudeSpan);
+        IntStream.Builder result = IntStream.builder();
+        boolean[] inRange = new boolean[maxBucketSize];
+        if (longitudeSpan >= HALF_LONGITUDE) {
+            collect(latitude, longitude, minLatitudeBucket, maxLatitudeBucket, -HALF_LONGITUDE, HALF_LONGITUDE,
+                    inRange, result);
+            return result.build().sorted().toArray();
+        }
+        double minLongitude = longitude - longitudeSpan;
+        double maxLongitude = longitude + longitudeSpan;
+        collect(latitude, longitude, minLatitudeBucket, maxLatitudeBucket, minLongitude, maxLongitude, inRange,
+                result);
+        // window crossing the antimeridian continues on the other side
+        if (minLongitude < -HALF_LONGITUDE) {
+            collect(latitude, longitude, minLatitudeBucket, maxLatitudeBucket, minLongitude + FULL_LONGITUDE,
+                    HALF_LONGITUDE, inRange, result);
+        }
+        if (maxLongitude > HALF_LONGITUDE) {
+            collect(latitude, longitude, minLatitudeBucket, maxLatitudeBucket, -HALF_LONGITUDE,
+                    maxLongitude - FULL_LONGITUDE, inRange, result);
+        }
+        return result.build().sorted().toArray();
+    }
+
+    private void collect(double latitude, double longitude, int minLatitudeBucket, int maxLatitudeBucket,
+            double minLongitude, double maxLongitude, boolean[] inRange, IntStream.Builder result) {
+        int minLongitudeBucket = bucket(minLongitude);
+        int maxLongitudeBucket = bucket(maxLongitude);
+        for (int latitudeBucket = minLatitudeBucket; latitudeBucket <= maxLatitudeBucket; latitudeBucket++) {
+            for (int longitudeBucket = minLongitudeBucket; longitudeBucket <= maxLongitudeBucket; longitudeBucket++) {
+                Bucket bucket = buckets.get(key(latitudeBucket, longitudeBucket));
+                if (bucket == null) {
+                    continue;
+                }
+                if (DistanceCalculator.isInRange(latitude, longitude, bucket.latitudes, bucket.longitudes, range,
+                        inRange) == 0) {
+                    continue;
+                }
+                for (int i = 0; i < bucket.slots.length; i++) {
+                    if (inRange[i]) {
+                        result.add(bucket.slots[i]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Widest longitude difference a point within range can have, taken at the latitude closest to the pole
+     */
+    private double getLongitudeSpan(double latitude, double latitudeSpan) {
+        double worstLatitude = Math.abs(latitude) + latitudeSpan;
+        if (worstLatitude >= MAX_LATITUDE) {
+            return FULL_LONGITUDE;
+        }
+        double sinSpan = Math.sin(range / EARTH_RADIUS) / Math.cos(Math.toRadians(worstLatitude));
+        return sinSpan >= 1 ? FULL_LONGITUDE : Math.toDegrees(Math.asin(sinSpan));
+    }
+
+    private long keyOf(int slot) {
+        return key(bucket(latitudes[slot]), bucket(longitudes[slot]));
+    }
+
+    private int bucket(double degrees) {
+        return (int) Math.floor(degrees / bucketSize);
+    }
+
+    private static long key(int latitudeBucket, int longitudeBucket) {
+        return ((long) latitudeBucket << 32) | (longitudeBucket & 0xFFFFFFFFL);
+    }
+
+    private static boolean hasPosition(CellDetails cell) {
+        return cell.getLatitude() != null && cell.getLongitude() != null;
+    }
+
+    /**
+     * Cells of one grid bucket, coordinates are kept in parallel arrays for batch distance checks
+     */
+    private static class Bucket {
+
+        private final int[] slots;
+        private final double[] latitudes;
+        private final double[] longitudes;
+
+        Bucket(int size) {
+            slots = new int[size];
+            latitudes = new double[size];
+            longitudes = new double[size];
+        }
+
+        void set(int index, int slot, double latitude, double longitude) {
+            slots[index] = slot;
+            latitudes[index] = latitude;
+            longitudes[index] = longitude;
+        }
+    }
+}
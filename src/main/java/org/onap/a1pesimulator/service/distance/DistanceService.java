@@ -13,24 +13,128 @@
 
 package org.onap.a1pesimulator.service.distance;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
-import org.onap.a1pesimulator.util.DistanceCalculator;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+/**
+ * Answers UE to cell range questions from a coverage cache. Coverage of a UE is computed once per cell topology
+ * version and recomputed only when the UE position or the cell topology changes.
+ */
 @Service
 public class DistanceService {
 
+    private static final int PARALLEL_THRESHOLD = 1000;
+
     private Double cellRange;
+    private volatile CellSpatialIndex cellIndex;
+    private final Map<String, UeCoverage> coverageByUeId = new ConcurrentHashMap<>();
 
     public DistanceService(@Value("${topology.cell.range}") Double cellRange) {
         this.cellRange = cellRange;
+        this.cellIndex = new CellSpatialIndex(Collections.emptyList(), cellRange);
+    }
+
+    /**
+     * Rebuilds the spatial index used for range queries, has to be called whenever the cell topology is reloaded.
+     * Cached coverage of all UEs becomes stale and is recomputed on next access.
+     */
+    public void indexCells(Collection<CellDetails> cells) {
+        cellIndex = new CellSpatialIndex(cells, cellRange);
     }
 
-    public boolean isInRange(CellDetails cell, UserEquipment ue) {
-        return DistanceCalculator
-                       .isInRange(cell.getLatitude(), cell.getLongitude(), ue.getLatitude(), ue.getLongitude(),
-                               cellRange);
+    /**
+     * Computes coverage of given UEs up front, in parallel for large topologies, and drops coverage of UEs which
+     * are not present anymore
+     */
+    public void refreshCoverage(Collection<UserEquipment> ues) {
+        Stream<UserEquipment> stream = ues.size() >= PARALLEL_THRESHOLD ? ues.parallelStream() : ues.stream();
+        stream.forEach(this::getCoverage);
+        Set<String> ueIds = ues.stream().map(UserEquipment::getId).collect(Collectors.toSet());
+        coverageByUeId.keySet().retainAll(ueIds);
+    }
+
+    public double getCellRange() {
+        return cellRange;
+    }
+
+    public int getIndexedCellCount() {
+        return cellIndex.size();
+    }
+
+    /**
+     * Sorted slots of cells in range of the UE in the current cell index, the array must not be modified
+     */
+    public int[] getCoverageSlots(UserEquipment ue) {
+        return getCoverage(ue).slots;
+    }
+
+    /**
+     * Installs coverage computed earlier against an index equal to the current one, e.g. read from a topology
+     * snapshot
+     */
+    public void restoreCoverage(UserEquipment ue, int[] slots) {
+        coverageByUeId.put(ue.getId(), new UeCoverage(cellIndex, ue.getLatitude(), ue.getLongitude(), slots));
+    }
+
+    public List<String> getCellIdsInRange(UserEquipment ue) {
+        UeCoverage coverage = getCoverage(ue);
+        return Arrays.stream(coverage.slots).mapToObj(coverage.index::getCellId).collect(Collectors.toList());
+    }
+
+    public boolean isInRange(String cellId, UserEquipment ue) {
+        UeCoverage coverage = getCoverage(ue);
+        int slot = coverage.index.getSlot(cellId);
+        return slot >= 0 && Arrays.binarySearch(coverage.slots, slot) >= 0;
+    }
+
+    private UeCoverage getCoverage(UserEquipment ue) {
+        CellSpatialIndex index = cellIndex;
+        UeCoverage coverage = coverageByUeId.get(ue.getId());
+        if (coverage != null && coverage.isValidFor(index, ue)) {
+            return coverage;
+        }
+        coverage = new UeCoverage(index, ue.getLatitude(), ue.getLongitude(),
+                hasPosition(ue) ? index.getSlotsInRange(ue.getLatitude(), ue.getLongitude()) : new int[0]);
+        coverageByUeId.put(ue.getId(), coverage);
+        return coverage;
+    }
+
+    private static boolean hasPosition(UserEquipment ue) {
+        return ue.getLatitude() != null && ue.getLongitude() != null;
+    }
+
+    /**
+     * Cells in range of a UE at the given position, as sorted slots of the index they were computed against
+     */
+    private static class UeCoverage {
+
+        private final CellSpatialIndex index;
+        private final Double latitude;
+        private final Double longitude;
+        private final int[] slots;
+
+        UeCoverage(CellSpatialIndex index, Double latitude, Double longitude, int[] slots) {
+            this.index = index;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.slots = slots;
+        }
+
+        boolean isValidFor(CellSpatialIndex currentIndex, UserEquipment ue) {
+            return index == currentIndex && Objects.equals(latitude, ue.getLatitude())
+                           && Objects.equals(longitude, ue.getLongitude());
+        }
     }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Coalesces STOMP notifications. Only the latest notification of every entity published within the window is kept,
+ * all kept notifications of a topic are sent as one list when the window elapses. Sending happens on the hub thread,
+ * so publishers never wait for the broker and every topic gets at most one message per window.
+ */
+@Service
+public class NotificationHub implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationHub.class);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final Map<String, Map<String, Object>> pendingByTopic = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executor;
+
+    public NotificationHub(SimpMessagingTemplate messagingTemplate,
+            @Value("${notification.coalesce.window.ms}") long windowMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-hub");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long window = Math.max(1, windowMs);
+        executor.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues the notification, replacing a notification of the same entity which was not sent yet
+     */
+    public void publish(String topic, String entityId, Object notification) {
+        pendingByTopic.computeIfAbsent(topic, t -> new ConcurrentHashMap<>()).put(entityId, notification);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    void flush() {
+        pendingByTopic.forEach((topic, pending) -> {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<Object> batch = new ArrayList<>(pending.size());
+            // removing one by one keeps notifications published during the flush for the next window
+            pending.keySet().forEach(entityId -> {
+                Object notification = pending.remove(entityId);
+                if (notification != null) {
+                    batch.add(notification);
+                }
+            });
+            try {
+                messagingTemplate.convertAndSend(topic, batch);
+            } catch (MessagingException e) {
+                log.warn("Cannot send {} notifications to {}", batch.size(), topic, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.pm;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.onap.a1pesimulator.data.fileready.BackfillRequest;
+import org.onap.a1pesimulator.data.fileready.BackfillRequest.BackfillOutput;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus.BackfillState;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs one backfill job from the command line and exits the application when it is finished, e.g.
+ * {@code --backfill.start=2021-06-01T00:00:00Z --backfill.end=2021-06-08T00:00:00Z --backfill.seed=7}.
+ * Optional arguments are {@code backfill.cells} (comma separated), {@code backfill.template} (VES event json file),
+ * {@code backfill.granPeriod} (seconds) and {@code backfill.output} (LOCATION or UPLOAD).
+ */
+@Component
+@ConditionalOnProperty("backfill.start")
+public class BackfillCommandLineRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(BackfillCommandLineRunner.class);
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    private final BackfillService backfillService;
+    private final ApplicationContext applicationContext;
+
+    public BackfillCommandLineRunner(BackfillService backfillService, ApplicationContext applicationContext) {
+        this.backfillService = backfillService;
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        BackfillStatus status = backfillService.start(toRequest(args));
+        while (status.getState() == BackfillState.RUNNING) {
+            status = backfillService.awaitStatus(status.getId(), PROGRESS_INTERVAL).orElseThrow();
+            log.info("Backfill progress: {} of {} files, {} failed, {} files/s", status.getWrittenFiles(),
+                    status.getTotalFiles(), status.getFailedFiles(), String.format("%.1f", status.getFilesPerSecond()));
+        }
+        if (status.getLastFailure() != null) {
+            log.warn("Backfill finished with {} failed files, the last one: {}", status.getFailedFiles(),
+                    status.getLastFailure());
+        }
+        int exitCode = status.getState() == BackfillState.COMPLETED && status.getFailedFiles() == 0 ? 0 : 1;
+        System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+    }
+
+    static BackfillRequest toRequest(ApplicationArguments args) {
+        String template = getOption(args, "backfill.template");
+        String cells = getOption(args, "backfill.cells");
+        String granPeriod = getOption(args, "backfill.granPeriod");
+        String seed = getOption(args, "backfill.seed");
+        String output = getOption(args, "backfill.output");
+        List<String> cellIds = cells == null ? null
+                : Arrays.stream(cells.split(",")).map(String::trim).filter(id -> !id.isEmpty())
+                          .collect(Collectors.toList());
+        return BackfillRequest.builder().start(Instant.parse(getOption(args, "backfill.start")))
+                       .end(Instant.parse(getOption(args, "backfill.end"))).cellIds(cellIds)
+                       .vesEvent(template == null ? null : JsonUtils.INSTANCE.deserializeFromFile(template,
+                               VesEvent.class))
+                       .granPeriod(granPeriod == null ? null : Integer.valueOf(granPeriod))
+                       .seed(seed == null ? 0 : Long.parseLong(seed))
+                       .output(output == null ? null : BackfillOutput.valueOf(output.toUpperCase())).build();
+    }
+
+    private static String getOption(ApplicationArguments args, String name) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+}
@@ -0,0 +1,345 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.pm;
+
+import static org.onap.a1pesimulator.util.Constants.TEMP_DIR;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.onap.a1pesimulator.data.fileready.BackfillRequest;
+import org.onap.a1pesimulator.data.fileready.BackfillRequest.BackfillOutput;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus.BackfillState;
+import org.onap.a1pesimulator.data.fileready.EventMemoryHolder;
+import org.onap.a1pesimulator.data.fileready.FileData;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.cell.RanCellsHolder;
+import org.onap.a1pesimulator.service.report.RanCellEventCustomizer;
+import org.onap.a1pesimulator.service.report.RanVesDataProvider;
+import org.onap.a1pesimulator.service.report.RanVesSender;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.onap.a1pesimulator.util.RanVesUtils;
+import org.onap.a1pesimulator.util.SimulationRandom;
+import org.onap.a1pesimulator.util.VnfConfigReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Generates PM Bulk Files for a past time range. Every cell and reporting period (ROP) is one independent unit of
+ * work, the units are split over a fork-join pool. Range values are drawn from a generator seeded by the job seed, the
+ * cell and the ROP, so the same request always produces the same files regardless of the parallelism.
+ */
+@Service
+public class BackfillService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BackfillService.class);
+    private static final int SPLIT_THRESHOLD = 16;
+    private static final String JOB_ID_PREFIX = "backfill-";
+    private static final long NANOS_IN_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final PMBulkFileService pmBulkFileService;
+    private final FtpServerService ftpServerService;
+    private final FileReadyEventService fileReadyEventService;
+    private final RanVesSender ranVesSender;
+    private final RanCellsHolder ranCellsHolder;
+    private final RanVesDataProvider vesDataProvider;
+    private final VnfConfigReader vnfConfigReader;
+    private final RanCellEventCustomizer eventCustomizer;
+    private final ZoneId zone;
+    private final String xmlPmLocation;
+    private final ForkJoinPool pool;
+    private final Map<String, BackfillJob> jobs = new ConcurrentHashMap<>();
+
+    public BackfillService(PMBulkFileService pmBulkFileService, FtpServerService ftpServerService,
+            FileReadyEventService fileReadyEventService, RanVesSender ranVesSender, RanCellsHolder ranCellsHolder,
+            RanVesDataProvider vesDataProvider, VnfConfigReader vnfConfigReader, RanCellEventCustomizer eventCustomizer,
+            Clock clock, @Value("${backfill.parallelism}") int parallelism,
+            @Value("${xml.pm.location}") String xmlPmLocation) {
+        this.pmBulkFileService = pmBulkFileService;
+        this.ftpServerService = ftpServerService;
+        this.fileReadyEventService = fileReadyEventService;
+        this.ranVesSender = ranVesSender;
+        this.ranCellsHolder = ranCellsHolder;
+        this.vesDataProvider = vesDataProvider;
+        this.vnfConfigReader = vnfConfigReader;
+        this.eventCustomizer = eventCustomizer;
+        this.zone = clock.getZone();
+        this.xmlPmLocation = xmlPmLocation;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Starts a backfill job in the background
+     *
+     * @param request time range, cells, template and seed
+     * @return status of the started job
+     * @throws IllegalArgumentException if the time range or the granularity period is not valid, or no reporting
+     *         period ends within the time range
+     */
+    public BackfillStatus start(BackfillRequest request) {
+        if (request.getStart() == null || request.getEnd() == null || !request.getEnd().isAfter(request.getStart())) {
+            throw new IllegalArgumentException("Backfill end has to be after its start");
+        }
+        int repPeriod = vnfConfigReader.getVnfConfig().getRepPeriod();
+        int granPeriod = Optional.ofNullable(request.getGranPeriod()).orElseGet(vesDataProvider::getRegularVesInterval);
+        if (repPeriod <= 0 || granPeriod <= 0) {
+            throw new IllegalArgumentException("Reporting and granularity periods have to be positive");
+        }
+
+        BackfillJob job = new BackfillJob(UUID.randomUUID().toString(), request, getCellIds(request.getCellIds()),
+                Optional.ofNullable(request.getVesEvent()).orElseGet(vesDataProvider::getPmVesEvent), repPeriod,
+                granPeriod);
+        if (job.output == BackfillOutput.LOCATION && !job.directory.isDirectory() && !job.directory.mkdirs()) {
+            throw new IllegalArgumentException("Cannot create PM Bulk File location " + job.directory);
+        }
+        jobs.put(job.id, job);
+        log.info("Backfill {} started: {} cells, {} reporting periods from {} to {}", job.id, job.cellIds.size(),
+                job.rops, job.firstRop, job.firstRop.plusSeconds((long) job.rops * repPeriod));
+
+        BackfillTask root = new BackfillTask(job, 0, job.totalFiles);
+        CompletableFuture.runAsync(root::invoke, pool).whenComplete((result, error) -> job.finish(error));
+        return job.toStatus();
+    }
+
+    public Collection<BackfillStatus> getAll() {
+        return jobs.values().stream().map(BackfillJob::toStatus).collect(Collectors.toList());
+    }
+
+    public Optional<BackfillStatus> getStatus(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(BackfillJob::toStatus);
+    }
+
+    /**
+     * Stops generation of further files, files being written are finished
+     */
+    public Optional<BackfillStatus> cancel(String id) {
+        BackfillJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.cancelled = true;
+        return Optional.of(job.toStatus());
+    }
+
+    /**
+     * Waits until the job finishes or the timeout elapses, whatever comes first
+     *
+     * @return current status of the job
+     */
+    public Optional<BackfillStatus> awaitStatus(String id, Duration timeout) throws InterruptedException {
+        BackfillJob job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        try {
+            job.finished.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // status tells the state and the error
+        }
+        return Optional.of(job.toStatus());
+    }
+
+    @Override
+    public void destroy() {
+        jobs.values().forEach(job -> job.cancelled = true);
+        pool.shutdownNow();
+    }
+
+    private List<String> getCellIds(List<String> requestedIds) {
+        Collection<String> ids = CollectionUtils.isEmpty(requestedIds) ? ranCellsHolder.getCellIds() : requestedIds;
+        TreeSet<String> cellIds = new TreeSet<>();
+        ids.forEach(id -> cellIds.add(ranCellsHolder.getCellById(id).getId()));
+        return new ArrayList<>(cellIds);
+    }
+
+    /**
+     * Generates the file of one cell and ROP. File names only carry the times rounded to 5 minutes, so the index of
+     * the unit is used as the running count to keep names of all cells and short ROPs apart.
+     */
+    private void generate(BackfillJob job, int index) {
+        String cellId = job.cellIds.get(index / job.rops);
+        Instant ropStart = job.firstRop.plusSeconds((long) (index % job.rops) * job.repPeriod);
+        SplittableRandom random =
+                new SplittableRandom(SimulationRandom.streamSeed(job.seed, cellId, ropStart.getEpochSecond()));
+        VesEvent cellEvent = JsonUtils.INSTANCE.clone(job.template);
+        RanVesUtils.enrichWithIdentifier(cellId, cellEvent);
+
+        List<EventMemoryHolder> events = new ArrayList<>(job.eventsPerRop);
+        for (int i = 1; i <= job.eventsPerRop; i++) {
+            Instant eventTime = ropStart.plusSeconds((long) i * job.granPeriod);
+            VesEvent event = eventCustomizer.apply(cellEvent, Clock.fixed(eventTime, zone), random);
+            events.add(new EventMemoryHolder(cellId, JOB_ID_PREFIX + cellId, job.granPeriod,
+                    ZonedDateTime.ofInstant(eventTime, zone), event));
+        }
+
+        try {
+            Mono<FileData> file = pmBulkFileService.generatePMBulkFileXml(events, job.directory, index);
+            if (job.output == BackfillOutput.UPLOAD) {
+                file = file.map(ftpServerService::uploadFileToFtp)
+                               .flatMap(fileReadyEventService::createFileReadyEventAndDeleteTmpFile)
+                               .doOnNext(fileData -> ranVesSender.send(fileData.getFileReadyEvent()));
+            }
+            if (file.blockOptional().isPresent()) {
+                job.writtenFiles.incrementAndGet();
+            } else {
+                job.fail(cellId, ropStart, "no file was generated");
+            }
+        } catch (RuntimeException e) {
+            job.fail(cellId, ropStart, e.getMessage());
+        }
+    }
+
+    /**
+     * Splits the range of cell × ROP indexes until it is small enough to be generated by one worker
+     */
+    private class BackfillTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final transient BackfillJob job;
+        private final int from;
+        private final int to;
+
+        BackfillTask(BackfillJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > SPLIT_THRESHOLD) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new BackfillTask(job, from, middle), new BackfillTask(job, middle, to));
+                return;
+            }
+            for (int index = from; index < to && !job.cancelled; index++) {
+                generate(job, index);
+            }
+        }
+    }
+
+    private class BackfillJob {
+
+        private final String id;
+        private final Instant start;
+        private final Instant end;
+        private final Instant firstRop;
+        private final List<String> cellIds;
+        private final VesEvent template;
+        private final int repPeriod;
+        private final int granPeriod;
+        private final int eventsPerRop;
+        private final int rops;
+        private final int totalFiles;
+        private final long seed;
+        private final BackfillOutput output;
+        private final File directory;
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong writtenFiles = new AtomicLong();
+        private final AtomicLong failedFiles = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile BackfillState state = BackfillState.RUNNING;
+        private volatile long elapsedNanos = -1;
+        private volatile String error;
+        private volatile String lastFailure;
+        private final CompletableFuture<Void> finished = new CompletableFuture<>();
+
+        BackfillJob(String id, BackfillRequest request, List<String> cellIds, VesEvent template, int repPeriod,
+                int granPeriod) {
+            this.id = id;
+            this.start = request.getStart();
+            this.end = request.getEnd();
+            this.cellIds = cellIds;
+            this.template = template;
+            this.repPeriod = repPeriod;
+            this.granPeriod = granPeriod;
+            this.eventsPerRop = Math.max(1, repPeriod / granPeriod);
+            // reporting periods ending after the start and not after the end
+            long firstEnd = (Math.floorDiv(start.getEpochSecond(), repPeriod) + 1) * repPeriod;
+            long lastEnd = Math.floorDiv(end.getEpochSecond(), repPeriod) * repPeriod;
+            if (lastEnd < firstEnd) {
+                throw new IllegalArgumentException("No reporting period ends within the backfill time range");
+            }
+            long ropCount = (lastEnd - firstEnd) / repPeriod + 1;
+            if (ropCount * cellIds.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Backfill of more than " + Integer.MAX_VALUE + " files");
+            }
+            this.firstRop = Instant.ofEpochSecond(firstEnd - repPeriod);
+            this.rops = (int) ropCount;
+            this.totalFiles = rops * cellIds.size();
+            this.seed = request.getSeed();
+            this.output = Optional.ofNullable(request.getOutput()).orElse(BackfillOutput.LOCATION);
+            this.directory = new File(output == BackfillOutput.LOCATION ? xmlPmLocation : TEMP_DIR);
+        }
+
+        void fail(String cellId, Instant ropStart, String reason) {
+            failedFiles.incrementAndGet();
+            lastFailure = String.format("Cell %s, ROP %s: %s", cellId, ropStart, reason);
+            log.warn("Backfill {} failed for cell {} and ROP {}: {}", id, cellId, ropStart, reason);
+        }
+
+        void finish(Throwable throwable) {
+            elapsedNanos = System.nanoTime() - startNanos;
+            if (throwable != null) {
+                error = throwable.getMessage();
+                state = BackfillState.FAILED;
+            } else {
+                state = cancelled ? BackfillState.CANCELLED : BackfillState.COMPLETED;
+            }
+            BackfillStatus status = toStatus();
+            log.info("Backfill {} {}: {} of {} files written, {} failed in {} ms ({} files/s)", id, state,
+                    status.getWrittenFiles(), totalFiles, status.getFailedFiles(), status.getElapsedMillis(),
+                    String.format("%.1f", status.getFilesPerSecond()));
+            finished.complete(null);
+        }
+
+        BackfillStatus toStatus() {
+            long elapsed = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startNanos;
+            long written = writtenFiles.get();
+            return BackfillStatus.builder().id(id).state(state).start(start).end(end).cells(cellIds.size())
+                           .reportingPeriods(rops).totalFiles(totalFiles).writtenFiles(written)
+                           .failedFiles(failedFiles.get()).elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsed))
+                           .filesPerSecond(elapsed > 0 ? written * (double) NANOS_IN_SECOND / elapsed : 0)
+                           .error(error).lastFailure(lastFailure).build();
+        }
+    }
+}
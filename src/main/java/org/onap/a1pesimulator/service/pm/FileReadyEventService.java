@@ -18,6 +18,7 @@ import static org.onap.a1pesimulator.util.Constants.FILE_READY_CHANGE_IDENTIFIER
 import static org.onap.a1pesimulator.util.Constants.FILE_READY_CHANGE_TYPE;
 
 import java.io.File;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
@@ -44,6 +45,7 @@ import reactor.core.publisher.Mono;
 public class FileReadyEventService {
 
     private final FtpServerService ftpServerService;
+    private final Clock clock;
 
     @Value("${file.ready.version}")
     private String version;
@@ -72,8 +74,9 @@ public class FileReadyEventService {
     @Value("${file.ready.reportingEntityName}")
     private String reportingEntityName;
 
-    public FileReadyEventService(FtpServerService ftpServerService) {
+    public FileReadyEventService(FtpServerService ftpServerService, Clock clock) {
         this.ftpServerService = ftpServerService;
+        this.clock = clock;
     }
 
     /**
@@ -144,7 +147,7 @@ public class FileReadyEventService {
                 .priority(priority)
                 .reportingEntityName(reportingEntityName)
                 .sequence(0)
-                .timeZoneOffset(ZonedDateTime.now().getOffset().toString())
+                .timeZoneOffset(ZonedDateTime.now(clock).getOffset().toString())
                 .build();
     }
 
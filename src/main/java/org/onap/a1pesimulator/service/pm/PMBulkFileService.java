@@ -24,6 +24,7 @@ import static org.onap.a1pesimulator.util.Convertors.truncateToSpecifiedMinutes;
 import static org.onap.a1pesimulator.util.Convertors.zonedDateTimeToString;
 
 import java.io.File;
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.Collections;
 import java.util.Comparator;
@@ -66,8 +67,10 @@ import reactor.core.publisher.Mono;
 public class PMBulkFileService {
 
     private static final Logger log = LoggerFactory.getLogger(PMBulkFileService.class);
+    private static final String RC_SEPARATOR = "_-_";
     private static Map<String, AtomicInteger> uniqueFileNamesWithCount;
     private final VnfConfigReader vnfConfigReader;
+    private final Clock clock;
 
     @Value("${xml.pm.bulk.fileFormatVersion}")
     private String fileFormatVersion;
@@ -84,8 +87,9 @@ public class PMBulkFileService {
     @Value("${xml.pm.bulk.domainId}")
     private String domainId;
 
-    public PMBulkFileService(VnfConfigReader vnfConfigReader) {
+    public PMBulkFileService(VnfConfigReader vnfConfigReader, Clock clock) {
         this.vnfConfigReader = vnfConfigReader;
+        this.clock = clock;
     }
 
     /**
@@ -95,6 +99,28 @@ public class PMBulkFileService {
      * @return generated file in Mono object
      */
     public Mono<FileData> generatePMBulkFileXml(List<EventMemoryHolder> collectedEvents) {
+        return generatePMBulkFileXml(collectedEvents, getXmlFile(collectedEvents));
+    }
+
+    /**
+     * Generate PM Bulk File xml from given events into the directory. The running count is chosen by the caller instead
+     * of being counted, so files generated in parallel get stable names.
+     *
+     * @param events events of one reporting period
+     * @param directory target directory
+     * @param runningCount running count appended to the name if above 0
+     * @return generated file in Mono object
+     */
+    public Mono<FileData> generatePMBulkFileXml(List<EventMemoryHolder> events, File directory, int runningCount) {
+        StringBuilder fileNameBuilder = getFileNameBuilder(events);
+        if (runningCount > 0) {
+            fileNameBuilder.append(RC_SEPARATOR).append(runningCount);
+        }
+        fileNameBuilder.append(".xml");
+        return generatePMBulkFileXml(events, new File(directory, fileNameBuilder.toString()));
+    }
+
+    private Mono<FileData> generatePMBulkFileXml(List<EventMemoryHolder> collectedEvents, File xmlFile) {
 
         try {
             DocumentBuilderFactory docFactory = DocumentBuilderFactory.newInstance();
@@ -149,7 +175,7 @@ public class PMBulkFileService {
             fileFooter.appendChild(measCollecFooter);
             measCollecFooter.setAttribute("endTime", zonedDateTimeToString(latestEventTime(collectedEvents), ISO_8601_DATE));
 
-            File xmlFile = writeDocumentIntoXmlFile(doc, collectedEvents);
+            writeDocumentIntoXmlFile(doc, xmlFile);
 
             Mono<FileData> justMono = Mono.just(FileData.builder().pmBulkFile(xmlFile).startEventDate(earliestEventTime(collectedEvents))
                     .endEventDate(latestEventTime(collectedEvents)).build());
@@ -232,10 +258,9 @@ public class PMBulkFileService {
      * Converts Document into XML file and adds proper headers
      *
      * @param doc Document
-     * @param collectedEvents list of stored events
-     * @return newly created File in xml format
+     * @param xmlFile target file
      */
-    private File writeDocumentIntoXmlFile(Document doc, List<EventMemoryHolder> collectedEvents) throws TransformerException {
+    private void writeDocumentIntoXmlFile(Document doc, File xmlFile) throws TransformerException {
         TransformerFactory transformerFactory = TransformerFactory.newInstance();
         transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
         transformerFactory.setAttribute(XMLConstants.ACCESS_EXTERNAL_STYLESHEET, "");
@@ -246,11 +271,9 @@ public class PMBulkFileService {
         Node pi = doc.createProcessingInstruction("xml-stylesheet", "type=\"text/xsl\" href=\"MeasDataCollection.xsl\"");
         doc.insertBefore(pi, doc.getDocumentElement());
 
-        File xmlFile = getXmlFile(collectedEvents);
         StreamResult result = new StreamResult(xmlFile);
         DOMSource source = new DOMSource(doc);
         tr.transform(source, result);
-        return xmlFile;
     }
 
     /**
@@ -260,6 +283,20 @@ public class PMBulkFileService {
      * @return newly created File
      */
     private File getXmlFile(List<EventMemoryHolder> collectedEvents) {
+        StringBuilder fileNameBuilder = getFileNameBuilder(collectedEvents);
+        fileNameBuilder.append(appendRcIfNecessary(fileNameBuilder));
+        fileNameBuilder.append(".xml");
+
+        return new File(TEMP_DIR, fileNameBuilder.toString());
+    }
+
+    /**
+     * File name without the running count and extension, derived from the event times
+     *
+     * @param collectedEvents list of stored events
+     * @return file name builder
+     */
+    private StringBuilder getFileNameBuilder(List<EventMemoryHolder> collectedEvents) {
         StringBuilder fileNameBuilder = new StringBuilder("C");
         ZonedDateTime firstEventTime = earliestEventTime(collectedEvents);
         ZonedDateTime lastEventTime = latestEventTime(collectedEvents);
@@ -268,10 +305,7 @@ public class PMBulkFileService {
         fileNameBuilder.append(zonedDateTimeToString(lastEventTime, YYYYMMDD_PATTERN)).append(".");
         fileNameBuilder.append(zonedDateTimeToString(truncateToSpecifiedMinutes(lastEventTime, 5), "HHmmZ"));
         fileNameBuilder.append("_").append(domainId);
-        fileNameBuilder.append(appendRcIfNecessary(fileNameBuilder));
-        fileNameBuilder.append(".xml");
-
-        return new File(TEMP_DIR, fileNameBuilder.toString());
+        return fileNameBuilder;
     }
 
     /**
@@ -293,7 +327,7 @@ public class PMBulkFileService {
             uniqueFileNamesWithCount.clear(); //we have new dates, so we can clear existing list to not grow infinitely
             uniqueFileNamesWithCount.put(fileName, new AtomicInteger(0));
         }
-        return sequence > 0 ? "_-_" + sequence : EMPTY_STRING;
+        return sequence > 0 ? RC_SEPARATOR + sequence : EMPTY_STRING;
     }
 
     /**
@@ -302,11 +336,11 @@ public class PMBulkFileService {
      * @param collectedEvents list of compared events
      * @return the earliest ZonedDateTime
      */
-    private static ZonedDateTime earliestEventTime(List<EventMemoryHolder> collectedEvents) {
+    private ZonedDateTime earliestEventTime(List<EventMemoryHolder> collectedEvents) {
         return collectedEvents.stream()
                 .map(EventMemoryHolder::getEventDate)
                 .min(comparing(ZonedDateTime::toEpochSecond, Comparator.nullsLast(Comparator.naturalOrder())))
-                .orElse(ZonedDateTime.now());
+                .orElseGet(() -> ZonedDateTime.now(clock));
     }
 
     /**
@@ -315,10 +349,10 @@ public class PMBulkFileService {
      * @param collectedEvents list of compared events
      * @return the latest ZonedDateTime
      */
-    private static ZonedDateTime latestEventTime(List<EventMemoryHolder> collectedEvents) {
+    private ZonedDateTime latestEventTime(List<EventMemoryHolder> collectedEvents) {
         return collectedEvents.stream().map(EventMemoryHolder::getEventDate)
                 .max(comparing(ZonedDateTime::toEpochSecond, Comparator.nullsLast(Comparator.naturalOrder())))
-                .orElse(ZonedDateTime.now());
+                .orElseGet(() -> ZonedDateTime.now(clock));
     }
 
     /**
@@ -16,6 +16,7 @@ package org.onap.a1pesimulator.service.pm;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
+import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -48,13 +49,15 @@ public class RanFileReadyHolder {
     private final FtpServerService ftpServerService;
     private final PMBulkFileService xmlFileService;
     private final FileReadyEventService fileReadyEventService;
+    private final Clock clock;
 
     public RanFileReadyHolder(RanVesSender ranVesSender, FtpServerService ftpServerService, PMBulkFileService xmlFileService,
-            FileReadyEventService fileReadyEventService) {
+            FileReadyEventService fileReadyEventService, Clock clock) {
         this.ranVesSender = ranVesSender;
         this.ftpServerService = ftpServerService;
         this.xmlFileService = xmlFileService;
         this.fileReadyEventService = fileReadyEventService;
+        this.clock = clock;
     }
 
     /**
@@ -103,10 +106,10 @@ public class RanFileReadyHolder {
         try {
             Map<String, List<EventMemoryHolder>> events = getCollectedEventsByCell();
             if (events.containsKey(cellId)) {
-                events.get(cellId).add(new EventMemoryHolder(cellId, jobId, granPeriod, ZonedDateTime.now(), vesEvent));
+                events.get(cellId).add(new EventMemoryHolder(cellId, jobId, granPeriod, ZonedDateTime.now(clock), vesEvent));
             } else {
                 List<EventMemoryHolder> cellEvents = Collections.synchronizedList(
-                        new ArrayList<>(List.of(new EventMemoryHolder(cellId, jobId, granPeriod, ZonedDateTime.now(), vesEvent))));
+                        new ArrayList<>(List.of(new EventMemoryHolder(cellId, jobId, granPeriod, ZonedDateTime.now(clock), vesEvent))));
                 events.put(cellId, cellEvents);
             }
             log.trace("Saving VES event for cell {} with granularity period {} and sequence number {}", cellId, granPeriod, events.get(cellId).size());
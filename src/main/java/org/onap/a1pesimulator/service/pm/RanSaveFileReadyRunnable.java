@@ -13,14 +13,13 @@
 
 package org.onap.a1pesimulator.service.pm;
 
-import java.util.Collection;
 import java.util.UUID;
 
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.exception.VesBrokerException;
 import org.onap.a1pesimulator.service.common.AbstractRanRunnable;
 import org.onap.a1pesimulator.service.common.EventCustomizer;
-import org.onap.a1pesimulator.service.report.OnEventAction;
+import org.onap.a1pesimulator.service.report.OnEventActionBus;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,8 +32,8 @@ public class RanSaveFileReadyRunnable extends AbstractRanRunnable {
     private final RanFileReadyHolder ranFileReadyHolder;
 
     public RanSaveFileReadyRunnable(RanFileReadyHolder ranFileReadyHolder, String cellId, VesEvent event, EventCustomizer eventCustomizer, Integer interval,
-            Collection<OnEventAction> onEventActions) {
-        super(event, eventCustomizer, onEventActions);
+            OnEventActionBus onEventActionBus) {
+        super(event, eventCustomizer, onEventActionBus);
         this.ranFileReadyHolder = ranFileReadyHolder;
         this.granPeriod = interval;
         this.cellId = cellId;
@@ -44,8 +43,7 @@ public class RanSaveFileReadyRunnable extends AbstractRanRunnable {
     @Override
     public void run() {
         try {
-            VesEvent customizedEvent = eventCustomizer.apply(event);
-            onEventAction.forEach(action -> action.onEvent(customizedEvent));
+            VesEvent customizedEvent = customizeAndNotify();
             ranFileReadyHolder.saveEventToMemory(customizedEvent, cellId, jobId, granPeriod);
         } catch (VesBrokerException e) {
             log.error("Saving file ready event failed: {}", e.getMessage());
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+import static org.onap.a1pesimulator.util.Constants.MEASUREMENT_FIELD_IDENTIFIER;
+import static org.onap.a1pesimulator.util.Constants.MEASUREMENT_FIELD_VALUE;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.util.RanVesUtils;
+
+/**
+ * Slots of the numeric additional measurements of an event template, compiled once per template. Every measurement
+ * with a "value" entry, except the identifier, gets a slot. Constant values are parsed here, so samples only carry
+ * values generated for ranges.
+ */
+public class MeasurementIndex {
+
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final String cellId;
+    private final int[] constants;
+    private final boolean[] constant;
+
+    private MeasurementIndex(VesEvent template) {
+        String identifier = null;
+        int[] values = new int[0];
+        boolean[] known = new boolean[0];
+        if (template.getMeasurementFields() != null
+                    && template.getMeasurementFields().getAdditionalMeasurements() != null) {
+            int count = template.getMeasurementFields().getAdditionalMeasurements().size();
+            values = new int[count];
+            known = new boolean[count];
+            for (AdditionalMeasurement measurement : template.getMeasurementFields().getAdditionalMeasurements()) {
+                String value = measurement.getHashMap() == null ? null
+                                       : measurement.getHashMap().get(MEASUREMENT_FIELD_VALUE);
+                if (value == null) {
+                    continue;
+                }
+                if (MEASUREMENT_FIELD_IDENTIFIER.equalsIgnoreCase(measurement.getName())) {
+                    identifier = value;
+                } else if (!slots.containsKey(measurement.getName())) {
+                    int slot = slots.size();
+                    slots.put(measurement.getName(), slot);
+                    known[slot] = parseConstant(value, values, slot);
+                }
+            }
+        }
+        this.cellId = identifier;
+        this.constants = Arrays.copyOf(values, slots.size());
+        this.constant = Arrays.copyOf(known, slots.size());
+    }
+
+    public static MeasurementIndex of(VesEvent template) {
+        return new MeasurementIndex(template);
+    }
+
+    /**
+     * Slot of the measurement or -1 if the template has no numeric measurement of that name
+     */
+    public int slotOf(String name) {
+        Integer slot = slots.get(name);
+        return slot == null ? -1 : slot;
+    }
+
+    public int size() {
+        return constants.length;
+    }
+
+    /**
+     * Value of the identifier measurement of the template, null if the template has none
+     */
+    public String getCellId() {
+        return cellId;
+    }
+
+    /**
+     * New sample holding the constant values of the template
+     */
+    public MeasurementSample newSample() {
+        return new MeasurementSample(this, constants.clone(), constant.clone());
+    }
+
+    /**
+     * Sample read from an already generated event, for events not produced through a sample aware customizer
+     */
+    public MeasurementSample sampleOf(VesEvent event) {
+        MeasurementSample sample = newSample();
+        if (event.getMeasurementFields() == null || event.getMeasurementFields().getAdditionalMeasurements() == null) {
+            return sample;
+        }
+        for (AdditionalMeasurement measurement : event.getMeasurementFields().getAdditionalMeasurements()) {
+            int slot = slotOf(measurement.getName());
+            String value = measurement.getHashMap() == null ? null
+                                   : measurement.getHashMap().get(MEASUREMENT_FIELD_VALUE);
+            if (slot >= 0 && value != null && !RanVesUtils.isRange(value)) {
+                try {
+                    sample.set(slot, Integer.parseInt(value));
+                } catch (NumberFormatException e) {
+                    // not a number, slot stays empty
+                }
+            }
+        }
+        return sample;
+    }
+
+    private static boolean parseConstant(String value, int[] values, int slot) {
+        if (RanVesUtils.isRange(value)) {
+            return false;
+        }
+        try {
+            values[slot] = Integer.parseInt(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+/**
+ * Numeric values of one generated event, addressed by the slots of its {@link MeasurementIndex}. Customizers record
+ * values as they generate them, so event actions can read them without searching and parsing the event.
+ */
+public class MeasurementSample {
+
+    private final MeasurementIndex index;
+    private final int[] values;
+    private final boolean[] present;
+
+    MeasurementSample(MeasurementIndex index, int[] values, boolean[] present) {
+        this.index = index;
+        this.values = values;
+        this.present = present;
+    }
+
+    public MeasurementIndex getIndex() {
+        return index;
+    }
+
+    public String getCellId() {
+        return index.getCellId();
+    }
+
+    public boolean has(int slot) {
+        return slot >= 0 && present[slot];
+    }
+
+    public int get(int slot) {
+        return values[slot];
+    }
+
+    public void set(int slot, int value) {
+        values[slot] = value;
+        present[slot] = true;
+    }
+
+    /**
+     * Records the value of the named measurement, values of measurements unknown to the index are dropped
+     */
+    public void record(String name, int value) {
+        int slot = index.slotOf(name);
+        if (slot >= 0) {
+            set(slot, value);
+        }
+    }
+}
@@ -19,4 +19,18 @@ import org.onap.a1pesimulator.data.ves.VesEvent;
 public interface OnEventAction {
 
     void onEvent(VesEvent event);
+
+    /**
+     * Called with the generated event and its numeric values, actions reading measurements should prefer the sample
+     */
+    default void onEvent(VesEvent event, MeasurementSample sample) {
+        onEvent(event);
+    }
+
+    /**
+     * Synchronous actions run on the generating thread before the event is sent, others run on their own thread
+     */
+    default boolean isSynchronous() {
+        return false;
+    }
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Delivers generated events to {@link OnEventAction}s. Synchronous actions run on the generating thread, every other
+ * action gets its own bounded queue and consumer thread, which takes the queued events in batches. Generation never
+ * waits for an asynchronous action: an event not fitting into a full queue is dropped for that action and counted.
+ * Drops and late batches are not logged one by one, a summary of them is logged once per interval.
+ */
+@Service
+public class OnEventActionBus implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OnEventActionBus.class);
+    private static final int MAX_BATCH = 256;
+
+    private final List<OnEventAction> synchronousActions = new ArrayList<>();
+    private final List<Consumer> consumers = new ArrayList<>();
+    private final long lagWarnNanos;
+
+    public OnEventActionBus(Collection<OnEventAction> onEventActions,
+            @Value("${event.action.queue.capacity}") int queueCapacity,
+            @Value("${event.action.lag.warn.ms}") long lagWarnMs) {
+        this.lagWarnNanos = TimeUnit.MILLISECONDS.toNanos(lagWarnMs);
+        for (OnEventAction action : onEventActions) {
+            if (action.isSynchronous()) {
+                synchronousActions.add(action);
+            } else {
+                consumers.add(new Consumer(action, queueCapacity));
+            }
+        }
+    }
+
+    public void publish(VesEvent event, MeasurementSample sample) {
+        synchronousActions.forEach(action -> runSafely(action, event, sample));
+        long now = System.nanoTime();
+        consumers.forEach(consumer -> consumer.offer(new Entry(event, sample, now, null)));
+    }
+
+    /**
+     * Queue state of every asynchronous action
+     */
+    public List<ActionStats> getStats() {
+        List<ActionStats> stats = new ArrayList<>(consumers.size());
+        consumers.forEach(consumer -> stats.add(consumer.getStats()));
+        return stats;
+    }
+
+    /**
+     * Logs events dropped and batches handled late by every asynchronous action since the previous summary
+     */
+    @Scheduled(fixedRateString = "${event.action.stats.interval.ms}",
+            initialDelayString = "${event.action.stats.interval.ms}")
+    public void logSummary() {
+        consumers.forEach(Consumer::logSummary);
+    }
+
+    /**
+     * Waits until all events published so far are handled by the asynchronous actions
+     *
+     * @return false if the timeout elapsed first
+     */
+    boolean awaitCompletion(long timeout, TimeUnit unit) throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(consumers.size());
+        for (Consumer consumer : consumers) {
+            consumer.queue.put(new Entry(null, null, System.nanoTime(), latch));
+        }
+        return latch.await(timeout, unit);
+    }
+
+    @Override
+    public void destroy() {
+        consumers.forEach(consumer -> consumer.thread.interrupt());
+    }
+
+    private static void runSafely(OnEventAction action, VesEvent event, MeasurementSample sample) {
+        try {
+            action.onEvent(event, sample);
+        } catch (RuntimeException e) {
+            log.error("Event action {} failed", action.getClass().getSimpleName(), e);
+        }
+    }
+
+    private class Consumer {
+
+        private final OnEventAction action;
+        private final BlockingQueue<Entry> queue;
+        private final Thread thread;
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicLong handled = new AtomicLong();
+        private final AtomicLong lateBatches = new AtomicLong();
+        private volatile long lastLagNanos;
+        private volatile long maxLagNanos;
+        // state at the previous summary, updated by the summary only
+        private long summaryDropped;
+        private long summaryLateBatches;
+        private volatile long intervalMaxLagNanos;
+
+        Consumer(OnEventAction action, int queueCapacity) {
+            this.action = action;
+            this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+            this.thread = new Thread(this::consume, "event-action-" + action.getClass().getSimpleName());
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void offer(Entry entry) {
+            if (!queue.offer(entry)) {
+                dropped.incrementAndGet();
+            }
+        }
+
+        private void consume() {
+            List<Entry> batch = new ArrayList<>(MAX_BATCH);
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    batch.add(queue.take());
+                    queue.drainTo(batch, MAX_BATCH - 1);
+                    handle(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void handle(List<Entry> batch) {
+            long lag = System.nanoTime() - batch.get(0).enqueuedNanos;
+            lastLagNanos = lag;
+            if (lag > maxLagNanos) {
+                maxLagNanos = lag;
+            }
+            if (lag > intervalMaxLagNanos) {
+                intervalMaxLagNanos = lag;
+            }
+            if (lag > lagWarnNanos) {
+                lateBatches.incrementAndGet();
+            }
+            for (Entry entry : batch) {
+                if (entry.barrier != null) {
+                    entry.barrier.countDown();
+                } else {
+                    runSafely(action, entry.event, entry.sample);
+                    handled.incrementAndGet();
+                }
+            }
+        }
+
+        synchronized void logSummary() {
+            long droppedNow = dropped.get();
+            long lateNow = lateBatches.get();
+            long intervalMaxLag = intervalMaxLagNanos;
+            intervalMaxLagNanos = 0;
+            if (droppedNow == summaryDropped && lateNow == summaryLateBatches) {
+                return;
+            }
+            log.warn("Event action {} since last summary: {} events dropped, {} batches late by up to {} ms, "
+                             + "{} events queued", action.getClass().getSimpleName(), droppedNow - summaryDropped,
+                    lateNow - summaryLateBatches, TimeUnit.NANOSECONDS.toMillis(intervalMaxLag), queue.size());
+            summaryDropped = droppedNow;
+            summaryLateBatches = lateNow;
+        }
+
+        ActionStats getStats() {
+            return new ActionStats(action.getClass().getSimpleName(), queue.size(), handled.get(), dropped.get(),
+                    lateBatches.get(), TimeUnit.NANOSECONDS.toMillis(lastLagNanos),
+                    TimeUnit.NANOSECONDS.toMillis(maxLagNanos));
+        }
+    }
+
+    private static final class Entry {
+
+        private final VesEvent event;
+        private final MeasurementSample sample;
+        private final long enqueuedNanos;
+        private final CountDownLatch barrier;
+
+        Entry(VesEvent event, MeasurementSample sample, long enqueuedNanos, CountDownLatch barrier) {
+            this.event = event;
+            this.sample = sample;
+            this.enqueuedNanos = enqueuedNanos;
+            this.barrier = barrier;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ActionStats {
+
+        private final String action;
+        private final int pending;
+        private final long handled;
+        private final long dropped;
+        private final long lateBatches;
+        private final long lastLagMillis;
+        private final long maxLagMillis;
+    }
+}
@@ -13,8 +13,10 @@
 
 package org.onap.a1pesimulator.service.report;
 
+import java.time.Clock;
 import java.util.List;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
@@ -30,29 +32,60 @@ public class RanCellEventCustomizer implements EventCustomizer {
 
     private static final String UE_PARAM_TRAFFIC_MODEL_RANGE = "[[20-50]]";
     private final RanUeHolder ranUeHolder;
+    private final Clock clock;
 
-    public RanCellEventCustomizer(RanUeHolder ueHolder) {
+    public RanCellEventCustomizer(RanUeHolder ueHolder, Clock clock) {
         this.ranUeHolder = ueHolder;
+        this.clock = clock;
     }
 
     @Override
     public VesEvent apply(VesEvent t) {
         VesEvent event = JsonUtils.INSTANCE.clone(t);
-        return customizeEvent(event);
+        return customizeEvent(event, clock, null, null);
     }
 
-    private VesEvent customizeEvent(VesEvent event) {
-        RanVesUtils.updateHeader(event);
+    @Override
+    public VesEvent apply(VesEvent t, MeasurementSample sample) {
+        VesEvent event = JsonUtils.INSTANCE.clone(t);
+        return customizeEvent(event, clock, sample, null);
+    }
+
+    @Override
+    public VesEvent apply(VesEvent t, MeasurementSample sample, SplittableRandom random) {
+        VesEvent event = JsonUtils.INSTANCE.clone(t);
+        return customizeEvent(event, clock, sample, random);
+    }
+
+    /**
+     * Customizes the event as of the time of the given clock with range values drawn from the given generator, used for
+     * reproducible events outside of the running simulation
+     */
+    public VesEvent apply(VesEvent t, Clock eventClock, SplittableRandom random) {
+        VesEvent event = JsonUtils.INSTANCE.clone(t);
+        return customizeEvent(event, eventClock, null, random);
+    }
+
+    private VesEvent customizeEvent(VesEvent event, Clock eventClock, MeasurementSample sample,
+            SplittableRandom random) {
+        RanVesUtils.updateHeader(event, eventClock);
         enrichWithUeData(event);
-        randomizeEvent(event);
+        randomizeEvent(event, sample, random);
         return event;
     }
 
-    private void randomizeEvent(VesEvent event) {
+    private void randomizeEvent(VesEvent event, MeasurementSample sample, SplittableRandom random) {
         List<AdditionalMeasurement> additionalMeasurementsToRandomize =
                 event.getMeasurementFields().getAdditionalMeasurements();
-        event.getMeasurementFields().setAdditionalMeasurements(
-                RanVesUtils.randomizeAdditionalMeasurements(additionalMeasurementsToRandomize));
+        List<AdditionalMeasurement> randomized;
+        if (random != null) {
+            randomized = RanVesUtils.randomizeAdditionalMeasurements(additionalMeasurementsToRandomize, sample, random);
+        } else if (sample != null) {
+            randomized = RanVesUtils.randomizeAdditionalMeasurements(additionalMeasurementsToRandomize, sample);
+        } else {
+            randomized = RanVesUtils.randomizeAdditionalMeasurements(additionalMeasurementsToRandomize);
+        }
+        event.getMeasurementFields().setAdditionalMeasurements(randomized);
     }
 
     private void enrichWithUeData(VesEvent event) {
@@ -14,12 +14,14 @@
 package org.onap.a1pesimulator.service.report;
 
 import java.text.MessageFormat;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.SplittableRandom;
 
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
@@ -37,20 +39,31 @@ public class RanCellFailureEventCustomizer implements EventCustomizer {
     private static final String UE_PARAM_TRAFFIC_MODEL_RANGE = "[[50->10]]";
     private final RanUeHolder ranUeHolder;
     private final VesEvent event;
+    private final Clock clock;
 
     private final Map<Key, Value> additionalMeasurementsValues = new HashMap<>();
     private final ValueFactory valueFactory;
 
-    public RanCellFailureEventCustomizer(VesEvent event, RanUeHolder ranUeHolder) {
+    /**
+     * @param random stream of the cell, random ranges are resolved with it
+     */
+    public RanCellFailureEventCustomizer(VesEvent event, RanUeHolder ranUeHolder, Clock clock,
+            SplittableRandom random) {
         this.ranUeHolder = ranUeHolder;
         this.event = event;
-        valueFactory = new ValueFactory();
+        this.clock = clock;
+        valueFactory = new ValueFactory(random);
         collectAdditionalMeasurementValues(event);
     }
 
     @Override
     public VesEvent apply(VesEvent t) {
-        return customizeEvent(JsonUtils.INSTANCE.clone(this.event));
+        return customizeEvent(JsonUtils.INSTANCE.clone(this.event), null);
+    }
+
+    @Override
+    public VesEvent apply(VesEvent t, MeasurementSample sample) {
+        return customizeEvent(JsonUtils.INSTANCE.clone(this.event), sample);
     }
 
     private void collectAdditionalMeasurementValues(VesEvent event) {
@@ -69,22 +82,22 @@ public class RanCellFailureEventCustomizer implements EventCustomizer {
         }
     }
 
-    private VesEvent customizeEvent(VesEvent event) {
-        RanVesUtils.updateHeader(event);
+    private VesEvent customizeEvent(VesEvent event, MeasurementSample sample) {
+        RanVesUtils.updateHeader(event, clock);
         enrichWithUeData(event);
-        resolveRanges(event);
+        resolveRanges(event, sample);
         return event;
     }
 
-    private void resolveRanges(VesEvent event) {
+    private void resolveRanges(VesEvent event, MeasurementSample sample) {
         List<AdditionalMeasurement> additionalMeasurementsToResolve =
                 event.getMeasurementFields().getAdditionalMeasurements();
 
-        additionalMeasurementsToResolve.forEach(this::resolveRanges);
+        additionalMeasurementsToResolve.forEach(m -> resolveRanges(m, sample));
         event.getMeasurementFields().setAdditionalMeasurements(additionalMeasurementsToResolve);
     }
 
-    private void resolveRanges(AdditionalMeasurement m) {
+    private void resolveRanges(AdditionalMeasurement m, MeasurementSample sample) {
         for (Entry<String, String> entry : m.getHashMap().entrySet()) {
             Key key = new Key(m.getName(), entry.getKey());
             if (!additionalMeasurementsValues.containsKey(key)) {
@@ -93,6 +106,9 @@ public class RanCellFailureEventCustomizer implements EventCustomizer {
             Value value = additionalMeasurementsValues.get(key);
             value.current = value.calculateCurrentValue();
             entry.setValue(value.current.toString());
+            if (sample != null && Constants.MEASUREMENT_FIELD_VALUE.equals(entry.getKey())) {
+                sample.record(m.getName(), value.current);
+            }
         }
     }
 
@@ -118,11 +134,17 @@ public class RanCellFailureEventCustomizer implements EventCustomizer {
 
     private static class ValueFactory {
 
+        private final SplittableRandom random;
+
+        ValueFactory(SplittableRandom random) {
+            this.random = random;
+        }
+
         public Value getInstance(String value) {
             String[] split;
             if (RanVesUtils.isRandomRange(value)) {
                 split = RanVesUtils.splitRandomRange(value);
-                return new RandomValue(Integer.valueOf(split[0]), Integer.valueOf(split[1]));
+                return new RandomValue(Integer.valueOf(split[0]), Integer.valueOf(split[1]), random);
             }
             if (RanVesUtils.isTrandingRange(value)) {
                 split = RanVesUtils.splitTrendingRange(value);
@@ -207,13 +229,16 @@ public class RanCellFailureEventCustomizer implements EventCustomizer {
 
     private static class RandomValue extends Value {
 
-        public RandomValue(Integer start, Integer end) {
+        private final SplittableRandom random;
+
+        public RandomValue(Integer start, Integer end, SplittableRandom random) {
             super(start, end);
+            this.random = random;
         }
 
         @Override
         public Integer calculateCurrentValue() {
-            return RanVesUtils.getRandomNumber(start, end);
+            return random.nextInt(start, end);
         }
     }
 
@@ -17,14 +17,14 @@ import static org.onap.a1pesimulator.service.cell.RanCellStateService.TOPIC_CELL
 
 import java.util.Optional;
 import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellStatusNotification;
 import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
 import org.onap.a1pesimulator.data.ves.VesEvent;
-import org.onap.a1pesimulator.data.ves.MeasurementFields;
 import org.onap.a1pesimulator.service.cell.RanCellsHolder;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -33,20 +33,22 @@ public class RanCheckCellIsDeadOnEvent implements OnEventAction {
     private static final Logger log = LoggerFactory.getLogger(RanCheckCellIsDeadOnEvent.class);
 
     private final RanCellsHolder ranCellsHolder;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationHub notificationHub;
 
     private final Integer failingModeThroughputValue;
     private final Integer failingModeLatencyValue;
     private final Integer failingCheckoutDelayTimeInSec;
 
     private static final int TO_MICRO_SEC = 1_000_000;
+    private static final String THROUGHPUT = "throughput";
+    private static final String LATENCY = "latency";
 
-    public RanCheckCellIsDeadOnEvent(RanCellsHolder ranCellsHolder, SimpMessagingTemplate messagingTemplate,
+    public RanCheckCellIsDeadOnEvent(RanCellsHolder ranCellsHolder, NotificationHub notificationHub,
             @Value("${ves.failing.throughput}") Integer failingModeThroughputValue,
             @Value("${ves.failing.latency}") Integer failingModeLatencyValue,
             @Value("${ves.failing.checkout.delay}") Integer failingCheckoutDelayTimeInSec) {
         this.ranCellsHolder = ranCellsHolder;
-        this.messagingTemplate = messagingTemplate;
+        this.notificationHub = notificationHub;
 
         this.failingModeThroughputValue = failingModeThroughputValue;
         this.failingModeLatencyValue = failingModeLatencyValue;
@@ -55,17 +57,21 @@ public class RanCheckCellIsDeadOnEvent implements OnEventAction {
 
     @Override
     public void onEvent(VesEvent event) {
-        Optional<String> cellId = getCellIdentifier(event);
-        Optional<String> throughput = getCellThroughput(event);
-        Optional<String> latency = getCellLatency(event);
+        onEvent(event, MeasurementIndex.of(event).sampleOf(event));
+    }
+
+    @Override
+    public void onEvent(VesEvent event, MeasurementSample sample) {
+        int throughput = sample.getIndex().slotOf(THROUGHPUT);
+        int latency = sample.getIndex().slotOf(LATENCY);
 
-        if (cellId.isPresent() && throughput.isPresent() && latency.isPresent()) {
-            checkCell(cellId.get(), Integer.parseInt(throughput.get()), Integer.parseInt(latency.get()),
+        if (sample.getCellId() != null && sample.has(throughput) && sample.has(latency)) {
+            checkCell(sample.getCellId(), sample.get(throughput), sample.get(latency),
                     event.getCommonEventHeader().getLastEpochMicrosec());
         }
     }
 
-    private void checkCell(String cellId, Integer throughput, Integer latency, Long lastEpochMicrosec) {
+    private void checkCell(String cellId, int throughput, int latency, Long lastEpochMicrosec) {
         if (throughput <= failingModeThroughputValue && latency >= failingModeLatencyValue) {
             log.info("Failure mode detected for cell {}", cellId);
             processSleepingMode(cellId, lastEpochMicrosec);
@@ -74,52 +80,22 @@ public class RanCheckCellIsDeadOnEvent implements OnEventAction {
 
     private void processSleepingMode(String cellId, Long lastEpochMicrosec) {
         CellDetails cell = ranCellsHolder.getCellById(cellId);
-        if (cell.getCellStateMachine().getState() == CellStateEnum.GOING_TO_SLEEP) {
+        if (cell.getCurrentState() == CellStateEnum.GOING_TO_SLEEP) {
             Optional<RanCellsHolder.CellInFailureMode> cellInFailureModeOpt =
                     ranCellsHolder.getCellsInFailureMode(cellId);
             if (cellInFailureModeOpt.isPresent()) {
                 RanCellsHolder.CellInFailureMode cellInFailureMode = cellInFailureModeOpt.get();
-                if (cellInFailureMode.getSleepingModeDetectedTime() == null) {
-                    cellInFailureMode.setSleepingModeDetectedTime(lastEpochMicrosec);
-                } else {
+                if (!cellInFailureMode.detectSleepingMode(lastEpochMicrosec)) {
                     long waitingEpochMicrosec = addDelayTime(cellInFailureMode.getSleepingModeDetectedTime());
-                    if (lastEpochMicrosec >= waitingEpochMicrosec) {
+                    if (lastEpochMicrosec >= waitingEpochMicrosec && cell.nextState(CellStateEnum.GOING_TO_SLEEP)) {
                         log.info("Cell {} is sleeping!", cellId);
-                        cell.nextState();
-                        messagingTemplate.convertAndSend(TOPIC_CELL, cell);
+                        notificationHub.publish(TOPIC_CELL, cellId, CellStatusNotification.of(cell));
                     }
                 }
             }
         }
     }
 
-    private Optional<String> getCellIdentifier(VesEvent event) {
-        return getValueFromAdditionalMeasurement(event, "identifier");
-    }
-
-    private Optional<String> getCellThroughput(VesEvent event) {
-        return getValueFromAdditionalMeasurement(event, "throughput");
-    }
-
-    private Optional<String> getCellLatency(VesEvent event) {
-        return getValueFromAdditionalMeasurement(event, "latency");
-    }
-
-    private Optional<String> getValueFromAdditionalMeasurement(VesEvent event, String key) {
-        Optional<MeasurementFields.AdditionalMeasurement> measurement = getAdditionalMeasurement(event, key);
-        return measurement.map(this::getValueFromAdditionalMeasurement);
-    }
-
-    private String getValueFromAdditionalMeasurement(MeasurementFields.AdditionalMeasurement measurement) {
-        return measurement.getHashMap().get("value");
-    }
-
-    private Optional<MeasurementFields.AdditionalMeasurement> getAdditionalMeasurement(VesEvent event,
-            String additionalMeasurement) {
-        return event.getMeasurementFields().getAdditionalMeasurements().stream()
-                .filter(e -> e.getName().equals(additionalMeasurement)).findFirst();
-    }
-
     private long addDelayTime(long epoch) {
         return epoch + failingCheckoutDelayTimeInSec * TO_MICRO_SEC;
     }
@@ -14,10 +14,13 @@
 package org.onap.a1pesimulator.service.report;
 
 import java.text.MessageFormat;
+import java.time.Clock;
+import java.util.SplittableRandom;
 
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.service.common.EventCustomizer;
 import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.util.SimulationRandom;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -25,18 +28,29 @@ public class RanEventCustomizerFactory {
 
     private final EventCustomizer regularEventCustomizer;
     private final RanUeHolder ranUeHolder;
+    private final Clock clock;
+    private final SimulationRandom simulationRandom;
 
-    public RanEventCustomizerFactory(EventCustomizer regularEventCustomizer, RanUeHolder ranUeHolder) {
+    public RanEventCustomizerFactory(EventCustomizer regularEventCustomizer, RanUeHolder ranUeHolder, Clock clock,
+            SimulationRandom simulationRandom) {
         this.ranUeHolder = ranUeHolder;
         this.regularEventCustomizer = regularEventCustomizer;
+        this.clock = clock;
+        this.simulationRandom = simulationRandom;
     }
 
-    public EventCustomizer getEventCustomizer(VesEvent event, Mode mode) {
+    /**
+     * Customizer for the events of one cell. Every returned customizer owns the random stream of the cell and has to
+     * be used by one task at a time.
+     */
+    public EventCustomizer getEventCustomizer(String cellId, VesEvent event, Mode mode) {
         switch (mode) {
             case REGULAR:
-                return regularEventCustomizer;
+                return new CellEventCustomizer(regularEventCustomizer, simulationRandom.forCell(cellId));
             case FAILURE:
-                return new RanCellFailureEventCustomizer(event, ranUeHolder);
+                // split, so the failure values do not repeat the regular ones of the cell
+                return new RanCellFailureEventCustomizer(event, ranUeHolder, clock,
+                        simulationRandom.forCell(cellId).split());
             default:
                 throw new RuntimeException(
                         MessageFormat.format("Cannot construct event customizer for mode: {0}", mode));
@@ -46,4 +60,28 @@ public class RanEventCustomizerFactory {
     public enum Mode {
         REGULAR, FAILURE
     }
+
+    /**
+     * Binds the shared regular customizer to the random stream of one cell
+     */
+    private static class CellEventCustomizer implements EventCustomizer {
+
+        private final EventCustomizer delegate;
+        private final SplittableRandom random;
+
+        CellEventCustomizer(EventCustomizer delegate, SplittableRandom random) {
+            this.delegate = delegate;
+            this.random = random;
+        }
+
+        @Override
+        public VesEvent apply(VesEvent event) {
+            return delegate.apply(event, null, random);
+        }
+
+        @Override
+        public VesEvent apply(VesEvent event, MeasurementSample sample) {
+            return delegate.apply(event, sample, random);
+        }
+    }
 }
@@ -26,6 +26,12 @@ public interface RanReportsBrokerService {
 
     ResponseEntity<String> startSendingReports(String identifier, VesEvent vesEvent, Integer interval, ReportingMethodEnum reportingMethods);
 
+    /**
+     * Starts sending copies of the VES event for all given cells, start times are spread over the interval
+     */
+    void startSendingReports(Collection<String> identifiers, VesEvent vesEvent, Integer interval,
+            ReportingMethodEnum reportingMethod);
+
     Optional<RanPeriodicEvent> stopSendingReports(String identifier);
 
     Map<String, RanPeriodicEvent> getPeriodicEventsCache();
@@ -14,15 +14,15 @@
 package org.onap.a1pesimulator.service.report;
 
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 
 import org.onap.a1pesimulator.data.ReportingMethodEnum;
 import org.onap.a1pesimulator.data.fileready.RanPeriodicEvent;
 import org.onap.a1pesimulator.data.ves.VesEvent;
-import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
-import org.onap.a1pesimulator.util.Constants;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.onap.a1pesimulator.util.RanVesUtils;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
@@ -45,17 +45,29 @@ public class RanReportsBrokerServiceImpl implements RanReportsBrokerService {
 
     @Override
     public ResponseEntity<String> startSendingReports(String identifier, VesEvent vesEvent, Integer interval, ReportingMethodEnum reportingMethod) {
-        enrichWithIdentifier(identifier, vesEvent);
+        RanVesUtils.enrichWithIdentifier(identifier, vesEvent);
         ResponseEntity<String> response = vesHolder.startSendingVesEvents(identifier, vesEvent, interval, reportingMethod);
         return ResponseEntity.accepted().body(response.getBody());
     }
 
+    @Override
+    public void startSendingReports(Collection<String> identifiers, VesEvent vesEvent, Integer interval,
+            ReportingMethodEnum reportingMethod) {
+        Map<String, VesEvent> vesEvents = new LinkedHashMap<>();
+        for (String identifier : identifiers) {
+            VesEvent cellEvent = JsonUtils.INSTANCE.clone(vesEvent);
+            RanVesUtils.enrichWithIdentifier(identifier, cellEvent);
+            vesEvents.put(identifier, cellEvent);
+        }
+        vesHolder.startSendingVesEvents(vesEvents, interval, reportingMethod);
+    }
+
     @Override
     public VesEvent startSendingFailureReports(String identifier, ReportingMethodEnum reportingMethod) {
 
         var vesEvent = vesDataProvider.getFailurePmVesEvent();
 
-        enrichWithIdentifier(identifier, vesEvent);
+        RanVesUtils.enrichWithIdentifier(identifier, vesEvent);
         vesHolder.startSendingFailureVesEvents(identifier, vesEvent, reportingMethod);
         return vesEvent;
     }
@@ -105,24 +117,4 @@ public class RanReportsBrokerServiceImpl implements RanReportsBrokerService {
         vesDataProvider.setReportingMethod(reportingMethod);
     }
 
-    private void enrichWithIdentifier(String identifier, VesEvent event) {
-        if (event.getMeasurementFields() == null || event.getMeasurementFields().getAdditionalMeasurements() == null) {
-            return;
-        }
-        Collection<AdditionalMeasurement> additionalMeasurements =
-                event.getMeasurementFields().getAdditionalMeasurements();
-        Optional<AdditionalMeasurement> identityOpt = additionalMeasurements.stream()
-                .filter(m -> Constants.MEASUREMENT_FIELD_IDENTIFIER
-                        .equalsIgnoreCase(m.getName()))
-                .findAny();
-        if (identityOpt.isPresent()) {
-            identityOpt.get().getHashMap().put(Constants.MEASUREMENT_FIELD_IDENTIFIER, identifier);
-        } else {
-            var measurement = new AdditionalMeasurement();
-            measurement.setName(Constants.MEASUREMENT_FIELD_IDENTIFIER);
-            measurement.setHashMap(Collections.singletonMap(Constants.MEASUREMENT_FIELD_VALUE, identifier));
-            additionalMeasurements.add(measurement);
-        }
-    }
-
 }
@@ -13,8 +13,6 @@
 
 package org.onap.a1pesimulator.service.report;
 
-import java.util.Collection;
-
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.service.common.AbstractRanRunnable;
 import org.onap.a1pesimulator.service.common.EventCustomizer;
@@ -24,20 +22,14 @@ public class RanSendVesRunnable extends AbstractRanRunnable {
     private final RanVesSender vesSender;
 
     public RanSendVesRunnable(RanVesSender vesSender, VesEvent event, EventCustomizer eventCustomizer,
-            Collection<OnEventAction> onEventActions) {
-        super(event, eventCustomizer, onEventActions);
+            OnEventActionBus onEventActionBus) {
+        super(event, eventCustomizer, onEventActionBus);
         this.vesSender = vesSender;
     }
 
     @Override
     public void run() {
-        VesEvent customizedEvent = eventCustomizer.apply(event);
-        onEventAction.forEach(action -> action.onEvent(customizedEvent));
+        VesEvent customizedEvent = customizeAndNotify();
         vesSender.send(customizedEvent);
     }
-
-    @Override
-    public void updateEvent(VesEvent event) {
-        this.event = event;
-    }
 }
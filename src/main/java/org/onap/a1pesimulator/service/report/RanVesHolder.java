@@ -17,7 +17,9 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import java.text.MessageFormat;
+import java.time.Clock;
 import java.util.Collection;
+import java.util.Date;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -53,23 +55,25 @@ public class RanVesHolder {
     private final RanVesDataProvider vesDataProvider;
     private final RanEventCustomizerFactory eventCustomizerFactory;
     private final ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler;
-    private final Collection<OnEventAction> onEventActions;
+    private final OnEventActionBus onEventActionBus;
     private final RanFileReadyHolder ranFileReadyHolder;
     private final RanVesSender vesSender;
     private final VnfConfigReader vnfConfigReader;
+    private final Clock clock;
     private ThreadSendReportFunction threadSendReportFunction;
 
     public RanVesHolder(ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler, RanFileReadyHolder ranFileReadyHolder, RanVesSender vesSender,
             VnfConfigReader vnfConfigReader,
             RanEventCustomizerFactory eventCustomizerFactory, RanVesDataProvider vesDataProvider,
-            Collection<OnEventAction> onEventActions) {
+            OnEventActionBus onEventActionBus, Clock clock) {
         this.vesPmThreadPoolTaskScheduler = vesPmThreadPoolTaskScheduler;
         this.ranFileReadyHolder = ranFileReadyHolder;
         this.vesSender = vesSender;
         this.vnfConfigReader = vnfConfigReader;
         this.eventCustomizerFactory = eventCustomizerFactory;
         this.vesDataProvider = vesDataProvider;
-        this.onEventActions = onEventActions;
+        this.onEventActionBus = onEventActionBus;
+        this.clock = clock;
     }
 
     /**
@@ -112,7 +116,7 @@ public class RanVesHolder {
     ResponseEntity<String> startSendingVesEvents(String identifier, VesEvent vesEvent, Integer interval, ReportingMethodEnum reportingMethod) {
 
         periodicEventsCache.compute(identifier,
-                new ThreadCacheUpdateFunction(vesPmThreadPoolTaskScheduler, eventCustomizerFactory.getEventCustomizer(vesEvent, Mode.REGULAR), onEventActions,
+                new ThreadCacheUpdateFunction(vesPmThreadPoolTaskScheduler, eventCustomizerFactory.getEventCustomizer(identifier, vesEvent, Mode.REGULAR), onEventActionBus,
                         ranFileReadyHolder, vesSender, RequestParameters.builder()
                         .vesEvent(vesEvent).identifier(identifier).reportingMethod(reportingMethod).interval(interval).build()));
         if (ReportingMethodEnum.FILE_READY.equals(reportingMethod)) {
@@ -121,10 +125,33 @@ public class RanVesHolder {
         return ResponseEntity.accepted().body("VES Event sending started");
     }
 
+    /**
+     * Starts sending VES events for many cells at once. First events of the cells are spread evenly over the
+     * interval, so the cells do not all generate at the same moment.
+     *
+     * @param vesEvents events by cell id, already enriched with the cell identifier
+     */
+    void startSendingVesEvents(Map<String, VesEvent> vesEvents, Integer interval, ReportingMethodEnum reportingMethod) {
+        long period = interval * 1000L;
+        int index = 0;
+        for (Map.Entry<String, VesEvent> entry : vesEvents.entrySet()) {
+            long initialDelay = period * index++ / vesEvents.size();
+            periodicEventsCache.compute(entry.getKey(),
+                    new ThreadCacheUpdateFunction(vesPmThreadPoolTaskScheduler,
+                            eventCustomizerFactory.getEventCustomizer(entry.getKey(), entry.getValue(), Mode.REGULAR), onEventActionBus,
+                            ranFileReadyHolder, vesSender, RequestParameters.builder().vesEvent(entry.getValue())
+                            .identifier(entry.getKey()).reportingMethod(reportingMethod).interval(interval)
+                            .startTime(new Date(clock.millis() + initialDelay)).build()));
+        }
+        if (!vesEvents.isEmpty() && ReportingMethodEnum.FILE_READY.equals(reportingMethod)) {
+            startSendingReports();
+        }
+    }
+
     ResponseEntity<String> startSendingFailureVesEvents(String identifier, VesEvent vesEvent, ReportingMethodEnum reportingMethod) {
 
         periodicEventsCache.compute(identifier,
-                new ThreadCacheUpdateFunction(vesPmThreadPoolTaskScheduler, eventCustomizerFactory.getEventCustomizer(vesEvent, Mode.FAILURE), onEventActions,
+                new ThreadCacheUpdateFunction(vesPmThreadPoolTaskScheduler, eventCustomizerFactory.getEventCustomizer(identifier, vesEvent, Mode.FAILURE), onEventActionBus,
                         ranFileReadyHolder,
                         vesSender, RequestParameters.builder().vesEvent(vesEvent).identifier(identifier).interval(vesDataProvider.getFailureVesInterval())
                         .reportingMethod(reportingMethod).build()));
@@ -168,23 +195,25 @@ public class RanVesHolder {
             implements BiFunction<String, RanPeriodicEvent, RanPeriodicEvent> {
 
         private final Integer interval;
+        private final Date startTime;
         private final ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler;
         private final VesEvent vesEvent;
         private final EventCustomizer eventCustomizer;
-        private final Collection<OnEventAction> onEventActions;
+        private final OnEventActionBus onEventActionBus;
         private final RanFileReadyHolder fileReadyHolder;
         private final RanVesSender vesSender;
         private final String cellId;
         private final ReportingMethodEnum reportingMethod;
 
         public ThreadCacheUpdateFunction(ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler, EventCustomizer eventCustomizer,
-                Collection<OnEventAction> onEventActions,
+                OnEventActionBus onEventActionBus,
                 RanFileReadyHolder fileReadyHolder, RanVesSender vesSender, RequestParameters requestParameters) {
             this.vesPmThreadPoolTaskScheduler = vesPmThreadPoolTaskScheduler;
             this.vesEvent = requestParameters.getVesEvent();
             this.interval = requestParameters.getInterval();
+            this.startTime = requestParameters.getStartTime();
             this.eventCustomizer = eventCustomizer;
-            this.onEventActions = onEventActions;
+            this.onEventActionBus = onEventActionBus;
             this.fileReadyHolder = fileReadyHolder;
             this.vesSender = vesSender;
             this.cellId = requestParameters.getIdentifier();
@@ -198,11 +227,12 @@ public class RanVesHolder {
                 value.getScheduledFuture().cancel(false);
             }
             AbstractRanRunnable ranRunnable = (ReportingMethodEnum.FILE_READY.equals(reportingMethod)) ?
-                    new RanSaveFileReadyRunnable(fileReadyHolder, cellId, vesEvent, eventCustomizer, interval, onEventActions) :
-                    new RanSendVesRunnable(vesSender, vesEvent, eventCustomizer, onEventActions);
+                    new RanSaveFileReadyRunnable(fileReadyHolder, cellId, vesEvent, eventCustomizer, interval, onEventActionBus) :
+                    new RanSendVesRunnable(vesSender, vesEvent, eventCustomizer, onEventActionBus);
 
-            ScheduledFuture<?> scheduledFuture =
-                    vesPmThreadPoolTaskScheduler.scheduleAtFixedRate(ranRunnable, interval * 1000L);
+            ScheduledFuture<?> scheduledFuture = startTime != null
+                    ? vesPmThreadPoolTaskScheduler.scheduleAtFixedRate(ranRunnable, startTime, interval * 1000L)
+                    : vesPmThreadPoolTaskScheduler.scheduleAtFixedRate(ranRunnable, interval * 1000L);
             return RanPeriodicEvent.builder().event(vesEvent).interval(interval).reportingMethod(reportingMethod.getValue()).scheduledFuture(scheduledFuture)
                     .ranRunnable(ranRunnable).build();
         }
@@ -14,15 +14,23 @@
 package org.onap.a1pesimulator.service.ue;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import org.onap.a1pesimulator.data.TopologyDiff;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
 import org.onap.a1pesimulator.service.cell.RanCellsHolder;
 import org.onap.a1pesimulator.service.distance.DistanceService;
+import org.onap.a1pesimulator.util.ReloadMeter;
 import org.onap.a1pesimulator.util.TopologyReader;
+import org.onap.a1pesimulator.util.TopologySnapshot;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -32,7 +40,9 @@ public class RanUeHolder {
 
     private static final Logger log = LoggerFactory.getLogger(RanUeHolder.class);
 
-    private Map<String, UserEquipment> userEquipmentsById;
+    private volatile NavigableMap<String, UserEquipment> userEquipmentsById = Collections.emptyNavigableMap();
+    private Map<String, String> configuredCellIds = Collections.emptyMap();
+    private final AtomicLong version = new AtomicLong();
 
     private final TopologyReader topologyReader;
     private final DistanceService distanceService;
@@ -50,6 +60,14 @@ public class RanUeHolder {
         return userEquipmentsById.values();
     }
 
+    /**
+     * UEs ordered by id which follow the given id, all UEs if the id is null
+     */
+    public Collection<UserEquipment> getUserEquipmentsAfter(String id) {
+        NavigableMap<String, UserEquipment> userEquipments = userEquipmentsById;
+        return id == null ? userEquipments.values() : userEquipments.tailMap(id, false).values();
+    }
+
     public Collection<UserEquipment> getUserEquipmentsConnectedToCell(String cellId) {
         return userEquipmentsById.values().stream().filter(ue -> cellId.equalsIgnoreCase(ue.getCellId()))
                        .collect(Collectors.toList());
@@ -59,22 +77,94 @@ public class RanUeHolder {
         return userEquipmentsById.values().stream().filter(ue -> id.equalsIgnoreCase(ue.getId())).findAny();
     }
 
-    public void refresh() {
-        Collection<UserEquipment> ues = topologyReader.loadUeTopology();
-        userEquipmentsById = ues.stream().filter(this::validate)
-                                     .collect(Collectors.toMap(UserEquipment::getId, Function.identity()));
+    /**
+     * Reloads the UE topology. UEs whose position and configured cell did not change are kept as they are, so a
+     * handover done in the meantime survives the reload. The new UE map replaces the old one in one step.
+     */
+    public synchronized TopologyDiff refresh() {
+        ReloadMeter meter = new ReloadMeter();
+        Optional<TopologySnapshot> snapshot = topologyReader.getMatchingSnapshot();
+        Map<String, UserEquipment> current = userEquipmentsById;
+        NavigableMap<String, UserEquipment> next = new TreeMap<>();
+        Map<String, String> nextConfiguredCellIds = new HashMap<>();
+        TopologyDiff diff = new TopologyDiff();
+        topologyReader.readUeTopology(loaded -> {
+            UserEquipment existing = current.get(loaded.getId());
+            UserEquipment ue = loaded;
+            if (existing == null) {
+                diff.getAdded().add(loaded.getId());
+            } else if (hasSamePosition(existing, loaded) && Objects.equals(configuredCellIds.get(loaded.getId()),
+                    loaded.getCellId())) {
+                diff.unchanged();
+                ue = existing;
+            } else {
+                diff.getChanged().add(loaded.getId());
+            }
+            if (next.putIfAbsent(loaded.getId(), ue) != null) {
+                throw new IllegalStateException(String.format("Duplicate key %s", loaded.getId()));
+            }
+            nextConfiguredCellIds.put(loaded.getId(), loaded.getCellId());
+        });
+        current.keySet().stream().filter(id -> !next.containsKey(id)).forEach(diff.getRemoved()::add);
+
+        if (diff.isEmpty() && version.get() > 0) {
+            log.debug("UE topology has not changed, reloaded in {}", meter);
+            // the cell topology may have changed since the snapshot was written
+            writeSnapshot();
+            return diff;
+        }
+        snapshot.filter(s -> s.hasCoverageFor(distanceService.getCellRange(), distanceService.getIndexedCellCount()))
+                .ifPresent(s -> s.forEachCoverage((ueId, slots) -> {
+                    UserEquipment ue = next.get(ueId);
+                    if (ue != null) {
+                        distanceService.restoreCoverage(ue, slots);
+                    }
+                }));
+        distanceService.refreshCoverage(next.values());
+        next.values().forEach(this::validate);
+        userEquipmentsById = next;
+        configuredCellIds = nextConfiguredCellIds;
+        log.info("UE topology version {} loaded{} in {}: {}", version.incrementAndGet(),
+                snapshot.isPresent() ? " from snapshot" : "", meter, diff);
+        if (snapshot.isPresent()) {
+            topologyReader.releaseSnapshot();
+        } else {
+            writeSnapshot();
+        }
+        return diff;
+    }
+
+    /**
+     * Writes a topology snapshot of the loaded cells and UEs unless the one on disk was taken from the same topology
+     * files, e.g. after only the cell topology was reloaded
+     */
+    public synchronized void writeSnapshot() {
+        topologyReader.writeSnapshot(ranCellsHolder.getAllCells(), userEquipmentsById.values(),
+                distanceService.getCellRange(), distanceService.getIndexedCellCount(),
+                distanceService::getCoverageSlots);
+    }
+
+    /**
+     * Version of the UE topology, incremented by every reload which changed it
+     */
+    public long getVersion() {
+        return version.get();
     }
 
     public boolean hasChanged() {
         return topologyReader.topologyUeHasChanged();
     }
 
-    private boolean validate(UserEquipment ue) {
+    private void validate(UserEquipment ue) {
         CellDetails cell = ranCellsHolder.getCellById(ue.getCellId());
-        boolean inRange = distanceService.isInRange(cell, ue);
+        boolean inRange = distanceService.isInRange(cell.getId(), ue);
         if (!inRange) {
             log.warn("UE {} is not in range of preferred cell {}", ue.getId(), cell.getId());
         }
-        return true;
+    }
+
+    private static boolean hasSamePosition(UserEquipment existing, UserEquipment loaded) {
+        return Objects.equals(existing.getLatitude(), loaded.getLatitude()) && Objects.equals(existing.getLongitude(),
+                loaded.getLongitude());
     }
 }
@@ -14,7 +14,10 @@
 package org.onap.a1pesimulator.service.ue;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.ue.RanUserEquipment;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
 
@@ -28,6 +31,17 @@ public interface RanUeService {
 
     RanUserEquipment getUes();
 
+    /**
+     * Passes UEs ordered by id, which follow the cursor, to the consumer. Only selected fields are put in the UE views,
+     * cells in range are looked up only when selected.
+     *
+     * @param cursor id of the last UE of the previous page, null to start from the first UE
+     * @param limit maximal number of UEs, null for all remaining UEs
+     * @return cursor of the next page or null if there are no more UEs
+     */
+    String forEachUserEquipment(String cursor, Integer limit, FieldSelection fields,
+            Consumer<Map<String, Object>> consumer);
+
     void handover(String ueId, String cellId);
 
     boolean canHandover(String ueId, String cellId);
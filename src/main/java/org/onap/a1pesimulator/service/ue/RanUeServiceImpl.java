@@ -14,12 +14,16 @@
 package org.onap.a1pesimulator.service.ue;
 
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import org.onap.a1pesimulator.data.cell.CellDetails;
+import java.util.function.Consumer;
+import org.onap.a1pesimulator.data.FieldSelection;
 import org.onap.a1pesimulator.data.ue.RanUserEquipment;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
-import org.onap.a1pesimulator.service.cell.RanCellsHolder;
+import org.onap.a1pesimulator.data.ue.UserEquipment.Fields;
+import org.onap.a1pesimulator.service.cell.CellReadModelHolder;
 import org.onap.a1pesimulator.service.distance.DistanceService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,13 +35,14 @@ public class RanUeServiceImpl implements RanUeService {
     private static final Logger log = LoggerFactory.getLogger(RanUeServiceImpl.class);
 
     private final RanUeHolder ueHolder;
-    private final RanCellsHolder ranCellsHolder;
     private final DistanceService distanceService;
+    private final CellReadModelHolder cellReadModelHolder;
 
-    public RanUeServiceImpl(RanUeHolder ueHolder, RanCellsHolder ranCellsHolder, DistanceService distanceService) {
+    public RanUeServiceImpl(RanUeHolder ueHolder, DistanceService distanceService,
+            CellReadModelHolder cellReadModelHolder) {
         this.ueHolder = ueHolder;
-        this.ranCellsHolder = ranCellsHolder;
         this.distanceService = distanceService;
+        this.cellReadModelHolder = cellReadModelHolder;
     }
 
     @Override
@@ -51,6 +56,21 @@ public class RanUeServiceImpl implements RanUeService {
         return new RanUserEquipment(uesCollection, uesCollection.size());
     }
 
+    @Override
+    public String forEachUserEquipment(String cursor, Integer limit, FieldSelection fields,
+            Consumer<Map<String, Object>> consumer) {
+        Iterator<UserEquipment> userEquipments = ueHolder.getUserEquipmentsAfter(cursor).iterator();
+        String last = null;
+        int count = 0;
+        while (userEquipments.hasNext() && (limit == null || count < limit)) {
+            UserEquipment ue = userEquipments.next();
+            consumer.accept(toView(ue, fields));
+            last = ue.getId();
+            count++;
+        }
+        return userEquipments.hasNext() ? last : null;
+    }
+
     @Override
     public Collection<UserEquipment> getUserEquipmentsConnectedToCell(String cellId) {
         return ueHolder.getUserEquipmentsConnectedToCell(cellId);
@@ -70,18 +90,34 @@ public class RanUeServiceImpl implements RanUeService {
             log.warn("Cannot handover ue {} to cell {}, because ue does not exist!", ueId, cellId);
             return;
         }
-        userEquipment.get().setCellId(cellId);
+        cellReadModelHolder.handover(userEquipment.get(), cellId);
     }
 
     @Override
     public boolean canHandover(String ueId, String cellId) {
-        Optional<UserEquipment> userEquipment = getUserEquipment(ueId);
-        return userEquipment.map(equipment -> equipment.getCellsInRange().stream().anyMatch(cellId::equalsIgnoreCase))
-                       .orElse(false);
+        Optional<UserEquipment> userEquipment = ueHolder.getUserEquipment(ueId);
+        return userEquipment.map(equipment -> distanceService.isInRange(cellId, equipment)).orElse(false);
     }
 
     private Collection<String> getCellsIdsInRange(UserEquipment ue) {
-        return ranCellsHolder.getAllCells().stream().filter(cell -> distanceService.isInRange(cell, ue))
-                       .map(CellDetails::getId).collect(Collectors.toList());
+        return distanceService.getCellIdsInRange(ue);
+    }
+
+    private Map<String, Object> toView(UserEquipment ue, FieldSelection fields) {
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put(Fields.id, ue.getId());
+        if (fields.includes(Fields.latitude)) {
+            view.put(Fields.latitude, ue.getLatitude());
+        }
+        if (fields.includes(Fields.longitude)) {
+            view.put(Fields.longitude, ue.getLongitude());
+        }
+        if (fields.includes(Fields.cellId)) {
+            view.put(Fields.cellId, ue.getCellId());
+        }
+        if (fields.includes(Fields.cellsInRange)) {
+            view.put(Fields.cellsInRange, getCellsIdsInRange(ue));
+        }
+        return view;
     }
 }
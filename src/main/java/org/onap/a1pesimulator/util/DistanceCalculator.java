@@ -13,9 +13,21 @@
 
 package org.onap.a1pesimulator.util;
 
+/**
+ * Great-circle distances between coordinates given in degrees.
+ *
+ * <p>Range checks reject far pairs with a latitude band check, decide clear cases with an equirectangular
+ * approximation and run the exact haversine formula only for pairs close to the range boundary.
+ */
 public class DistanceCalculator {
 
-    private static final int EARTH_RADIUS = 6371; // Earth radius in KM
+    public static final int EARTH_RADIUS = 6371; // Earth radius in KM
+
+    // equirectangular approximation is used only where its error stays far below the margin
+    private static final double APPROXIMATION_MARGIN = 0.01;
+    private static final double MAX_APPROXIMATION_RANGE = 100;
+    private static final double MAX_APPROXIMATION_LATITUDE = 70;
+    private static final double KM_PER_DEGREE = Math.toRadians(EARTH_RADIUS);
 
     private DistanceCalculator() {
     }
@@ -28,8 +40,85 @@ public class DistanceCalculator {
     }
 
     public static boolean isInRange(double startLat, double startLong, double endLat, double endLong, double range) {
-        double distance = calculate(startLat, startLong, endLat, endLong);
-        return distance < range;
+        double latitudeDistance = Math.abs(endLat - startLat) * KM_PER_DEGREE;
+        // great-circle distance is never shorter than the distance along the meridian
+        if (latitudeDistance >= range) {
+            return false;
+        }
+        if (canApproximate(startLat, endLat, range)) {
+            double distanceSquared = equirectangularSquared(startLat, startLong, endLat, endLong);
+            double lower = range * (1 - APPROXIMATION_MARGIN);
+            if (distanceSquared < lower * lower) {
+                return true;
+            }
+            double upper = range * (1 + APPROXIMATION_MARGIN);
+            if (distanceSquared > upper * upper) {
+                return false;
+            }
+        }
+        return haversine(startLat, startLong, endLat, endLong) < range;
+    }
+
+    /**
+     * Batch variant of {@link #isInRange(double, double, double, double, double)} for one point against many, result
+     * of i-th coordinate is stored to result[i]
+     *
+     * @return number of coordinates in range
+     */
+    public static int isInRange(double lat, double lon, double[] latitudes, double[] longitudes, double range,
+            boolean[] result) {
+        int count = latitudes.length;
+        if (!canApproximate(lat, lat, range)) {
+            int inRange = 0;
+            for (int i = 0; i < count; i++) {
+                result[i] = isInRange(lat, lon, latitudes[i], longitudes[i], range);
+                inRange += result[i] ? 1 : 0;
+            }
+            return inRange;
+        }
+        double lower = range * (1 - APPROXIMATION_MARGIN);
+        double upper = range * (1 + APPROXIMATION_MARGIN);
+        double lowerSquared = lower * lower;
+        double upperSquared = upper * upper;
+        int inRange = 0;
+        for (int i = 0; i < count; i++) {
+            double distanceSquared = equirectangularSquared(lat, lon, latitudes[i], longitudes[i]);
+            boolean decided = distanceSquared < lowerSquared;
+            if ((!decided && distanceSquared <= upperSquared)
+                        || Math.abs(latitudes[i]) > MAX_APPROXIMATION_LATITUDE) {
+                decided = isInRange(lat, lon, latitudes[i], longitudes[i], range);
+            }
+            result[i] = decided;
+            inRange += decided ? 1 : 0;
+        }
+        return inRange;
+    }
+
+    /**
+     * Batch variant of {@link #calculate(double, double, double, double)}, distance to i-th coordinate is stored to
+     * result[i]
+     */
+    public static void calculate(double lat, double lon, double[] latitudes, double[] longitudes, double[] result) {
+        for (int i = 0; i < latitudes.length; i++) {
+            result[i] = haversine(lat, lon, latitudes[i], longitudes[i]);
+        }
+    }
+
+    private static boolean canApproximate(double startLat, double endLat, double range) {
+        return range <= MAX_APPROXIMATION_RANGE && Math.abs(startLat) <= MAX_APPROXIMATION_LATITUDE
+                       && Math.abs(endLat) <= MAX_APPROXIMATION_LATITUDE;
+    }
+
+    private static double equirectangularSquared(double startLat, double startLong, double endLat, double endLong) {
+        double dLon = endLong - startLong;
+        if (dLon > 180) {
+            dLon -= 360;
+        } else if (dLon < -180) {
+            dLon += 360;
+        }
+        double x = dLon * Math.cos(Math.toRadians((startLat + endLat) / 2)) * KM_PER_DEGREE;
+        double y = (endLat - startLat) * KM_PER_DEGREE;
+        return x * x + y * y;
     }
 
     private static double haversine(double startLat, double startLong, double endLat, double endLong) {
@@ -38,8 +127,9 @@ public class DistanceCalculator {
         double startLatInRadians = Math.toRadians(startLat);
         double endLatInRadians = Math.toRadians(endLat);
 
-        double a = Math.pow(Math.sin(dLat / 2), 2) + Math.pow(Math.sin(dLon / 2), 2) * Math.cos(startLatInRadians)
-                                                             * Math.cos(endLatInRadians);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLon = Math.sin(dLon / 2);
+        double a = sinLat * sinLat + sinLon * sinLon * Math.cos(startLatInRadians) * Math.cos(endLatInRadians);
         double c = 2 * Math.asin(Math.sqrt(a));
         return EARTH_RADIUS * c;
     }
@@ -26,19 +26,28 @@ public class ItemsRefresher {
     private final RanCellsHolder cellsHolder;
     private final RanUeHolder ueHolder;
 
-    public ItemsRefresher(final RanCellsHolder cellsHolder, final RanUeHolder ueHolder) {
+    public ItemsRefresher(final RanCellsHolder cellsHolder, final RanUeHolder ueHolder,
+            final TopologyReader topologyReader) {
         this.cellsHolder = cellsHolder;
         this.ueHolder = ueHolder;
+        topologyReader.registerChangeListener(this::refresh);
     }
 
+    /**
+     * Reloads changed topology files, called on file change notification, by the polling fallback and on request
+     */
     @Scheduled(fixedRateString = "${refresher.fixed.rate.ms}")
-    public void refresh() {
-        if (cellsHolder.hasChanged()) {
+    public synchronized void refresh() {
+        boolean cellsChanged = cellsHolder.hasChanged();
+        if (cellsChanged) {
             cellsHolder.refresh();
         }
 
         if (ueHolder.hasChanged()) {
             ueHolder.refresh();
+        } else if (cellsChanged) {
+            // the topology snapshot holds the cells as well
+            ueHolder.writeSnapshot();
         }
     }
 }
@@ -13,13 +13,18 @@
 
 package org.onap.a1pesimulator.util;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
 import java.text.MessageFormat;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +70,37 @@ public enum JsonUtils {
         }
     }
 
+    /**
+     * Reads array items from the file one by one, without materializing the whole array. Missing array is read as
+     * empty.
+     *
+     * @param arrayField name of the root object field holding the array, null if the root is the array itself
+     */
+    public <T> void streamFromFile(String fileName, String arrayField, Class<T> clazz, Consumer<T> consumer) {
+        // the parser reads the file through its own buffer
+        try (JsonParser parser = mapper.getFactory().createParser(new File(fileName))) {
+            JsonToken token = parser.nextToken();
+            if (arrayField != null && token == JsonToken.START_OBJECT) {
+                token = seekField(parser, arrayField);
+            }
+            if (token != JsonToken.START_ARRAY) {
+                return;
+            }
+            ObjectReader reader = mapper.readerFor(clazz);
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                T item = reader.readValue(parser);
+                if (item != null) {
+                    consumer.accept(item);
+                }
+            }
+        } catch (IOException e) {
+            String errorMsg = MessageFormat.format("Could not deserialize from file: {0} into {1}", fileName,
+                    clazz.getSimpleName());
+            log.error(errorMsg, e);
+            throw new JsonUtilsException(errorMsg, e);
+        }
+    }
+
     public <T> T deserializeFromFileUrl(URL url, Class<T> clazz) {
         try {
             return mapper.readValue(url, clazz);
@@ -88,6 +124,18 @@ public enum JsonUtils {
         }
     }
 
+    private static JsonToken seekField(JsonParser parser, String fieldName) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (fieldName.equals(name)) {
+                return token;
+            }
+            parser.skipChildren();
+        }
+        return null;
+    }
+
     public static class JsonUtilsException extends RuntimeException {
 
         private static final long serialVersionUID = 1L;
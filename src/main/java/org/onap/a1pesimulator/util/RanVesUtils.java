@@ -13,14 +13,22 @@
 
 package org.onap.a1pesimulator.util;
 
+import static org.onap.a1pesimulator.util.Constants.MEASUREMENT_FIELD_VALUE;
+
 import java.text.MessageFormat;
+import java.time.Clock;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntBinaryOperator;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
@@ -28,6 +36,8 @@ import org.onap.a1pesimulator.data.Event;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
 import org.onap.a1pesimulator.data.ves.CommonEventHeader;
 import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.report.MeasurementSample;
 import org.onap.a1pesimulator.service.ue.RanUeHolder;
 
 public class RanVesUtils {
@@ -43,15 +53,38 @@ public class RanVesUtils {
     public static final String UE_PARAM_TRAFFIC_MODEL = "trafficModel";
     private static final int TEN_MINUTES_MICROSECONDS = 10 * 60 * 1000_000;
 
-    private static final Random random = new Random();
 
     private RanVesUtils() {
     }
 
-    public static void updateHeader(Event event) {
+    public static void updateHeader(Event event, Clock clock) {
         CommonEventHeader commonEventHeader = event.getCommonEventHeader();
-        commonEventHeader.setLastEpochMicrosec(ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now()));
-        commonEventHeader.setStartEpochMicrosec(getStartEpochMicroseconds());
+        long epochMicrosecondsNow = ChronoUnit.MICROS.between(Instant.EPOCH, clock.instant());
+        commonEventHeader.setLastEpochMicrosec(epochMicrosecondsNow);
+        commonEventHeader.setStartEpochMicrosec(getStartEpochMicroseconds(epochMicrosecondsNow));
+    }
+
+    /**
+     * Sets the cell identifier measurement of the event, adds the measurement if the event has none
+     */
+    public static void enrichWithIdentifier(String identifier, VesEvent event) {
+        if (event.getMeasurementFields() == null || event.getMeasurementFields().getAdditionalMeasurements() == null) {
+            return;
+        }
+        Collection<AdditionalMeasurement> additionalMeasurements =
+                event.getMeasurementFields().getAdditionalMeasurements();
+        Optional<AdditionalMeasurement> identityOpt = additionalMeasurements.stream()
+                .filter(m -> Constants.MEASUREMENT_FIELD_IDENTIFIER
+                        .equalsIgnoreCase(m.getName()))
+                .findAny();
+        if (identityOpt.isPresent()) {
+            identityOpt.get().getHashMap().put(Constants.MEASUREMENT_FIELD_IDENTIFIER, identifier);
+        } else {
+            var measurement = new AdditionalMeasurement();
+            measurement.setName(Constants.MEASUREMENT_FIELD_IDENTIFIER);
+            measurement.setHashMap(Collections.singletonMap(Constants.MEASUREMENT_FIELD_VALUE, identifier));
+            additionalMeasurements.add(measurement);
+        }
     }
 
     public static AdditionalMeasurement buildTrafficModelMeasurement(RanUeHolder ranUeHolder, String valuePattern) {
@@ -71,6 +104,48 @@ public class RanVesUtils {
                 RanVesUtils::randomizeValue)).collect(Collectors.toList());
     }
 
+    /**
+     * Randomizes ranges like {@link #randomizeAdditionalMeasurements(Collection)} and records the generated "value"
+     * entries into the sample
+     */
+    public static List<AdditionalMeasurement> randomizeAdditionalMeasurements(
+            Collection<AdditionalMeasurement> toRandomize, MeasurementSample sample) {
+        return randomizeAdditionalMeasurements(toRandomize, sample, RanVesUtils::getRandomNumber);
+    }
+
+    /**
+     * Randomizes ranges with numbers drawn from the given generator, a seeded generator gives reproducible values. The
+     * sample is optional.
+     */
+    public static List<AdditionalMeasurement> randomizeAdditionalMeasurements(
+            Collection<AdditionalMeasurement> toRandomize, MeasurementSample sample, SplittableRandom random) {
+        return randomizeAdditionalMeasurements(toRandomize, sample, random::nextInt);
+    }
+
+    private static List<AdditionalMeasurement> randomizeAdditionalMeasurements(
+            Collection<AdditionalMeasurement> toRandomize, MeasurementSample sample, IntBinaryOperator numbers) {
+        List<AdditionalMeasurement> randomized = new ArrayList<>(toRandomize.size());
+        for (AdditionalMeasurement measurement : toRandomize) {
+            AdditionalMeasurement randomizedMeasurement = new AdditionalMeasurement();
+            randomizedMeasurement.setName(measurement.getName());
+            Map<String, String> values = new HashMap<>(measurement.getHashMap().size());
+            measurement.getHashMap().forEach((key, value) -> {
+                if (!isRange(value)) {
+                    values.put(key, value);
+                    return;
+                }
+                int randomNumber = randomizeRange(value, numbers);
+                values.put(key, String.valueOf(randomNumber));
+                if (sample != null && MEASUREMENT_FIELD_VALUE.equals(key)) {
+                    sample.record(measurement.getName(), randomNumber);
+                }
+            });
+            randomizedMeasurement.setHashMap(values);
+            randomized.add(randomizedMeasurement);
+        }
+        return randomized;
+    }
+
     public static List<AdditionalMeasurement> setLowRangeValues(List<AdditionalMeasurement> toUpdateMeasurements) {
         return toUpdateMeasurements.stream().map(measurement -> transformAdditionalMeasurementValues(measurement,
                 RanVesUtils::getLowRangeValue)).collect(Collectors.toList());
@@ -95,10 +170,13 @@ public class RanVesUtils {
         if (!isRange(value)) {
             return value;
         }
+        return String.valueOf(randomizeRange(value, RanVesUtils::getRandomNumber));
+    }
+
+    private static int randomizeRange(String value, IntBinaryOperator numbers) {
         String toRandomize = value.substring(MARKER_START.length(), value.length() - MARKER_END.length());
         String[] ranges = toRandomize.split(PATTERN_SPLIT_RANDOM);
-        int randomNumber = getRandomNumber(parseInt(ranges[0]), parseInt(ranges[1]));
-        return String.valueOf(randomNumber);
+        return numbers.applyAsInt(parseInt(ranges[0]), parseInt(ranges[1]));
     }
 
     private static String getLowRangeValue(String value) {
@@ -110,8 +188,7 @@ public class RanVesUtils {
         return String.valueOf(ranges[0]);
     }
 
-    private static Long getStartEpochMicroseconds() {
-        long epochMicrosecondsNow = ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    private static Long getStartEpochMicroseconds(long epochMicrosecondsNow) {
         long lowest10minInterval = epochMicrosecondsNow - epochMicrosecondsNow % TEN_MINUTES_MICROSECONDS;
         long highest10minInterval = lowest10minInterval + TEN_MINUTES_MICROSECONDS;
 
@@ -122,8 +199,12 @@ public class RanVesUtils {
         }
     }
 
+    /**
+     * Unseeded number in [min, max), every thread draws from its own generator. Use a cell stream of
+     * {@link SimulationRandom} for reproducible values.
+     */
     public static int getRandomNumber(int min, int max) {
-        return random.nextInt(max - min) + min;
+        return ThreadLocalRandom.current().nextInt(min, max);
     }
 
     private static int parseInt(String strNum) {
@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Measures duration and heap allocation of a reload done on the current thread. Allocation is reported only when the
+ * JVM supports per thread allocation counters.
+ */
+public class ReloadMeter {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final long startNanos = System.nanoTime();
+    private final long startBytes = allocatedBytes();
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Bytes allocated by the current thread since the meter was created, negative if not supported
+     */
+    public long getAllocatedBytes() {
+        long bytes = allocatedBytes();
+        return bytes < 0 || startBytes < 0 ? -1 : bytes - startBytes;
+    }
+
+    @Override
+    public String toString() {
+        long allocated = getAllocatedBytes();
+        return allocated < 0 ? getElapsedMillis() + " ms"
+                       : String.format("%d ms, %d KB allocated", getElapsedMillis(), allocated / 1024);
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(
+                    Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Time source of the simulation. Speed 1 follows the wall clock, a higher speed lets simulated time run that many
+ * times faster than wall time. Speed 0 runs as fast as possible: simulated time stands still until the
+ * {@link SimulationTaskScheduler} advances it to the next scheduled task.
+ */
+@Component
+public class SimulationClock extends Clock {
+
+    private final double speed;
+    private final ZoneId zone;
+    private final long wallOrigin;
+    private final AtomicLong virtualMillis;
+
+    @Autowired
+    public SimulationClock(@Value("${simulation.clock.speed}") double speed) {
+        this(speed, System.currentTimeMillis(), ZoneId.systemDefault());
+    }
+
+    SimulationClock(double speed, long origin, ZoneId zone) {
+        if (speed < 0 || Double.isNaN(speed) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Simulation clock speed has to be a finite non negative number: " + speed);
+        }
+        this.speed = speed;
+        this.zone = zone;
+        this.wallOrigin = origin;
+        this.virtualMillis = new AtomicLong(origin);
+    }
+
+    private SimulationClock(SimulationClock source, ZoneId zone) {
+        this.speed = source.speed;
+        this.zone = zone;
+        this.wallOrigin = source.wallOrigin;
+        this.virtualMillis = source.virtualMillis;
+    }
+
+    @Override
+    public long millis() {
+        if (speed == 1) {
+            return System.currentTimeMillis();
+        }
+        if (isAsFastAsPossible()) {
+            return virtualMillis.get();
+        }
+        return wallOrigin + (long) ((System.currentTimeMillis() - wallOrigin) * speed);
+    }
+
+    @Override
+    public Instant instant() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new SimulationClock(this, zone);
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public boolean isAsFastAsPossible() {
+        return speed == 0;
+    }
+
+    /**
+     * Wall time it takes the simulated time to move by the given duration, not usable as fast as possible
+     */
+    public long toWallMillis(long simulatedMillis) {
+        if (isAsFastAsPossible()) {
+            throw new IllegalStateException("Simulated time does not follow wall time");
+        }
+        return speed == 1 ? simulatedMillis : Math.round(simulatedMillis / speed);
+    }
+
+    /**
+     * Moves simulated time forward when running as fast as possible, time never goes back
+     */
+    void advanceTo(long millis) {
+        virtualMillis.accumulateAndGet(millis, Math::max);
+    }
+}
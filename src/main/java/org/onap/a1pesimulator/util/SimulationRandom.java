@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Source of the random streams used to resolve measurement ranges. Every cell gets its own stream, so generating
+ * threads never share a generator. With a seed the stream of a cell depends only on the seed and the cell id, which
+ * makes reruns of a scenario produce the same values.
+ */
+@Component
+public class SimulationRandom {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Long seed;
+
+    @Autowired
+    public SimulationRandom(@Value("${simulation.random.seed}") String seed) {
+        this(seed == null || seed.isBlank() ? null : Long.valueOf(seed.trim()));
+    }
+
+    public SimulationRandom(Long seed) {
+        this.seed = seed;
+    }
+
+    public boolean isSeeded() {
+        return seed != null;
+    }
+
+    /**
+     * New stream for the cell. The stream is not thread safe, it is meant to be used by the task generating the cell
+     * events only.
+     */
+    public SplittableRandom forCell(String cellId) {
+        if (seed == null) {
+            return new SplittableRandom();
+        }
+        return new SplittableRandom(streamSeed(seed, cellId));
+    }
+
+    /**
+     * Mixes every byte of the cell id into the seed, close seeds and similar ids still give unrelated streams. Ids
+     * with equal hash codes, e.g. "Aa" and "BB", do not share a stream.
+     */
+    public static long streamSeed(long seed, String cellId) {
+        byte[] bytes = cellId.getBytes(StandardCharsets.UTF_8);
+        long z = seed;
+        for (byte b : bytes) {
+            z = mix(z + ((b & 0xFF) + 1) * GOLDEN_GAMMA);
+        }
+        return mix(z ^ bytes.length);
+    }
+
+    /**
+     * Seed of the stream number {@code index} of the cell, e.g. of one reporting period. Different indexes of the
+     * same cell never give the same seed.
+     */
+    public static long streamSeed(long seed, String cellId, long index) {
+        return mix(streamSeed(seed, cellId) + index * GOLDEN_GAMMA);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+}
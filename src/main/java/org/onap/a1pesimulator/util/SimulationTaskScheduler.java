@@ -0,0 +1,198 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.util;
+
+import java.util.Comparator;
+import java.util.Date;
+import java.util.PriorityQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Task scheduler whose fixed rate periods and start times are simulated time of the {@link SimulationClock}. With a
+ * speed above 0 tasks run on the pool with periods scaled to wall time. As fast as possible all periodic tasks run on
+ * one thread in the order of their simulated execution time, and the clock jumps from one task to the next.
+ */
+public class SimulationTaskScheduler extends ThreadPoolTaskScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulationTaskScheduler.class);
+
+    private final SimulationClock clock;
+    private final PriorityQueue<VirtualTask> virtualTasks = new PriorityQueue<>(
+            Comparator.comparingLong((VirtualTask task) -> task.time).thenComparingLong(task -> task.sequence));
+    private long sequence;
+    private Thread virtualLoop;
+
+    public SimulationTaskScheduler(SimulationClock clock) {
+        this.clock = clock;
+    }
+
+    public SimulationClock getClock() {
+        return clock;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        if (clock.isAsFastAsPossible()) {
+            return scheduleVirtual(task, clock.millis(), period);
+        }
+        return super.scheduleAtFixedRate(task, toWallPeriod(period));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+        if (clock.isAsFastAsPossible()) {
+            return scheduleVirtual(task, startTime.getTime(), period);
+        }
+        long wallDelay = clock.toWallMillis(Math.max(0, startTime.getTime() - clock.millis()));
+        return super.scheduleAtFixedRate(task, new Date(System.currentTimeMillis() + wallDelay),
+                toWallPeriod(period));
+    }
+
+    @Override
+    public void shutdown() {
+        synchronized (this) {
+            if (virtualLoop != null) {
+                virtualLoop.interrupt();
+                virtualLoop = null;
+            }
+            virtualTasks.forEach(task -> task.cancel(false));
+            virtualTasks.clear();
+        }
+        super.shutdown();
+    }
+
+    private long toWallPeriod(long period) {
+        return Math.max(1, clock.toWallMillis(period));
+    }
+
+    private synchronized ScheduledFuture<?> scheduleVirtual(Runnable runnable, long time, long period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period has to be positive: " + period);
+        }
+        VirtualTask task = new VirtualTask(runnable, Math.max(time, clock.millis()), period, sequence++);
+        virtualTasks.add(task);
+        if (virtualLoop == null) {
+            virtualLoop = new Thread(this::runVirtualTasks, getThreadNamePrefix() + "virtual");
+            virtualLoop.setDaemon(true);
+            virtualLoop.start();
+        }
+        notifyAll();
+        return task;
+    }
+
+    private void runVirtualTasks() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                VirtualTask task = takeNextTask();
+                clock.advanceTo(task.time);
+                try {
+                    task.runnable.run();
+                } catch (RuntimeException e) {
+                    log.error("Unexpected error occurred in scheduled task", e);
+                }
+                reschedule(task);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized VirtualTask takeNextTask() throws InterruptedException {
+        while (true) {
+            VirtualTask task = virtualTasks.poll();
+            if (task == null) {
+                wait();
+            } else if (!task.isCancelled()) {
+                return task;
+            }
+        }
+    }
+
+    private synchronized void reschedule(VirtualTask task) {
+        if (!task.isCancelled()) {
+            task.time += task.period;
+            task.sequence = sequence++;
+            virtualTasks.add(task);
+        }
+    }
+
+    /**
+     * Periodic task running in simulated time, cancelling it removes it before its next execution
+     */
+    private class VirtualTask implements ScheduledFuture<Object> {
+
+        private final Runnable runnable;
+        private final long period;
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private long time;
+        private long sequence;
+
+        VirtualTask(Runnable runnable, long time, long period, long sequence) {
+            this.runnable = runnable;
+            this.time = time;
+            this.period = period;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(time - clock.millis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean wasCancelled = isCancelled();
+            cancelled.countDown();
+            return !wasCancelled;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.getCount() == 0;
+        }
+
+        @Override
+        public boolean isDone() {
+            return isCancelled();
+        }
+
+        @Override
+        public Object get() throws InterruptedException {
+            cancelled.await();
+            throw new CancellationException();
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+            if (!cancelled.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            throw new CancellationException();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Watches directories of topology files and runs the listener once a burst of changes is over. Besides the files
+ * themselves, entries starting with ".." are watched too, Kubernetes swaps ConfigMap content by replacing the
+ * "..data" symlink, while the file names stay the same.
+ */
+class TopologyFileWatcher implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(TopologyFileWatcher.class);
+    private static final String CONFIG_MAP_PREFIX = "..";
+
+    private final WatchService watchService;
+    private final Set<Path> fileNames;
+    private final long debounceMs;
+    private final Runnable listener;
+    private final Thread thread;
+
+    TopologyFileWatcher(Collection<Path> files, long debounceMs, Runnable listener) throws IOException {
+        this.watchService = files.iterator().next().getFileSystem().newWatchService();
+        this.fileNames = files.stream().map(Path::getFileName).collect(Collectors.toSet());
+        this.debounceMs = debounceMs;
+        this.listener = listener;
+        for (Path directory : files.stream().map(Path::getParent).collect(Collectors.toSet())) {
+            if (Files.isDirectory(directory)) {
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+            } else {
+                log.warn("Topology directory {} does not exist, changes in it are not watched", directory);
+            }
+        }
+        this.thread = new Thread(this::watch, "topology-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void close() throws IOException {
+        thread.interrupt();
+        watchService.close();
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean changed = isRelevant(watchService.take());
+                // wait until the writer is done, atomic renames and symlink swaps come as several events
+                WatchKey key;
+                while ((key = watchService.poll(debounceMs, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= isRelevant(key);
+                }
+                if (changed) {
+                    runListener();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Topology watcher closed");
+        }
+    }
+
+    private boolean isRelevant(WatchKey key) {
+        boolean relevant = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                relevant = true;
+                continue;
+            }
+            Path name = (Path) event.context();
+            relevant |= fileNames.contains(name) || name.toString().startsWith(CONFIG_MAP_PREFIX);
+        }
+        key.reset();
+        return relevant;
+    }
+
+    private void runListener() {
+        try {
+            listener.run();
+        } catch (RuntimeException e) {
+            log.error("Topology reload after file change failed", e);
+        }
+    }
+}
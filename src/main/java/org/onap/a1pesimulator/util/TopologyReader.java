@@ -14,58 +14,259 @@
 package org.onap.a1pesimulator.util;
 
 import java.io.File;
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
-import java.util.Collections;
-import org.onap.a1pesimulator.data.cell.CellList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.util.TopologySnapshot.Fingerprint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
-public class TopologyReader {
+public class TopologyReader implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TopologyReader.class);
+    private static final String CELL_LIST_FIELD = "cellList";
 
     private final String topologyCellConfigFile;
     private final String topologyUeConfigFile;
+    private final boolean snapshotEnabled;
+    private final Path snapshotPath;
+    private final boolean watchEnabled;
+    private final long watchDebounceMs;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
+    private TopologyFileWatcher watcher;
 
     private long topologyCellLastModified = 0L;
+    private long topologyCellLength = 0L;
     private long topologyUeLastModified = 0L;
+    private long topologyUeLength = 0L;
+    private TopologySnapshot snapshot;
+    private boolean snapshotRead;
+    // fingerprints taken when the topology files were last read, and of the snapshot on disk
+    private volatile Fingerprint cellFingerprint;
+    private volatile Fingerprint ueFingerprint;
+    private Fingerprint snapshotCellFingerprint;
+    private Fingerprint snapshotUeFingerprint;
+    // one write at a time, a newer snapshot replaces the one waiting
+    private final ThreadPoolExecutor snapshotWriter =
+            new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1), runnable -> {
+                Thread thread = new Thread(runnable, "topology-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardOldestPolicy());
 
     private TopologyReader(@Value("${topology.cell.config.file}") final String topologyCellConfigFile,
-            @Value("${topology.ue.config.file}") final String topologyUeConfigFile) {
+            @Value("${topology.ue.config.file}") final String topologyUeConfigFile,
+            @Value("${topology.snapshot.enabled}") final boolean snapshotEnabled,
+            @Value("${topology.snapshot.file}") final String snapshotFile,
+            @Value("${topology.watch.enabled}") final boolean watchEnabled,
+            @Value("${topology.watch.debounce.ms}") final long watchDebounceMs) {
         this.topologyCellConfigFile = topologyCellConfigFile;
         this.topologyUeConfigFile = topologyUeConfigFile;
+        this.snapshotEnabled = snapshotEnabled;
+        this.snapshotPath = Paths.get(snapshotFile).toAbsolutePath();
+        this.watchEnabled = watchEnabled;
+        this.watchDebounceMs = watchDebounceMs;
+    }
+
+    /**
+     * Registers a listener run shortly after a topology file was written, renamed or swapped. Listeners are called
+     * on the watcher thread. Nothing is watched if watching is disabled.
+     */
+    public synchronized void registerChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+        if (!watchEnabled || watcher != null) {
+            return;
+        }
+        List<Path> files = List.of(Paths.get(topologyCellConfigFile).toAbsolutePath(),
+                Paths.get(topologyUeConfigFile).toAbsolutePath());
+        try {
+            watcher = new TopologyFileWatcher(files, watchDebounceMs, () -> changeListeners.forEach(Runnable::run));
+        } catch (IOException e) {
+            log.warn("Cannot watch topology files, changes are detected by polling only", e);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws IOException {
+        snapshotWriter.shutdownNow();
+        if (watcher != null) {
+            watcher.close();
+        }
     }
 
-    public CellList loadCellTopology() {
+    /**
+     * Streams cells of the cell topology file to the consumer, nothing is streamed if the file does not exist
+     */
+    public void readCellTopology(Consumer<CellData> consumer) {
         final File file = new File(topologyCellConfigFile);
         topologyCellLastModified = file.lastModified();
+        topologyCellLength = file.length();
 
         if (!file.exists()) {
-            return new CellList();
+            return;
         }
 
-        return JsonUtils.INSTANCE.deserializeFromFile(topologyCellConfigFile, CellList.class);
+        Optional<TopologySnapshot> matchingSnapshot = getMatchingSnapshot();
+        if (matchingSnapshot.isPresent()) {
+            cellFingerprint = matchingSnapshot.get().getCellFile();
+            matchingSnapshot.get().forEachCell(consumer);
+            return;
+        }
+        cellFingerprint = takeFingerprint(file);
+        JsonUtils.INSTANCE.streamFromFile(topologyCellConfigFile, CELL_LIST_FIELD, CellData.class, consumer);
     }
 
-    public Collection<UserEquipment> loadUeTopology() {
+    /**
+     * Streams UEs of the UE topology file to the consumer, nothing is streamed if the file does not exist
+     */
+    public void readUeTopology(Consumer<UserEquipment> consumer) {
         final File file = new File(topologyUeConfigFile);
         topologyUeLastModified = file.lastModified();
+        topologyUeLength = file.length();
 
         if (!file.exists()) {
-            return Collections.emptyList();
+            return;
+        }
+
+        Optional<TopologySnapshot> matchingSnapshot = getMatchingSnapshot();
+        if (matchingSnapshot.isPresent()) {
+            ueFingerprint = matchingSnapshot.get().getUeFile();
+            matchingSnapshot.get().forEachUe(consumer);
+            return;
+        }
+        ueFingerprint = takeFingerprint(file);
+        JsonUtils.INSTANCE.streamFromFile(topologyUeConfigFile, null, UserEquipment.class, consumer);
+    }
+
+    /**
+     * Binary topology snapshot taken from the current topology files, empty if snapshots are disabled or the files
+     * changed since the snapshot was written. Once the snapshot does not match, it is not used again.
+     */
+    public synchronized Optional<TopologySnapshot> getMatchingSnapshot() {
+        if (!snapshotEnabled) {
+            return Optional.empty();
+        }
+        if (!snapshotRead) {
+            snapshotRead = true;
+            snapshot = readSnapshot();
+            if (snapshot != null) {
+                snapshotCellFingerprint = snapshot.getCellFile();
+                snapshotUeFingerprint = snapshot.getUeFile();
+            }
+        }
+        try {
+            if (snapshot != null && snapshot.matches(new File(topologyCellConfigFile),
+                    new File(topologyUeConfigFile))) {
+                return Optional.of(snapshot);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot compare topology files with snapshot {}", snapshotPath, e);
         }
+        snapshot = null;
+        return Optional.empty();
+    }
+
+    /**
+     * Drops the snapshot after the topology was loaded from it, it is not needed until the next start
+     */
+    public synchronized void releaseSnapshot() {
+        snapshot = null;
+    }
 
-        final UserEquipment[] userEquipments =
-                JsonUtils.INSTANCE.deserializeFromFile(topologyUeConfigFile, UserEquipment[].class);
-        return Arrays.asList(userEquipments);
+    /**
+     * Writes a snapshot of the loaded topology in the background, if snapshots are enabled and the snapshot on disk
+     * was not taken from the topology files as they were last read. The cells and UEs are copied before this method
+     * returns, so handovers done later do not reach the snapshot.
+     *
+     * @param cells cells read from the cell topology file
+     * @param ues UEs read from the UE topology file
+     * @param coverage sorted cell index slots in range of the UE
+     */
+    public synchronized void writeSnapshot(Collection<CellDetails> cells, Collection<UserEquipment> ues,
+            double range, int indexedCellCount, Function<UserEquipment, int[]> coverage) {
+        Fingerprint cellFile = cellFingerprint;
+        Fingerprint ueFile = ueFingerprint;
+        if (!snapshotEnabled || cellFile == null || ueFile == null || (cellFile.equals(snapshotCellFingerprint)
+                && ueFile.equals(snapshotUeFingerprint))) {
+            return;
+        }
+        ReloadMeter meter = new ReloadMeter();
+        TopologySnapshot taken;
+        try {
+            taken = TopologySnapshot.of(cellFile, ueFile, range, indexedCellCount, cells, ues, coverage);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Cannot take topology snapshot", e);
+            return;
+        }
+        snapshotCellFingerprint = cellFile;
+        snapshotUeFingerprint = ueFile;
+        snapshotWriter.execute(() -> {
+            try {
+                Files.createDirectories(snapshotPath.getParent());
+                taken.write(snapshotPath);
+                log.info("Topology snapshot written to {} in {}", snapshotPath, meter);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Cannot write topology snapshot {}", snapshotPath, e);
+                forgetSnapshot(cellFile, ueFile);
+            }
+        });
     }
 
     public boolean topologyCellHasChanged() {
-        return topologyCellLastModified != new File(topologyCellConfigFile).lastModified();
+        File file = new File(topologyCellConfigFile);
+        return topologyCellLastModified != file.lastModified() || topologyCellLength != file.length();
     }
 
     public boolean topologyUeHasChanged() {
-        return topologyUeLastModified != new File(topologyUeConfigFile).lastModified();
+        File file = new File(topologyUeConfigFile);
+        return topologyUeLastModified != file.lastModified() || topologyUeLength != file.length();
+    }
+
+    private Fingerprint takeFingerprint(File file) {
+        if (!snapshotEnabled) {
+            return null;
+        }
+        try {
+            return Fingerprint.of(file);
+        } catch (IOException e) {
+            log.warn("Cannot take fingerprint of topology file {}, no snapshot is written", file, e);
+            return null;
+        }
+    }
+
+    private synchronized void forgetSnapshot(Fingerprint cellFile, Fingerprint ueFile) {
+        if (cellFile.equals(snapshotCellFingerprint) && ueFile.equals(snapshotUeFingerprint)) {
+            snapshotCellFingerprint = null;
+            snapshotUeFingerprint = null;
+        }
+    }
+
+    private TopologySnapshot readSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return null;
+        }
+        try {
+            return TopologySnapshot.read(snapshotPath);
+        } catch (IOException e) {
+            log.warn("Cannot read topology snapshot {}, topology files are used instead", snapshotPath, e);
+            return null;
+        }
     }
 }
@@ -0,0 +1,364 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellList.Cell;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Binary copy of the cell and UE topology, together with the UE coverage computed for it. Coordinates are stored in
+ * columns, ids in one table of distinct strings referenced by position. The snapshot is valid only as long as both
+ * topology files it was made from stay the same.
+ *
+ * <p>Layout: magic, version, cell and UE file fingerprints, cell range, indexed cell count, string table, counts,
+ * cell columns (id, latitude, longitude), UE columns (id, latitude, longitude, cell id, coverage offset) and coverage
+ * slots. Missing coordinates are stored as NaN, missing ids as -1. Only the string table is copied to the heap when
+ * the snapshot is read, the columns are accessed in the mapped file.
+ */
+public class TopologySnapshot {
+
+    private static final int MAGIC = 0x544F5053;
+    private static final int VERSION = 1;
+    private static final int NO_STRING = -1;
+
+    private final Fingerprint cellFile;
+    private final Fingerprint ueFile;
+    private final double range;
+    private final int indexedCellCount;
+    private final String[] strings;
+    private final int cellCount;
+    private final int ueCount;
+    private final int coverageSize;
+    private final ByteBuffer columns;
+    private final int cellLatitudesAt;
+    private final int cellLongitudesAt;
+    private final int ueIdsAt;
+    private final int ueLatitudesAt;
+    private final int ueLongitudesAt;
+    private final int ueCellIdsAt;
+    private final int coverageOffsetsAt;
+    private final int coverageSlotsAt;
+
+    private TopologySnapshot(Fingerprint cellFile, Fingerprint ueFile, double range, int indexedCellCount,
+            String[] strings, int cellCount, int ueCount, int coverageSize, ByteBuffer columns) {
+        this.cellFile = cellFile;
+        this.ueFile = ueFile;
+        this.range = range;
+        this.indexedCellCount = indexedCellCount;
+        this.strings = strings;
+        this.cellCount = cellCount;
+        this.ueCount = ueCount;
+        this.coverageSize = coverageSize;
+        this.columns = columns;
+        this.cellLatitudesAt = cellCount * Integer.BYTES;
+        this.cellLongitudesAt = cellLatitudesAt + cellCount * Double.BYTES;
+        this.ueIdsAt = cellLongitudesAt + cellCount * Double.BYTES;
+        this.ueLatitudesAt = ueIdsAt + ueCount * Integer.BYTES;
+        this.ueLongitudesAt = ueLatitudesAt + ueCount * Double.BYTES;
+        this.ueCellIdsAt = ueLongitudesAt + ueCount * Double.BYTES;
+        this.coverageOffsetsAt = ueCellIdsAt + ueCount * Integer.BYTES;
+        this.coverageSlotsAt = coverageOffsetsAt + (ueCount + 1) * Integer.BYTES;
+    }
+
+    /**
+     * Takes a snapshot of loaded topology
+     *
+     * @param cellFile fingerprint of the cell topology file the cells were read from
+     * @param ueFile fingerprint of the UE topology file the UEs were read from
+     * @param coverage sorted cell index slots in range of the UE
+     */
+    public static TopologySnapshot of(Fingerprint cellFile, Fingerprint ueFile, double range, int indexedCellCount,
+            Collection<CellDetails> cells, Collection<UserEquipment> ues, Function<UserEquipment, int[]> coverage)
+            throws IOException {
+        List<int[]> ueCoverage = new ArrayList<>(ues.size());
+        int coverageSize = 0;
+        for (UserEquipment ue : ues) {
+            int[] slots = coverage.apply(ue);
+            ueCoverage.add(slots);
+            coverageSize += slots.length;
+        }
+        StringTable strings = new StringTable();
+        int[] cellIdRefs = cells.stream().mapToInt(cell -> strings.ref(cell.getId())).toArray();
+        int[] ueIdRefs = ues.stream().mapToInt(ue -> strings.ref(ue.getId())).toArray();
+        int[] ueCellIdRefs = ues.stream().mapToInt(ue -> strings.ref(ue.getCellId())).toArray();
+
+        ByteBuffer columns = ByteBuffer.allocate(columnsSize(cells.size(), ues.size(), coverageSize));
+        TopologySnapshot snapshot = new TopologySnapshot(cellFile, ueFile, range, indexedCellCount,
+                strings.values.toArray(new String[0]), cells.size(), ues.size(), coverageSize, columns);
+        int i = 0;
+        for (CellDetails cell : cells) {
+            columns.putInt(i * Integer.BYTES, cellIdRefs[i]);
+            columns.putDouble(snapshot.cellLatitudesAt + i * Double.BYTES, toDouble(cell.getLatitude()));
+            columns.putDouble(snapshot.cellLongitudesAt + i * Double.BYTES, toDouble(cell.getLongitude()));
+            i++;
+        }
+        i = 0;
+        int offset = 0;
+        for (UserEquipment ue : ues) {
+            columns.putInt(snapshot.ueIdsAt + i * Integer.BYTES, ueIdRefs[i]);
+            columns.putDouble(snapshot.ueLatitudesAt + i * Double.BYTES, toDouble(ue.getLatitude()));
+            columns.putDouble(snapshot.ueLongitudesAt + i * Double.BYTES, toDouble(ue.getLongitude()));
+            columns.putInt(snapshot.ueCellIdsAt + i * Integer.BYTES, ueCellIdRefs[i]);
+            for (int slot : ueCoverage.get(i)) {
+                columns.putInt(snapshot.coverageSlotsAt + offset++ * Integer.BYTES, slot);
+            }
+            columns.putInt(snapshot.coverageOffsetsAt + ++i * Integer.BYTES, offset);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Writes the snapshot to a temporary file first, so a crash never leaves a partial snapshot behind
+     */
+    public void write(Path path) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteArrayOutputStream header = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(header);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            cellFile.write(out);
+            ueFile.write(out);
+            out.writeDouble(range);
+            out.writeInt(indexedCellCount);
+            out.writeInt(strings.length);
+            for (String value : strings) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+            out.writeInt(cellCount);
+            out.writeInt(ueCount);
+            out.writeInt(coverageSize);
+            writeFully(channel, ByteBuffer.wrap(header.toByteArray()));
+            writeFully(channel, columns.duplicate().clear());
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the snapshot file, the mapping stays valid after the file is closed
+     *
+     * @throws IOException if the file cannot be read or is not a snapshot of this version
+     */
+    public static TopologySnapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("Not a topology snapshot: " + path);
+            }
+            Fingerprint cellFile = Fingerprint.read(buffer);
+            Fingerprint ueFile = Fingerprint.read(buffer);
+            double range = buffer.getDouble();
+            int indexedCellCount = buffer.getInt();
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            int cellCount = buffer.getInt();
+            int ueCount = buffer.getInt();
+            int coverageSize = buffer.getInt();
+            int size = columnsSize(cellCount, ueCount, coverageSize);
+            if (buffer.remaining() != size) {
+                throw new IOException("Truncated topology snapshot: " + path);
+            }
+            return new TopologySnapshot(cellFile, ueFile, range, indexedCellCount, strings, cellCount, ueCount,
+                    coverageSize, buffer.slice());
+        } catch (RuntimeException e) {
+            // truncated or corrupted file
+            throw new IOException("Cannot read topology snapshot: " + path, e);
+        }
+    }
+
+    /**
+     * True if the topology files did not change since the snapshot was taken
+     */
+    public boolean matches(File cellFile, File ueFile) throws IOException {
+        return this.cellFile.matches(cellFile) && this.ueFile.matches(ueFile);
+    }
+
+    public Fingerprint getCellFile() {
+        return cellFile;
+    }
+
+    public Fingerprint getUeFile() {
+        return ueFile;
+    }
+
+    /**
+     * True if the coverage was computed for the given cell range and the same number of indexed cells
+     */
+    public boolean hasCoverageFor(double range, int indexedCellCount) {
+        return this.range == range && this.indexedCellCount == indexedCellCount;
+    }
+
+    public void forEachCell(Consumer<CellData> consumer) {
+        for (int i = 0; i < cellCount; i++) {
+            consumer.accept(new CellData(new Cell(string(columns.getInt(i * Integer.BYTES)),
+                    toDouble(columns.getDouble(cellLatitudesAt + i * Double.BYTES)),
+                    toDouble(columns.getDouble(cellLongitudesAt + i * Double.BYTES)))));
+        }
+    }
+
+    public void forEachUe(Consumer<UserEquipment> consumer) {
+        for (int i = 0; i < ueCount; i++) {
+            consumer.accept(new UserEquipment(string(columns.getInt(ueIdsAt + i * Integer.BYTES)),
+                    toDouble(columns.getDouble(ueLatitudesAt + i * Double.BYTES)),
+                    toDouble(columns.getDouble(ueLongitudesAt + i * Double.BYTES)),
+                    string(columns.getInt(ueCellIdsAt + i * Integer.BYTES))));
+        }
+    }
+
+    /**
+     * Passes UE id and its sorted coverage slots to the consumer
+     */
+    public void forEachCoverage(BiConsumer<String, int[]> consumer) {
+        for (int i = 0; i < ueCount; i++) {
+            int from = columns.getInt(coverageOffsetsAt + i * Integer.BYTES);
+            int[] slots = new int[columns.getInt(coverageOffsetsAt + (i + 1) * Integer.BYTES) - from];
+            for (int j = 0; j < slots.length; j++) {
+                slots[j] = columns.getInt(coverageSlotsAt + (from + j) * Integer.BYTES);
+            }
+            consumer.accept(string(columns.getInt(ueIdsAt + i * Integer.BYTES)), slots);
+        }
+    }
+
+    private String string(int index) {
+        return index == NO_STRING ? null : strings[index];
+    }
+
+    private static int columnsSize(int cellCount, int ueCount, int coverageSize) throws IOException {
+        long size = (long) cellCount * (Integer.BYTES + 2 * Double.BYTES)
+                            + (long) ueCount * (2 * Integer.BYTES + 2 * Double.BYTES)
+                            + (long) (ueCount + 1 + coverageSize) * Integer.BYTES;
+        if (cellCount < 0 || ueCount < 0 || coverageSize < 0 || size > Integer.MAX_VALUE) {
+            throw new IOException("Topology too large for a snapshot: " + size + " bytes");
+        }
+        return (int) size;
+    }
+
+    private static double toDouble(Double value) {
+        return value == null ? Double.NaN : value;
+    }
+
+    private static Double toDouble(double value) {
+        return Double.isNaN(value) ? null : value;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Distinct strings in the order they were first referenced
+     */
+    private static class StringTable {
+
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+
+        int ref(String value) {
+            if (value == null) {
+                return NO_STRING;
+            }
+            return indexes.computeIfAbsent(value, v -> {
+                values.add(v);
+                return values.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Size, modification time and CRC32 of a topology file. A file with the same size and modification time is
+     * taken as unchanged without reading it, otherwise the checksum decides.
+     */
+    @EqualsAndHashCode
+    public static class Fingerprint {
+
+        private final long size;
+        private final long lastModified;
+        private final long checksum;
+
+        Fingerprint(long size, long lastModified, long checksum) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Takes the fingerprint of the file as it is now, before its content is read
+         */
+        public static Fingerprint of(File file) throws IOException {
+            return new Fingerprint(file.length(), file.lastModified(), checksum(file));
+        }
+
+        static Fingerprint read(ByteBuffer buffer) {
+            return new Fingerprint(buffer.getLong(), buffer.getLong(), buffer.getLong());
+        }
+
+        void write(DataOutputStream out) throws IOException {
+            out.writeLong(size);
+            out.writeLong(lastModified);
+            out.writeLong(checksum);
+        }
+
+        boolean matches(File file) throws IOException {
+            if (!file.exists() || file.length() != size) {
+                return false;
+            }
+            return file.lastModified() == lastModified || checksum(file) == checksum;
+        }
+
+        private static long checksum(File file) throws IOException {
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[1 << 16];
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    crc.update(buffer, 0, read);
+                }
+            }
+            return crc.getValue();
+        }
+    }
+}
@@ -15,12 +15,15 @@ package org.onap.a1pesimulator.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.onap.a1pesimulator.TestHelpers.FIRST_UE_CELL_ID;
 import static org.onap.a1pesimulator.TestHelpers.FIRST_UE_HANDOVER_CELL;
 import static org.onap.a1pesimulator.TestHelpers.FIRST_UE_ID;
 import static org.onap.a1pesimulator.controller.URLHelper.getHealthCheckEndpoint;
 import static org.onap.a1pesimulator.controller.URLHelper.getPolicyPath;
 import static org.onap.a1pesimulator.controller.URLHelper.getPolicyTypePath;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_NONE_MATCH;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -31,6 +34,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.google.common.collect.Lists;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,6 +42,7 @@ import lombok.NoArgsConstructor;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.service.a1.PolicyActionDispatcher;
 import org.onap.a1pesimulator.service.ue.RanUeService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -70,6 +75,9 @@ public class RanA1ControllerTest {
     @Autowired
     RanUeService ranUeService;
 
+    @Autowired
+    PolicyActionDispatcher policyActionDispatcher;
+
     @Test
     public void testHealthcheck() throws Exception {
         this.mvc.perform(get(getHealthCheckEndpoint()));
@@ -99,6 +107,7 @@ public class RanA1ControllerTest {
         String policyURL = getPolicyPath("3", "1");
 
         mvc.perform(put(policyURL).content(getHandoverPolicy())).andExpect(status().isAccepted());
+        assertTrue(policyActionDispatcher.awaitCompletion(10, TimeUnit.SECONDS));
 
         // Remove escaping
         Policy policy = mapper.readValue(getFromController(policyURL), Policy.class);
@@ -114,6 +123,7 @@ public class RanA1ControllerTest {
         assertEquals(FIRST_UE_HANDOVER_CELL, userEquipment.getCellId());
 
         mvc.perform(put(policyURL).content(getOriginalPolicy())).andExpect(status().isAccepted());
+        assertTrue(policyActionDispatcher.awaitCompletion(10, TimeUnit.SECONDS));
     }
 
     @Test
@@ -127,6 +137,16 @@ public class RanA1ControllerTest {
         mvc.perform(put(policyURL).content(getOriginalPolicy())).andExpect(status().isAccepted());
     }
 
+    @Test
+    public void shouldReturn400WhenPolicyDoesNotComplyWithSchema() throws Exception {
+        String schema = "{\"policy_type_id\": 1002, \"create_schema\": {\"type\": \"object\", "
+                                + "\"required\": [\"scope\", \"resources\"]}}";
+        mvc.perform(put(getPolicyTypePath("1002")).content(schema)).andExpect(status().isCreated());
+
+        mvc.perform(put(getPolicyPath("1002", "1")).content("{\"scope\": {}}")).andExpect(status().isBadRequest());
+        mvc.perform(put(getPolicyPath("1002", "1")).content(getOriginalPolicy())).andExpect(status().isAccepted());
+    }
+
     @Test
     public void shouldDeletePolicyInstanceAndReturn200() throws Exception {
         String url = getPolicyPath("3", "1");
@@ -139,6 +159,19 @@ public class RanA1ControllerTest {
         mvc.perform(delete(url)).andExpect(status().isNotFound());
     }
 
+    @Test
+    public void shouldReturn304WhenPolicyIdsNotModified() throws Exception {
+        String url = getPolicyTypePath("1001") + "/policies";
+        mvc.perform(put(getPolicyPath("1001", "1")).content(getOriginalPolicy())).andExpect(status().isAccepted());
+        String eTag = mvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getHeader(ETAG);
+        assertNotNull(eTag);
+
+        mvc.perform(get(url).header(IF_NONE_MATCH, eTag)).andExpect(status().isNotModified());
+
+        mvc.perform(put(getPolicyPath("1001", "2")).content(getOriginalPolicy())).andExpect(status().isAccepted());
+        mvc.perform(get(url).header(IF_NONE_MATCH, eTag)).andExpect(status().isOk());
+    }
+
     private String getFromController(String url) throws Exception {
         return this.mvc.perform(get(url)).andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
     }
@@ -15,7 +15,15 @@ package org.onap.a1pesimulator.controller;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.nullValue;
 import static org.onap.a1pesimulator.controller.URLHelper.getRanCellControllerEndpoint;
+import static org.onap.a1pesimulator.controller.URLHelper.getRanCellsPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,6 +33,7 @@ import java.io.IOException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellDetails.Fields;
 import org.onap.a1pesimulator.data.cell.RanCell;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -124,4 +133,71 @@ public class RanCellControllerTest {
                                  .accept(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(MockMvcResultMatchers.status().isOk()).andDo(MockMvcResultHandlers.print());
     }
+
+    @Test
+    public void testGetFirstCellsPage() throws Exception {
+        this.mvc.perform(get(getRanCellsPath()).param("limit", "2").param("fields", Fields.latitude)
+                                 .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value("Chn0000"))
+                .andExpect(jsonPath("$.items[0].latitude").exists())
+                .andExpect(jsonPath("$.items[0].longitude").doesNotExist())
+                .andExpect(jsonPath("$.items[0].connectedUserEquipments").doesNotExist())
+                .andExpect(jsonPath("$.items[1].id").value("Chn0001"))
+                .andExpect(jsonPath("$.nextCursor").value("Chn0001"));
+    }
+
+    @Test
+    public void testGetFollowingCellsPage() throws Exception {
+        this.mvc.perform(get(getRanCellsPath()).param("limit", "2").param("cursor", "Chn0001")
+                                 .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value("Chn0002"))
+                .andExpect(jsonPath("$.items[0]." + Fields.currentState).exists())
+                .andExpect(jsonPath("$.items[1].id").value("Chn0003"))
+                .andExpect(jsonPath("$.nextCursor").value("Chn0003"));
+    }
+
+    @Test
+    public void testGetLastCellsPage() throws Exception {
+        this.mvc.perform(get(getRanCellsPath()).param("limit", "2").param("cursor", "Chn0003")
+                                 .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value("Chn0004"))
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    public void testRejectEmptyCellsPage() throws Exception {
+        this.mvc.perform(get(getRanCellsPath()).param("limit", "0").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testStreamCellsAsNdjson() throws Exception {
+        MvcResult started = this.mvc.perform(get(getRanCellsPath()).param("cursor", "Chn0002")
+                                                     .param("fields", Fields.longitude)
+                                                     .accept(NdjsonWriter.APPLICATION_NDJSON))
+                                    .andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult result = this.mvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+                                   .andExpect(content().contentType(NdjsonWriter.APPLICATION_NDJSON)).andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("Chn0003", mapper.readTree(lines[0]).get(Fields.id).asText());
+        assertTrue(mapper.readTree(lines[0]).has(Fields.longitude));
+        assertEquals("Chn0004", mapper.readTree(lines[1]).get(Fields.id).asText());
+    }
+
+    @Test
+    public void testGetCellsAsJsonForAnyMediaType() throws Exception {
+        this.mvc.perform(get(getRanCellsPath()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.itemsLength").value(5));
+    }
 }
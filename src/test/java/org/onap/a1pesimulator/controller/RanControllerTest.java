@@ -17,6 +17,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.onap.a1pesimulator.controller.URLHelper.getRanCellControllerEndpoint;
 import static org.onap.a1pesimulator.controller.URLHelper.getRanControllerEndpoint;
+import static org.onap.a1pesimulator.controller.URLHelper.getRanEventActionsPath;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.IOException;
@@ -74,4 +75,13 @@ public class RanControllerTest {
                                  .accept(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(MockMvcResultMatchers.status().isOk()).andDo(MockMvcResultHandlers.print());
     }
+
+    @Test
+    public void testGetEventActionStats() throws Exception {
+        this.mvc.perform(MockMvcRequestBuilders.get(getRanEventActionsPath()).accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$").isArray())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].action").exists())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].dropped").isNumber());
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.onap.a1pesimulator.controller.URLHelper.getPolicyPath;
+import static org.onap.a1pesimulator.controller.URLHelper.getRanPolicyPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.onap.a1pesimulator.data.PolicyBulkResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@RunWith(SpringRunner.class)
+public class RanPolicyControllerTest {
+
+    private static final String POLICY_TYPE_ID = "2000";
+    private static final String POLICY = "{\"scope\":{\"ueId\":\"not_existing_ue\"},\"resources\":[]}";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Test
+    public void shouldCreatePoliciesFromJsonArray() throws Exception {
+        String request = "[{\"policyId\":\"a1\",\"body\":" + POLICY + "},{\"policyId\":\"a2\",\"body\":" + POLICY
+                                 + "},{\"policyId\":\"a3\"}]";
+
+        List<PolicyBulkResult> results = postPolicies(request);
+
+        assertEquals(3, results.size());
+        assertEquals(202, results.get(0).getStatus());
+        assertEquals(202, results.get(1).getStatus());
+        assertEquals(400, results.get(2).getStatus());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "a2"))).andExpect(status().isOk());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "a3"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void shouldCreatePoliciesFromNdjson() throws Exception {
+        String request = "{\"policyId\":\"n1\",\"body\":" + POLICY + "}\n{\"policyId\":\"n2\",\"body\":" + POLICY
+                                 + "}\n";
+
+        List<PolicyBulkResult> results = postPolicies(request);
+
+        assertEquals(2, results.size());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "n1"))).andExpect(status().isOk());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "n2"))).andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldDeletePolicies() throws Exception {
+        postPolicies("[{\"policyId\":\"d1\",\"body\":" + POLICY + "}]");
+
+        String response = mvc.perform(delete(getRanPolicyPath(POLICY_TYPE_ID)).content("[\"d1\",\"missing\"]"))
+                                  .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        List<PolicyBulkResult> results = mapper.readValue(response, new TypeReference<List<PolicyBulkResult>>() {});
+
+        assertEquals(202, results.get(0).getStatus());
+        assertEquals(404, results.get(1).getStatus());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "d1"))).andExpect(status().isNotFound());
+    }
+
+    @Test
+    public void shouldReturn400ForMalformedRequest() throws Exception {
+        mvc.perform(post(getRanPolicyPath(POLICY_TYPE_ID)).content("[{\"policyId\":")).andExpect(
+                status().isBadRequest());
+    }
+
+    @Test
+    public void shouldKeepChunksStoredBeforeMalformedItem() throws Exception {
+        // chunks of two items in the test configuration
+        String request = "[{\"policyId\":\"m1\",\"body\":" + POLICY + "},{\"policyId\":\"m2\",\"body\":" + POLICY
+                                 + "},{\"policyId\":\"m3\",\"body\":" + POLICY + "},{\"policyId\":";
+
+        mvc.perform(post(getRanPolicyPath(POLICY_TYPE_ID)).content(request)).andExpect(status().isBadRequest());
+
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "m2"))).andExpect(status().isOk());
+        mvc.perform(get(getPolicyPath(POLICY_TYPE_ID, "m3"))).andExpect(status().isNotFound());
+    }
+
+    private List<PolicyBulkResult> postPolicies(String request) throws Exception {
+        String response = mvc.perform(post(getRanPolicyPath(POLICY_TYPE_ID)).content(request))
+                                  .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+        return mapper.readValue(response, new TypeReference<List<PolicyBulkResult>>() {});
+    }
+}
@@ -15,7 +15,15 @@ package org.onap.a1pesimulator.controller;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.nullValue;
 import static org.onap.a1pesimulator.controller.URLHelper.getRanUeControllerEndpoint;
+import static org.onap.a1pesimulator.controller.URLHelper.getRanUesPath;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -25,6 +33,7 @@ import java.io.IOException;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.data.ue.UserEquipment.Fields;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -87,4 +96,51 @@ public class RanUeControllerTest {
         UserEquipment ue = this.mapFromJson(content, UserEquipment.class);
         assertEquals(ue.getId(), "1");
     }
+
+    @Test
+    public void testGetFirstUesPage() throws Exception {
+        this.mvc.perform(get(getRanUesPath()).param("limit", "2").param("fields", Fields.cellId)
+                                 .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value("emergency_police_111"))
+                .andExpect(jsonPath("$.items[0].cellId").exists())
+                .andExpect(jsonPath("$.items[0].cellsInRange").doesNotExist())
+                .andExpect(jsonPath("$.items[1].id").value("mobile_samsung_s10"))
+                .andExpect(jsonPath("$.nextCursor").value("mobile_samsung_s10"));
+    }
+
+    @Test
+    public void testGetLastUesPage() throws Exception {
+        this.mvc.perform(get(getRanUesPath()).param("limit", "2").param("cursor", "mobile_samsung_s10")
+                                 .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].id").value("mobile_samsung_s20"))
+                .andExpect(jsonPath("$.items[0]." + Fields.cellsInRange).isArray())
+                .andExpect(jsonPath("$.nextCursor").value(nullValue()));
+    }
+
+    @Test
+    public void testStreamUesAsNdjson() throws Exception {
+        MvcResult started = this.mvc.perform(get(getRanUesPath()).param("cursor", "emergency_police_111")
+                                                     .accept(NdjsonWriter.APPLICATION_NDJSON))
+                                    .andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult result = this.mvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+                                   .andExpect(content().contentType(NdjsonWriter.APPLICATION_NDJSON)).andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("mobile_samsung_s10", mapper.readTree(lines[0]).get(Fields.id).asText());
+        assertEquals("mobile_samsung_s20", mapper.readTree(lines[1]).get(Fields.id).asText());
+    }
+
+    @Test
+    public void testGetUesAsJsonForAnyMediaType() throws Exception {
+        this.mvc.perform(get(getRanUesPath()).accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.itemsLength").value(3));
+    }
 }
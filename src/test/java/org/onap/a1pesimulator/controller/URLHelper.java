@@ -28,6 +28,14 @@ public class URLHelper {
 
     private static final String RAN_UE_CONTROLLER_PREFIX = "${restapi.version}/ran/ues";
 
+    private static final String RAN_POLICY_CONTROLLER_PREFIX = "/v1/ran/policies";
+
+    private static final String RAN_EVENT_ACTIONS_PATH = "/v1/ran/eventActions";
+
+    private static final String RAN_CELLS_PATH = "/v1/ran/cells";
+
+    private static final String RAN_UES_PATH = "/v1/ran/ues";
+
     public static String getHealthCheckEndpoint() {
         return A1_CONTROLLER_PREFIX + "/healthcheck";
     }
@@ -55,4 +63,20 @@ public class URLHelper {
     public static String getRanUeControllerEndpoint() {
         return RAN_UE_CONTROLLER_PREFIX;
     }
+
+    public static String getRanCellsPath() {
+        return RAN_CELLS_PATH;
+    }
+
+    public static String getRanUesPath() {
+        return RAN_UES_PATH;
+    }
+
+    public static String getRanEventActionsPath() {
+        return RAN_EVENT_ACTIONS_PATH;
+    }
+
+    public static String getRanPolicyPath(String policyType) {
+        return RAN_POLICY_CONTROLLER_PREFIX + "/" + policyType;
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.data.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+import org.onap.a1pesimulator.data.cell.state.machine.ActiveState;
+import org.onap.a1pesimulator.util.ReloadMeter;
+
+class CellDetailsTest {
+
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 2000;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldFollowStateTransitions() {
+        CellDetails cell = CellDetails.builder().id("Cell1").build();
+
+        assertFalse(cell.nextState(CellStateEnum.ACTIVE));
+        assertTrue(cell.nextState(CellStateEnum.INACTIVE));
+        assertTrue(cell.nextState());
+        assertTrue(cell.nextState());
+        assertFalse(cell.nextState());
+        assertEquals(CellStateEnum.SLEEPING, cell.getCurrentState());
+        assertTrue(cell.previousState());
+        assertFalse(cell.previousState());
+        assertEquals(CellStateEnum.INACTIVE, cell.getCurrentState());
+    }
+
+    @Test
+    void shouldShareStateWithMovedCopy() {
+        CellDetails cell = CellDetails.builder().id("Cell1").latitude(50.0).longitude(19.0).build();
+        CellDetails moved = cell.withPosition(50.1, 19.1);
+
+        cell.nextState();
+
+        assertEquals(CellStateEnum.ACTIVE, moved.getCurrentState());
+        assertSame(ActiveState.INSTANCE, moved.getCellStateMachine());
+    }
+
+    @Test
+    void shouldLetExactlyOneOfCompetingCallersTransition() throws Exception {
+        CellDetails cell = CellDetails.builder().id("Cell1").build();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS, cell::previousState);
+        AtomicInteger activations = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    barrier.await();
+                    if (cell.nextState(CellStateEnum.INACTIVE)) {
+                        activations.incrementAndGet();
+                    }
+                    barrier.await();
+                }
+                return null;
+            });
+        }
+
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+
+        assertEquals(ROUNDS, activations.get());
+    }
+
+    @Test
+    void shouldNotLoseConcurrentStartStopAndFailureTransitions() throws Exception {
+        CellDetails cell = CellDetails.builder().id("Cell1").build();
+        AtomicInteger activations = new AtomicInteger();
+        AtomicInteger stops = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int round = 0; round < ROUNDS * 10; round++) {
+                    switch (random.nextInt(4)) {
+                        case 0:
+                            if (cell.nextState(CellStateEnum.INACTIVE)) {
+                                activations.incrementAndGet();
+                            }
+                            break;
+                        case 1:
+                            cell.nextState(CellStateEnum.ACTIVE);
+                            break;
+                        case 2:
+                            cell.nextState(CellStateEnum.GOING_TO_SLEEP);
+                            break;
+                        default:
+                            if (cell.previousState()) {
+                                stops.incrementAndGet();
+                            }
+                    }
+                }
+                return null;
+            });
+        }
+
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+
+        // every activation leaves INACTIVE and every stop returns to it
+        int expectedDifference = cell.getCurrentState() == CellStateEnum.INACTIVE ? 0 : 1;
+        assertEquals(expectedDifference, activations.get() - stops.get());
+    }
+
+    @Test
+    void shouldNotAllocateOnTransitions() {
+        CellDetails cell = CellDetails.builder().id("Cell1").build();
+        for (int i = 0; i < 10_000; i++) {
+            cycle(cell);
+        }
+
+        ReloadMeter meter = new ReloadMeter();
+        for (int i = 0; i < 100_000; i++) {
+            cycle(cell);
+        }
+
+        assertTrue(meter.getAllocatedBytes() < 64 * 1024, meter.toString());
+    }
+
+    private static void cycle(CellDetails cell) {
+        cell.nextState(CellStateEnum.INACTIVE);
+        cell.nextState(CellStateEnum.ACTIVE);
+        cell.nextState();
+        cell.previousState();
+    }
+}
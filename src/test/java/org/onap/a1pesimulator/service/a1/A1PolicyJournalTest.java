@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+class A1PolicyJournalTest {
+
+    private static final int POLICY_TYPE_ID = 1000;
+    private static final String SCHEMA = "{\"policy_type_id\":1000}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldRecoverStateFromJournal() {
+        RanA1ServiceLocalStoreImpl store = newStore(100);
+        store.putPolicySchema(POLICY_TYPE_ID, SCHEMA);
+        store.putPolicy(POLICY_TYPE_ID, "1", policy("Chn0001"));
+        store.putPolicy(POLICY_TYPE_ID, "2", policy("Chn0002"));
+        store.putPolicy(POLICY_TYPE_ID, "1", policy("Chn0003"));
+        store.deletePolicy(POLICY_TYPE_ID, "2");
+
+        RanA1ServiceLocalStoreImpl recovered = newStore(100);
+
+        assertEquals(SCHEMA, recovered.getPolicyType(POLICY_TYPE_ID).getBody());
+        assertEquals(policy("Chn0003"), recovered.getPolicy(POLICY_TYPE_ID, "1").getBody());
+        assertEquals(HttpStatus.NOT_FOUND, recovered.getPolicy(POLICY_TYPE_ID, "2").getStatusCode());
+    }
+
+    @Test
+    void shouldRecoverStateFromSnapshotAndJournal() throws InterruptedException {
+        A1PolicyJournal journal = newJournal(3);
+        RanA1ServiceLocalStoreImpl store = newStore(journal);
+        for (int i = 0; i < 10; i++) {
+            store.putPolicy(POLICY_TYPE_ID, String.valueOf(i), policy("Chn000" + i));
+        }
+        assertTrue(journal.awaitCompaction(10, TimeUnit.SECONDS));
+        assertTrue(Files.exists(directory.resolve(A1PolicyJournal.SNAPSHOT_FILE)));
+
+        RanA1ServiceLocalStoreImpl recovered = newStore(3);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(policy("Chn000" + i), recovered.getPolicy(POLICY_TYPE_ID, String.valueOf(i)).getBody());
+        }
+    }
+
+    @Test
+    void shouldBackOffAfterFailedCompaction() throws Exception {
+        Path blockingDirectory = Files.createDirectory(directory.resolve(A1PolicyJournal.SNAPSHOT_FILE + ".tmp"));
+        A1PolicyJournal journal = newJournal(3);
+        RanA1ServiceLocalStoreImpl store = newStore(journal);
+        for (int i = 0; i < 3; i++) {
+            store.putPolicy(POLICY_TYPE_ID, String.valueOf(i), policy("Chn000" + i));
+        }
+        assertTrue(journal.awaitCompaction(10, TimeUnit.SECONDS));
+        Files.delete(blockingDirectory);
+
+        // the failure postponed the next compaction by twice the threshold
+        for (int i = 3; i < 8; i++) {
+            store.putPolicy(POLICY_TYPE_ID, String.valueOf(i), policy("Chn000" + i));
+        }
+        assertTrue(journal.awaitCompaction(10, TimeUnit.SECONDS));
+        assertFalse(Files.exists(directory.resolve(A1PolicyJournal.SNAPSHOT_FILE)));
+
+        store.putPolicy(POLICY_TYPE_ID, "8", policy("Chn0008"));
+        assertTrue(journal.awaitCompaction(10, TimeUnit.SECONDS));
+        assertTrue(Files.exists(directory.resolve(A1PolicyJournal.SNAPSHOT_FILE)));
+
+        RanA1ServiceLocalStoreImpl recovered = newStore(3);
+        for (int i = 0; i < 9; i++) {
+            assertEquals(policy("Chn000" + i), recovered.getPolicy(POLICY_TYPE_ID, String.valueOf(i)).getBody());
+        }
+    }
+
+    @Test
+    void shouldSkipIncompleteLastEntry() throws Exception {
+        RanA1ServiceLocalStoreImpl store = newStore(100);
+        store.putPolicy(POLICY_TYPE_ID, "1", policy("Chn0001"));
+        Files.write(directory.resolve(A1PolicyJournal.JOURNAL_FILE), "{\"operation\":\"PUT_PO".getBytes(
+                StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        RanA1ServiceLocalStoreImpl recovered = newStore(100);
+        recovered.putPolicy(POLICY_TYPE_ID, "2", policy("Chn0002"));
+
+        assertEquals(policy("Chn0001"), recovered.getPolicy(POLICY_TYPE_ID, "1").getBody());
+
+        RanA1ServiceLocalStoreImpl recoveredAgain = newStore(100);
+
+        assertEquals(policy("Chn0001"), recoveredAgain.getPolicy(POLICY_TYPE_ID, "1").getBody());
+        assertEquals(policy("Chn0002"), recoveredAgain.getPolicy(POLICY_TYPE_ID, "2").getBody());
+    }
+
+    @Test
+    void shouldRestorePolicyInstancesHolder() {
+        A1PolicyJournal journal = newJournal(100);
+        RanA1ServiceLocalStoreImpl store = new RanA1ServiceLocalStoreImpl(new ObjectMapper(), journal,
+                mock(PolicyActionDispatcher.class));
+        new A1PolicyRecovery(journal, store, new PolicyInstancesHolder());
+        store.putPolicy(POLICY_TYPE_ID, "1", policy("Chn0001"));
+
+        A1PolicyJournal recoveredJournal = newJournal(100);
+        PolicyInstancesHolder policyHolder = new PolicyInstancesHolder();
+        new A1PolicyRecovery(recoveredJournal,
+                new RanA1ServiceLocalStoreImpl(new ObjectMapper(), recoveredJournal,
+                        mock(PolicyActionDispatcher.class)), policyHolder);
+
+        assertTrue(policyHolder.containsPoliciesForCell("Chn0001"));
+        assertFalse(policyHolder.containsPoliciesForCell("Chn0002"));
+    }
+
+    private RanA1ServiceLocalStoreImpl newStore(int compactionThreshold) {
+        return newStore(newJournal(compactionThreshold));
+    }
+
+    private RanA1ServiceLocalStoreImpl newStore(A1PolicyJournal journal) {
+        RanA1ServiceLocalStoreImpl store = new RanA1ServiceLocalStoreImpl(new ObjectMapper(), journal,
+                mock(PolicyActionDispatcher.class));
+        store.restore(journal.recover());
+        return store;
+    }
+
+    private A1PolicyJournal newJournal(int compactionThreshold) {
+        return new A1PolicyJournal(true, directory.toString(), compactionThreshold);
+    }
+
+    private static String policy(String cell) {
+        return "{\"scope\":{\"ueId\":\"emergency_police_111\"},\"resources\":[{\"cellIdList\":[\"" + cell
+                       + "\"],\"preference\":\"AVOID\"}]}";
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PolicyActionDispatcherTest {
+
+    private static final int UE_COUNT = 10;
+    private static final int POLICIES_PER_UE = 50;
+    private static final PolicySchemaValidator ANY_POLICY_TYPE = compile("{}");
+
+    private final Map<String, List<String>> handledByUe = new ConcurrentHashMap<>();
+    private final List<String> handledWithoutKey = new CopyOnWriteArrayList<>();
+    private PolicyActionDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void shouldKeepOrderOfPoliciesWithSameKey() throws InterruptedException {
+        dispatcher = new PolicyActionDispatcher(List.of(new KeyedAction()), 4, 8);
+        dispatcher.bindPolicyType(1, ANY_POLICY_TYPE);
+        List<PolicyInstance> policies = new ArrayList<>();
+        for (int i = 0; i < POLICIES_PER_UE; i++) {
+            for (int ue = 0; ue < UE_COUNT; ue++) {
+                policies.add(new PolicyInstance(1, "ue" + ue + "_" + i, "\"ue" + ue + "\""));
+            }
+        }
+
+        dispatcher.dispatchAll(policies);
+
+        assertTrue(dispatcher.awaitCompletion(10, TimeUnit.SECONDS));
+        assertEquals(UE_COUNT, handledByUe.size());
+        handledByUe.forEach((ue, handled) -> assertEquals(
+                policies.stream().map(PolicyInstance::getPolicyId).filter(id -> id.startsWith(ue + "_"))
+                        .collect(Collectors.toList()), handled));
+    }
+
+    @Test
+    void shouldParseBodyOnceForAllActions() throws InterruptedException {
+        dispatcher = new PolicyActionDispatcher(List.of(new KeyedAction(), new KeyedAction(), new UnkeyedAction()),
+                2, 8);
+        dispatcher.bindPolicyType(1, ANY_POLICY_TYPE);
+        PolicyInstance policy = new PolicyInstance(1, "policy", "\"ue1\"");
+        UeBody.PARSE_COUNT.set(0);
+
+        dispatcher.dispatch(policy);
+
+        assertTrue(dispatcher.awaitCompletion(10, TimeUnit.SECONDS));
+        assertEquals(1, UeBody.PARSE_COUNT.get());
+        assertEquals(2, handledByUe.get("ue1").size());
+        assertEquals(List.of("policy"), handledWithoutKey);
+    }
+
+    @Test
+    void shouldContinueAfterFailingAction() throws InterruptedException {
+        OnPolicyAction failing = new UnkeyedAction() {
+            @Override
+            public void onPolicy(PolicyInstance policy) {
+                throw new IllegalStateException("failure");
+            }
+        };
+        dispatcher = new PolicyActionDispatcher(List.of(failing, new UnkeyedAction()), 1, 8);
+        dispatcher.bindPolicyType(1, ANY_POLICY_TYPE);
+
+        dispatcher.dispatch(new PolicyInstance(1, "first", "\"ue1\""));
+        dispatcher.dispatch(new PolicyInstance(1, "second", "\"ue1\""));
+
+        assertTrue(dispatcher.awaitCompletion(10, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "second"), handledWithoutKey);
+    }
+
+    @Test
+    void shouldDispatchOnlyToActionsBoundToPolicyType() throws InterruptedException {
+        OnPolicyAction objectsOnly = new UnkeyedAction() {
+            @Override
+            public boolean acceptsPolicyType(PolicySchemaValidator policyType) {
+                return policyType.isValid("{}");
+            }
+        };
+        dispatcher = new PolicyActionDispatcher(List.of(objectsOnly), 1, 8);
+        dispatcher.bindPolicyType(1, compile("{\"type\": \"object\"}"));
+        dispatcher.bindPolicyType(2, compile("{\"type\": \"string\"}"));
+
+        dispatcher.dispatch(new PolicyInstance(1, "object", "{}"));
+        dispatcher.dispatch(new PolicyInstance(2, "string", "\"ue1\""));
+        dispatcher.dispatch(new PolicyInstance(3, "withoutSchema", "\"ue1\""));
+
+        assertTrue(dispatcher.awaitCompletion(10, TimeUnit.SECONDS));
+        assertEquals(List.of("object", "withoutSchema"), handledWithoutKey);
+    }
+
+    private static PolicySchemaValidator compile(String schema) {
+        try {
+            return PolicySchemaValidator.compile(new ObjectMapper().readTree(schema));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static String getUe(PolicyInstance policy) {
+        return policy.getBodyAs(UeBody.class).orElseThrow().ue;
+    }
+
+    private static class UeBody {
+
+        private static final AtomicInteger PARSE_COUNT = new AtomicInteger();
+
+        private final String ue;
+
+        @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+        UeBody(String ue) {
+            PARSE_COUNT.incrementAndGet();
+            this.ue = ue;
+        }
+    }
+
+    private class KeyedAction implements OnPolicyAction {
+
+        @Override
+        public boolean acceptsPolicyType(PolicySchemaValidator policyType) {
+            return true;
+        }
+
+        @Override
+        public void onPolicy(PolicyInstance policy) {
+            handledByUe.computeIfAbsent(getUe(policy), ue -> new CopyOnWriteArrayList<>()).add(policy.getPolicyId());
+        }
+
+        @Override
+        public String getOrderingKey(PolicyInstance policy) {
+            return getUe(policy);
+        }
+    }
+
+    private class UnkeyedAction implements OnPolicyAction {
+
+        @Override
+        public boolean acceptsPolicyType(PolicySchemaValidator policyType) {
+            return true;
+        }
+
+        @Override
+        public void onPolicy(PolicyInstance policy) {
+            handledWithoutKey.add(policy.getPolicyId());
+        }
+    }
+}
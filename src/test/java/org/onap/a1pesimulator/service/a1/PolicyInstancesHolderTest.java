@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PolicyInstancesHolderTest {
+
+    private PolicyInstancesHolder policyHolder;
+
+    @BeforeEach
+    void setUp() {
+        policyHolder = new PolicyInstancesHolder();
+    }
+
+    @Test
+    void shouldIndexCellsOfAddedPolicy() {
+        policyHolder.addPolicy("1", policy("Chn0001", "Chn0002"));
+
+        assertTrue(policyHolder.containsPoliciesForCell("Chn0001"));
+        assertTrue(policyHolder.containsPoliciesForCell("Chn0002"));
+        assertFalse(policyHolder.containsPoliciesForCell("Chn0003"));
+    }
+
+    @Test
+    void shouldKeepCellBlockedUntilLastPolicyIsRemoved() {
+        policyHolder.addPolicy("1", policy("Chn0001"));
+        policyHolder.addPolicy("2", policy("Chn0001"));
+
+        policyHolder.removePolicy("1");
+        assertTrue(policyHolder.containsPoliciesForCell("Chn0001"));
+
+        policyHolder.removePolicy("2");
+        assertFalse(policyHolder.containsPoliciesForCell("Chn0001"));
+    }
+
+    @Test
+    void shouldReindexReplacedPolicy() {
+        policyHolder.addPolicy("1", policy("Chn0001"));
+        policyHolder.addPolicy("1", policy("Chn0002"));
+
+        assertFalse(policyHolder.containsPoliciesForCell("Chn0001"));
+        assertTrue(policyHolder.containsPoliciesForCell("Chn0002"));
+    }
+
+    @Test
+    void shouldIgnorePolicyWithoutCells() {
+        policyHolder.addPolicy("1", "{\"scope\":{\"ueId\":\"emergency_police_111\"}}");
+        policyHolder.addPolicy("2", "not a json");
+
+        assertFalse(policyHolder.containsPoliciesForCell("Chn0001"));
+    }
+
+    private static String policy(String... cells) {
+        return "{\"scope\":{\"ueId\":\"emergency_police_111\"},\"resources\":[{\"cellIdList\":[\"" + String.join("\",\"",
+                cells) + "\"],\"preference\":\"AVOID\"}]}";
+    }
+}
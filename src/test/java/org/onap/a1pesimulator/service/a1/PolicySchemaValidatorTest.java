@@ -0,0 +1,86 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class PolicySchemaValidatorTest {
+
+    private static final String POLICY_TYPE = "{\"policy_type_id\": 1000, \"create_schema\": {"
+                                                      + "\"type\": \"object\", \"additionalProperties\": false, "
+                                                      + "\"required\": [\"scope\", \"resources\"], \"properties\": {"
+                                                      + "\"scope\": {\"type\": \"object\", \"required\": [\"ueId\"]},"
+                                                      + "\"priority\": {\"type\": \"integer\", \"minimum\": 1},"
+                                                      + "\"resources\": {\"type\": \"array\", \"minItems\": 1, "
+                                                      + "\"items\": {\"type\": \"object\", \"properties\": {"
+                                                      + "\"preference\": {\"enum\": [\"AVOID\", \"PREFER\"]}}}}}}}";
+
+    private static PolicySchemaValidator validator;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        validator = PolicySchemaValidator.compilePolicyType(POLICY_TYPE);
+    }
+
+    @Test
+    void shouldAcceptValidPolicy() {
+        assertNull(validator.validate(
+                "{\"scope\": {\"ueId\": \"ue1\"}, \"priority\": 2.0, \"resources\": [{\"preference\": \"AVOID\"}]}"));
+    }
+
+    @Test
+    void shouldRejectMissingRequiredProperty() {
+        assertEquals("$.resources is required", validator.validate("{\"scope\": {\"ueId\": \"ue1\"}}"));
+        assertEquals("$.scope.ueId is required", validator.validate("{\"scope\": {}, \"resources\": [{}]}"));
+    }
+
+    @Test
+    void shouldRejectAdditionalProperty() {
+        assertEquals("$.unknown is not allowed",
+                validator.validate("{\"scope\": {\"ueId\": \"ue1\"}, \"resources\": [{}], \"unknown\": [1, 2]}"));
+    }
+
+    @Test
+    void shouldRejectInvalidValues() {
+        assertEquals("$.priority must be of type integer",
+                validator.validate("{\"scope\": {\"ueId\": \"ue1\"}, \"resources\": [{}], \"priority\": \"high\"}"));
+        assertEquals("$.priority is out of range",
+                validator.validate("{\"scope\": {\"ueId\": \"ue1\"}, \"resources\": [{}], \"priority\": 0}"));
+        assertEquals("$.resources has invalid number of items",
+                validator.validate("{\"scope\": {\"ueId\": \"ue1\"}, \"resources\": []}"));
+        assertTrue(validator.validate("{\"scope\": {\"ueId\": \"ue1\"}, \"resources\": [{\"preference\": \"X\"}]}")
+                           .startsWith("$.resources[0].preference must be one of"));
+    }
+
+    @Test
+    void shouldRejectMalformedBody() {
+        assertNotNull(validator.validate("{\"scope\": "));
+        assertNotNull(validator.validate("{} {}"));
+        assertNotNull(validator.validate(""));
+    }
+
+    @Test
+    void shouldAcceptEverythingWithoutCreateSchema() throws IOException {
+        assertNull(PolicySchemaValidator.compilePolicyType("{\"policy_type_id\": 1}").validate("[1, \"a\", {}]"));
+        assertThrows(IOException.class, () -> PolicySchemaValidator.compilePolicyType("not a json"));
+    }
+}
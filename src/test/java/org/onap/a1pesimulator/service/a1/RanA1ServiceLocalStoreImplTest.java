@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpStatus;
+
+class RanA1ServiceLocalStoreImplTest {
+
+    private static final int POLICY_TYPE_ID = 1000;
+    private static final int POLICIES_PER_THREAD = 2000;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final PolicyActionDispatcher dispatcher = mock(PolicyActionDispatcher.class);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 4, 16})
+    void shouldNotLoseConcurrentUpdates(int threads) throws Exception {
+        RanA1ServiceLocalStoreImpl store = newStore();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                int threadId = thread;
+                futures.add(executor.submit(() -> putGetDelete(store, threadId)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Set<String> policyIds = mapper.readValue(store.getPolicyIdsOfType(POLICY_TYPE_ID).getBody(),
+                new TypeReference<Set<String>>() {});
+        assertEquals(threads * POLICIES_PER_THREAD / 2, policyIds.size());
+    }
+
+    @Test
+    void shouldMeasureValidationLatency() {
+        RanA1ServiceLocalStoreImpl store = newStore();
+        store.putPolicySchema(POLICY_TYPE_ID, "{\"policy_type_id\": 1000, \"create_schema\": {\"type\": \"object\"}}");
+        store.putPolicy(POLICY_TYPE_ID, "1", "{}");
+        store.putPolicy(POLICY_TYPE_ID, "2", "[]");
+
+        assertTrue(store.getValidationLatencyStats(POLICY_TYPE_ID).startsWith("2 calls"));
+    }
+
+    @Test
+    void shouldBindPolicyTypeToActionsWhenSchemaIsPut() {
+        RanA1ServiceLocalStoreImpl store = newStore();
+
+        store.putPolicySchema(POLICY_TYPE_ID, "{\"policy_type_id\": 1000, \"create_schema\": {\"type\": \"object\"}}");
+
+        verify(dispatcher).bindPolicyType(eq(POLICY_TYPE_ID), any(PolicySchemaValidator.class));
+    }
+
+    private RanA1ServiceLocalStoreImpl newStore() {
+        return new RanA1ServiceLocalStoreImpl(mapper, new A1PolicyJournal(false, "", 0), dispatcher);
+    }
+
+    private static void putGetDelete(RanA1ServiceLocalStoreImpl store, int threadId) {
+        for (int i = 0; i < POLICIES_PER_THREAD; i++) {
+            String policyId = threadId + "-" + i;
+            store.putPolicy(POLICY_TYPE_ID, policyId, "{\"id\":\"" + policyId + "\"}");
+            assertEquals(HttpStatus.OK, store.getPolicy(POLICY_TYPE_ID, policyId).getStatusCode());
+            if (i % 2 == 1) {
+                store.deletePolicy(POLICY_TYPE_ID, policyId);
+                assertEquals(HttpStatus.NOT_FOUND, store.getPolicy(POLICY_TYPE_ID, policyId).getStatusCode());
+            }
+        }
+    }
+}
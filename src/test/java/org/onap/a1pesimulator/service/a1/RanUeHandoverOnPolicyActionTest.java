@@ -0,0 +1,56 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.a1;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.service.cell.RanCellService;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
+import org.onap.a1pesimulator.service.ue.RanUeService;
+
+class RanUeHandoverOnPolicyActionTest {
+
+    private final RanUeService ranUeService = mock(RanUeService.class);
+    private final RanUeHandoverOnPolicyAction action =
+            new RanUeHandoverOnPolicyAction(mock(NotificationHub.class), ranUeService, mock(RanCellService.class),
+                    mock(PolicyInstancesHolder.class));
+
+    @Test
+    void shouldAcceptPolicyTypeAdmittingHandoverPolicies() throws Exception {
+        assertTrue(action.acceptsPolicyType(compile("{\"type\": \"object\", \"required\": [\"scope\"]}")));
+    }
+
+    @Test
+    void shouldRejectPolicyTypeNotAdmittingHandoverPolicies() throws Exception {
+        assertFalse(action.acceptsPolicyType(compile("{\"type\": \"object\", \"required\": [\"threshold\"]}")));
+    }
+
+    @Test
+    void shouldIgnorePolicyWhichCannotBeDeserialized() {
+        // the policy type does not restrict the preference, the enum does
+        action.onPolicy(new PolicyInstance(1000, "1", "{ \"scope\": { \"ueId\": \"ue1\" }, \"resources\": [ { "
+                + "\"cellIdList\": [ \"Cell1\" ], \"preference\": \"SOMETIMES\" } ] }"));
+
+        verifyNoInteractions(ranUeService);
+    }
+
+    private static PolicySchemaValidator compile(String schema) throws Exception {
+        return PolicySchemaValidator.compile(new ObjectMapper().readTree(schema));
+    }
+}
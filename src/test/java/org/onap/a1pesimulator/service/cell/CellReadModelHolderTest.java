@@ -0,0 +1,138 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.service.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.state.machine.ActiveState;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+
+class CellReadModelHolderTest {
+
+    private final List<CellDetails> cells = new ArrayList<>();
+    private final List<UserEquipment> userEquipments = new ArrayList<>();
+    private RanCellsHolder cellsHolder;
+    private RanUeHolder ueHolder;
+    private CellReadModelHolder holder;
+
+    @BeforeEach
+    void setUp() {
+        cells.add(CellDetails.builder().id("Cell2").build());
+        cells.add(CellDetails.builder().id("Cell1").build());
+        userEquipments.add(new UserEquipment("ue1", 50.0, 19.0, "Cell1"));
+        userEquipments.add(new UserEquipment("ue2", 50.0, 19.0, "cell2"));
+        cellsHolder = mock(RanCellsHolder.class);
+        when(cellsHolder.getAllCells()).thenReturn(cells);
+        when(cellsHolder.getVersion()).thenReturn(1L);
+        ueHolder = mock(RanUeHolder.class);
+        when(ueHolder.getUserEquipments()).thenReturn(userEquipments);
+        when(ueHolder.getVersion()).thenReturn(1L);
+        holder = new CellReadModelHolder(cellsHolder, ueHolder);
+    }
+
+    @Test
+    void shouldBuildCellsOrderedByIdWithConnectedUserEquipments() {
+        CellReadModel model = holder.get();
+
+        assertEquals("Cell1", model.getCells().get(0).getId());
+        assertEquals(Set.of("ue1"), model.getCellById("Cell1").getConnectedUserEquipments());
+        assertEquals(Set.of("ue2"), model.getCellById("Cell2").getConnectedUserEquipments());
+        assertEquals(1, model.getCellsAfter("Cell1").size());
+        assertEquals(2, model.getCellsAfter("Cell0").size());
+    }
+
+    @Test
+    void shouldReuseModelUntilTopologyChanges() {
+        CellReadModel first = holder.get();
+        assertSame(first, holder.get());
+
+        cells.add(CellDetails.builder().id("Cell3").build());
+        when(cellsHolder.getVersion()).thenReturn(2L);
+        CellReadModel second = holder.get();
+
+        assertNotSame(first, second);
+        assertEquals(3, second.getCells().size());
+        assertTrue(second.getVersion() > first.getVersion());
+    }
+
+    @Test
+    void shouldMoveUserEquipmentOnHandoverWithoutTouchingOtherCells() {
+        CellReadModel before = holder.get();
+        holder.handover(userEquipments.get(0), "Cell2");
+        CellReadModel after = holder.get();
+
+        assertEquals("Cell2", userEquipments.get(0).getCellId());
+        assertEquals(Set.of(), after.getCellById("Cell1").getConnectedUserEquipments());
+        assertEquals(Set.of("ue1", "ue2"), after.getCellById("Cell2").getConnectedUserEquipments());
+        assertEquals(Set.of("ue1"), before.getCellById("Cell1").getConnectedUserEquipments());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    void shouldShareCellStateWithTopologyCells() {
+        CellReadModel model = holder.get();
+        cells.get(1).setCellStateMachine(ActiveState.INSTANCE);
+
+        assertSame(ActiveState.INSTANCE, model.getCellById("Cell1").getCellStateMachine());
+    }
+
+    @Test
+    void shouldKeepMembershipConsistentUnderConcurrentHandovers() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            userEquipments.add(new UserEquipment("moving" + i, 50.0, 19.0, "Cell1"));
+        }
+        holder.get();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    UserEquipment ue = userEquipments.get(2 + (i * 8 + offset) % 100);
+                    holder.handover(ue, "Cell1".equals(ue.getCellId()) ? "Cell2" : "Cell1");
+                    CellReadModel model = holder.get();
+                    assertEquals(102, model.getCellById("Cell1").getConnectedUserEquipments().size()
+                                              + model.getCellById("Cell2").getConnectedUserEquipments().size());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        CellReadModel model = holder.get();
+        userEquipments.forEach(ue -> assertTrue(
+                model.getCellById(ue.getCellId().equals("cell2") ? "Cell2" : ue.getCellId())
+                        .getConnectedUserEquipments().contains(ue.getId())));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.ReportingMethodEnum;
+import org.onap.a1pesimulator.data.cell.CellBulkRequest;
+import org.onap.a1pesimulator.data.cell.CellBulkResult;
+import org.onap.a1pesimulator.data.cell.CellList;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
+import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.distance.DistanceService;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
+import org.onap.a1pesimulator.service.report.RanReportsBrokerService;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.onap.a1pesimulator.util.TopologyReader;
+
+class RanCellBulkServiceTest {
+
+    private final TopologyReader topologyReader = mock(TopologyReader.class);
+    private final RanReportsBrokerService reportsBrokerService = mock(RanReportsBrokerService.class);
+    private final VesEvent globalEvent = new VesEvent();
+    private RanCellsHolder cellsHolder;
+    private RanCellBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        CellList cellList = JsonUtils.INSTANCE.deserialize(
+                "{\"cellList\": [{\"Cell\": {\"nodeId\": \"Chn0001\"}}, {\"Cell\": {\"nodeId\": \"Chn0002\"}},"
+                        + " {\"Cell\": {\"nodeId\": \"Vnf0001\"}}]}", CellList.class);
+        doAnswer(invocation -> {
+            Consumer<CellData> consumer = invocation.getArgument(0);
+            cellList.getCellList().forEach(consumer);
+            return null;
+        }).when(topologyReader).readCellTopology(any());
+        cellsHolder = new RanCellsHolder(topologyReader, mock(DistanceService.class));
+        RanCellStateService cellStateService = new RanCellStateService(cellsHolder, mock(NotificationHub.class));
+        bulkService = new RanCellBulkService(cellsHolder, cellStateService, reportsBrokerService);
+        when(reportsBrokerService.getGlobalPmVesStructure()).thenReturn(globalEvent);
+        when(reportsBrokerService.getGlobalVesInterval()).thenReturn(60);
+    }
+
+    @Test
+    void shouldStartCellsSelectedByPrefix() {
+        CellBulkResult result = bulkService.start(CellBulkRequest.builder().prefix("Chn").build(), null,
+                ReportingMethodEnum.VES);
+
+        assertEquals(2, result.getSelected());
+        assertEquals(2, result.getChanged());
+        assertEquals(CellStateEnum.ACTIVE, cellsHolder.getCellById("Chn0002").getCurrentState());
+        assertEquals(CellStateEnum.INACTIVE, cellsHolder.getCellById("Vnf0001").getCurrentState());
+        verify(reportsBrokerService).startSendingReports(List.of("Chn0001", "Chn0002"), globalEvent, 60,
+                ReportingMethodEnum.VES);
+    }
+
+    @Test
+    void shouldReportUnknownCellsAndConflicts() {
+        cellsHolder.getCellById("Chn0001").nextState();
+
+        CellBulkResult result = bulkService.start(
+                CellBulkRequest.builder().cellIds(List.of("Chn0001", "Chn0002", "Unknown")).build(), 10,
+                ReportingMethodEnum.FILE_READY);
+
+        assertEquals(List.of("Unknown"), result.getNotFound());
+        assertEquals(List.of("Chn0001"), result.getConflicts());
+        assertEquals(1, result.getChanged());
+        verify(reportsBrokerService).startSendingReports(eq(List.of("Chn0002")), any(), eq(10),
+                eq(ReportingMethodEnum.FILE_READY));
+    }
+
+    @Test
+    void shouldStopCellsSelectedByState() {
+        cellsHolder.getCellById("Chn0001").nextState();
+        cellsHolder.getCellById("Vnf0001").nextState();
+
+        CellBulkResult result = bulkService.stop(
+                JsonUtils.INSTANCE.deserialize("{\"state\": \"ACTIVE\"}", CellBulkRequest.class));
+
+        assertEquals(2, result.getChanged());
+        assertEquals(CellStateEnum.INACTIVE, cellsHolder.getCellById("Chn0001").getCurrentState());
+        verify(reportsBrokerService).stopSendingReports("Chn0001");
+        verify(reportsBrokerService).stopSendingReports("Vnf0001");
+    }
+
+    @Test
+    void shouldRecoverStoppedFailingCellFromFailure() {
+        cellsHolder.getCellById("Chn0001").nextState();
+        cellsHolder.getCellById("Chn0001").nextState();
+        cellsHolder.markCellInFailure("Chn0001");
+        cellsHolder.markCellInFailure("Chn0002");
+
+        CellBulkResult result = bulkService.stop(CellBulkRequest.builder().prefix("Chn").build());
+
+        assertEquals(List.of("Chn0002"), result.getConflicts());
+        assertEquals(CellStateEnum.INACTIVE, cellsHolder.getCellById("Chn0001").getCurrentState());
+        assertFalse(cellsHolder.isInFailureMode("Chn0001"));
+        // not stopped, so still failing
+        assertTrue(cellsHolder.isInFailureMode("Chn0002"));
+    }
+
+    @Test
+    void shouldSelectNothingWithoutSelector() {
+        CellBulkResult result = bulkService.stop(new CellBulkRequest());
+
+        assertEquals(0, result.getSelected());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.service.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.FieldSelection;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.exception.CellNotFoundException;
+import org.onap.a1pesimulator.service.report.RanVesHolder;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+
+class RanCellServiceImplTest {
+
+    private final NavigableMap<String, CellDetails> cells = new TreeMap<>();
+    private RanCellServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            String id = "Cell" + i;
+            cells.put(id, CellDetails.builder().id(id).latitude(50.0).longitude(19.0).build());
+        }
+        RanCellsHolder cellsHolder = mock(RanCellsHolder.class);
+        when(cellsHolder.getAllCells()).thenReturn(cells.values());
+        when(cellsHolder.getVersion()).thenReturn(1L);
+        RanUeHolder ueHolder = mock(RanUeHolder.class);
+        when(ueHolder.getVersion()).thenReturn(1L);
+        when(ueHolder.getUserEquipments()).thenReturn(
+                List.of(new UserEquipment("ue1", 50.0, 19.0, "cell1"), new UserEquipment("ue2", 50.0, 19.0, "Cell1"),
+                        new UserEquipment("ue3", 50.0, 19.0, "Cell4")));
+        service = new RanCellServiceImpl(cellsHolder, ueHolder, mock(RanVesHolder.class),
+                new CellReadModelHolder(cellsHolder, ueHolder));
+    }
+
+    @Test
+    void shouldWalkAllCellsPageByPage() {
+        List<Object> ids = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            cursor = service.forEachCell(cursor, 2, FieldSelection.all(), cell -> ids.add(cell.get("id")));
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of("Cell0", "Cell1", "Cell2", "Cell3", "Cell4"), ids);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void shouldReturnNoCursorWhenPageEndsWithLastCell() {
+        assertNull(service.forEachCell("Cell2", 2, FieldSelection.all(), cell -> { }));
+    }
+
+    @Test
+    void shouldAttachConnectedUserEquipmentsOfPageCells() {
+        List<Map<String, Object>> views = new ArrayList<>();
+        service.forEachCell("Cell0", 1, FieldSelection.all(), views::add);
+
+        assertEquals(1, views.size());
+        assertEquals(Set.of("ue1", "ue2"), views.get(0).get("connectedUserEquipments"));
+    }
+
+    @Test
+    void shouldSkipConnectedUserEquipmentsWhenNotSelected() {
+        List<Map<String, Object>> views = new ArrayList<>();
+        service.forEachCell(null, null, FieldSelection.parse("id, currentState"), views::add);
+
+        assertEquals(5, views.size());
+        assertEquals(Set.of("id", "currentState"), views.get(0).keySet());
+        assertFalse(views.get(0).containsKey("connectedUserEquipments"));
+    }
+
+    @Test
+    void shouldGroupConnectedUserEquipmentsForAllCells() {
+        Map<String, CellDetails> result = new TreeMap<>();
+        service.getCells().getCells().forEach(cell -> result.put(cell.getId(), cell));
+
+        assertEquals(Set.of("ue1", "ue2"), result.get("Cell1").getConnectedUserEquipments());
+        assertEquals(Set.of("ue3"), result.get("Cell4").getConnectedUserEquipments());
+        assertEquals(Set.of(), result.get("Cell0").getConnectedUserEquipments());
+    }
+
+    @Test
+    void shouldNotChangeTopologyCellsOnRead() {
+        service.getCells();
+        service.getTopology();
+        service.getCellById("Cell1");
+
+        cells.values().forEach(cell -> assertNull(cell.getConnectedUserEquipments()));
+    }
+
+    @Test
+    void shouldReturnSameCellsToRepeatedReads() {
+        assertSame(service.getCells(), service.getCells());
+        assertSame(service.getCellById("Cell1"), service.getCellById("Cell1"));
+    }
+
+    @Test
+    void shouldThrowWhenCellIsNotFound() {
+        assertThrows(CellNotFoundException.class, () -> service.getCellById("Unknown"));
+    }
+}
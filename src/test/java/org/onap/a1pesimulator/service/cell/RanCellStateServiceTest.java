@@ -27,7 +27,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.onap.a1pesimulator.data.cell.CellDetails;
 import org.onap.a1pesimulator.data.cell.state.machine.ActiveState;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.onap.a1pesimulator.service.notification.NotificationHub;
 
 class RanCellStateServiceTest {
 
@@ -37,12 +37,12 @@ class RanCellStateServiceTest {
     RanCellsHolder ranCellsHolder;
 
     @Mock
-    SimpMessagingTemplate messagingTemplate;
+    NotificationHub notificationHub;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.initMocks(this);
-        ranCellStateService = spy(new RanCellStateService(ranCellsHolder, messagingTemplate));
+        ranCellStateService = spy(new RanCellStateService(ranCellsHolder, notificationHub));
 
     }
 
@@ -50,7 +50,7 @@ class RanCellStateServiceTest {
     void activateState() {
         doReturn(getTestCellDetails()).when(ranCellsHolder).getCellById(TEST_CELL_ID);
         ranCellStateService.activateState(TEST_CELL_ID);
-        verify(messagingTemplate, times(1)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(1)).publish(anyString(), anyString(), any());
     }
 
     @Test
@@ -61,13 +61,13 @@ class RanCellStateServiceTest {
 
         // Not allow changing state, cell is in INACTIVE state
         ranCellStateService.failingState(TEST_CELL_ID);
-        verify(messagingTemplate, times(0)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(0)).publish(anyString(), anyString(), any());
 
         // Allow changing state, cell is in ACTIVE state
-        cell.setCellStateMachine(new ActiveState());
+        cell.setCellStateMachine(ActiveState.INSTANCE);
         doReturn(cell).when(ranCellsHolder).getCellById(TEST_CELL_ID);
         ranCellStateService.failingState(TEST_CELL_ID);
-        verify(messagingTemplate, times(1)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(1)).publish(anyString(), anyString(), any());
     }
 
     @Test
@@ -77,20 +77,20 @@ class RanCellStateServiceTest {
 
         // Not allow changing state, cell is in INACTIVE state
         ranCellStateService.stopState(TEST_CELL_ID);
-        verify(messagingTemplate, times(0)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(0)).publish(anyString(), anyString(), any());
 
         // Allow changing state, cell is in ACTIVE state
-        cell.setCellStateMachine(new ActiveState());
+        cell.setCellStateMachine(ActiveState.INSTANCE);
         doReturn(cell).when(ranCellsHolder).getCellById(TEST_CELL_ID);
         ranCellStateService.stopState(TEST_CELL_ID);
-        verify(messagingTemplate, times(1)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(1)).publish(anyString(), anyString(), any());
     }
 
     @Test
     void cellDoesNotExist() {
         doReturn(null).when(ranCellsHolder).getCellById(TEST_CELL_ID);
         ranCellStateService.activateState(TEST_CELL_ID);
-        verify(messagingTemplate, times(0)).convertAndSend(anyString(), (Object) any());
+        verify(notificationHub, times(0)).publish(anyString(), anyString(), any());
 
     }
 
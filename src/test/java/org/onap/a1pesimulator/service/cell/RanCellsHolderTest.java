@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.cell;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.TopologyDiff;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellList;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
+import org.onap.a1pesimulator.data.cell.state.CellStateEnum;
+import org.onap.a1pesimulator.data.cell.state.machine.ActiveState;
+import org.onap.a1pesimulator.exception.CellNotFoundException;
+import org.onap.a1pesimulator.service.distance.DistanceService;
+import org.onap.a1pesimulator.util.JsonUtils;
+import org.onap.a1pesimulator.util.TopologyReader;
+
+class RanCellsHolderTest {
+
+    private final TopologyReader topologyReader = mock(TopologyReader.class);
+    private final DistanceService distanceService = mock(DistanceService.class);
+
+    @Test
+    void shouldApplyOnlyChangedCells() {
+        givenCells(cell("Cell1", 50.0, 19.0), cell("Cell2", 50.1, 19.1), cell("Cell3", 50.2, 19.2));
+        RanCellsHolder holder = new RanCellsHolder(topologyReader, distanceService);
+        CellDetails cell1 = holder.getCellById("Cell1");
+        CellDetails cell2 = holder.getCellById("Cell2");
+        cell1.setCellStateMachine(ActiveState.INSTANCE);
+        cell2.setCellStateMachine(ActiveState.INSTANCE);
+
+        givenCells(cell("Cell1", 50.0, 19.0), cell("Cell2", 50.3, 19.3), cell("Cell4", 50.4, 19.4));
+        TopologyDiff diff = holder.refresh();
+
+        assertEquals(List.of("Cell4"), diff.getAdded());
+        assertEquals(List.of("Cell3"), diff.getRemoved());
+        assertEquals(List.of("Cell2"), diff.getChanged());
+        assertEquals(1, diff.getUnchanged());
+        assertEquals(2, holder.getVersion());
+        assertSame(cell1, holder.getCellById("Cell1"));
+        assertNotSame(cell2, holder.getCellById("Cell2"));
+        assertEquals(CellStateEnum.ACTIVE, holder.getCellById("Cell2").getCurrentState());
+        assertEquals(50.3, holder.getCellById("Cell2").getLatitude());
+        assertThrows(CellNotFoundException.class, () -> holder.getCellById("Cell3"));
+    }
+
+    @Test
+    void shouldKeepVersionWhenNothingChanged() {
+        givenCells(cell("Cell1", 50.0, 19.0));
+        RanCellsHolder holder = new RanCellsHolder(topologyReader, distanceService);
+
+        TopologyDiff diff = holder.refresh();
+
+        assertTrue(diff.isEmpty());
+        assertEquals(1, holder.getVersion());
+        verify(distanceService, times(1)).indexCells(any());
+    }
+
+    @Test
+    void shouldRejectDuplicateCells() {
+        givenCells(cell("Cell1", 50.0, 19.0), cell("Cell1", 50.1, 19.1));
+
+        assertThrows(IllegalStateException.class, () -> new RanCellsHolder(topologyReader, distanceService));
+    }
+
+    private static String cell(String id, double latitude, double longitude) {
+        return String.format("{\"Cell\": {\"nodeId\": \"%s\", \"latitude\": %s, \"longitude\": %s}}", id, latitude,
+                longitude);
+    }
+
+    @Test
+    void shouldKeepSingleFailureModeEntryPerCell() {
+        givenCells(cell("Cell1", 50.0, 19.0));
+        RanCellsHolder holder = new RanCellsHolder(topologyReader, distanceService);
+
+        holder.markCellInFailure("Cell1");
+        assertTrue(holder.getCellsInFailureMode("Cell1").orElseThrow().detectSleepingMode(100L));
+        holder.markCellInFailure("Cell1");
+
+        assertEquals(1, holder.getCellsInFailureModeCount());
+        assertFalse(holder.getCellsInFailureMode("Cell1").orElseThrow().detectSleepingMode(200L));
+        assertEquals(100L, holder.getCellsInFailureMode("Cell1").orElseThrow().getSleepingModeDetectedTime());
+
+        holder.unmarkCellInFailure("Cell1");
+
+        assertFalse(holder.isInFailureMode("Cell1"));
+        assertEquals(0, holder.getCellsInFailureModeCount());
+    }
+
+    @Test
+    void shouldForgetFailureModeOfRemovedCells() {
+        givenCells(cell("Cell1", 50.0, 19.0), cell("Cell2", 50.1, 19.1));
+        RanCellsHolder holder = new RanCellsHolder(topologyReader, distanceService);
+        holder.markCellInFailure("Cell1");
+        holder.markCellInFailure("Cell2");
+
+        givenCells(cell("Cell2", 50.1, 19.1));
+        holder.refresh();
+
+        assertFalse(holder.isInFailureMode("Cell1"));
+        assertTrue(holder.isInFailureMode("Cell2"));
+    }
+
+    private void givenCells(String... cells) {
+        CellList cellList =
+                JsonUtils.INSTANCE.deserialize("{\"cellList\": [" + String.join(",", cells) + "]}", CellList.class);
+        doAnswer(invocation -> {
+            Consumer<CellData> consumer = invocation.getArgument(0);
+            cellList.getCellList().forEach(consumer);
+            return null;
+        }).when(topologyReader).readCellTopology(any());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.distance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.util.DistanceCalculator;
+
+class CellSpatialIndexTest {
+
+    private static final double RANGE = 5;
+
+    @Test
+    void shouldReturnSameCellsAsFullScan() {
+        Random random = new Random(42);
+        List<CellDetails> cells = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            cells.add(CellDetails.builder().id("Cell" + i).latitude(50 + random.nextDouble())
+                              .longitude(19 + random.nextDouble()).build());
+        }
+        CellSpatialIndex index = new CellSpatialIndex(cells, RANGE);
+
+        for (int i = 0; i < 200; i++) {
+            double latitude = 50 + random.nextDouble();
+            double longitude = 19 + random.nextDouble();
+
+            Set<String> expected = cells.stream().filter(
+                    cell -> DistanceCalculator.isInRange(latitude, longitude, cell.getLatitude(),
+                            cell.getLongitude(), RANGE)).map(CellDetails::getId).collect(Collectors.toSet());
+            Set<String> actual = Arrays.stream(index.getSlotsInRange(latitude, longitude))
+                                         .mapToObj(index::getCellId).collect(Collectors.toSet());
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    void shouldFindCellsCloseToThePole() {
+        CellDetails cell = CellDetails.builder().id("Polar").latitude(89.99).longitude(-170.0).build();
+        CellSpatialIndex index = new CellSpatialIndex(List.of(cell), RANGE);
+
+        assertEquals(1, index.getSlotsInRange(89.99, 10.0).length);
+    }
+
+    @Test
+    void shouldFindCellsAcrossTheAntimeridian() {
+        CellDetails cell = CellDetails.builder().id("East").latitude(10.0).longitude(179.99).build();
+        CellSpatialIndex index = new CellSpatialIndex(List.of(cell), RANGE);
+
+        assertEquals(1, index.getSlotsInRange(10.0, -179.99).length);
+    }
+
+    @Test
+    void shouldResolveSlotsCaseInsensitive() {
+        CellSpatialIndex index = new CellSpatialIndex(
+                List.of(CellDetails.builder().id("Chn0002").latitude(1.0).longitude(1.0).build(),
+                        CellDetails.builder().id("chn0001").latitude(1.0).longitude(1.0).build()), RANGE);
+
+        assertEquals(0, index.getSlot("CHN0001"));
+        assertEquals("Chn0002", index.getCellId(index.getSlot("chn0002")));
+    }
+
+    @Test
+    void shouldSkipCellsWithoutPosition() {
+        CellDetails cell = CellDetails.builder().id("Unknown").build();
+        CellSpatialIndex index = new CellSpatialIndex(List.of(cell), RANGE);
+
+        assertEquals(0, index.getSlotsInRange(50.0, 19.0).length);
+        assertTrue(index.getSlot("Unknown") < 0);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.distance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+
+class DistanceServiceTest {
+
+    private DistanceService distanceService;
+
+    @BeforeEach
+    void setUp() {
+        distanceService = new DistanceService(5.0);
+        distanceService.indexCells(List.of(cell("Chn0001", 50.0, 19.0), cell("Chn0002", 50.2, 19.0)));
+    }
+
+    @Test
+    void shouldLookupCoverageCaseInsensitive() {
+        UserEquipment ue = ue(50.0, 19.01);
+
+        assertEquals(List.of("Chn0001"), distanceService.getCellIdsInRange(ue));
+        assertTrue(distanceService.isInRange("CHN0001", ue));
+        assertFalse(distanceService.isInRange("Chn0002", ue));
+        assertFalse(distanceService.isInRange("Unknown", ue));
+    }
+
+    @Test
+    void shouldRecomputeCoverageWhenUeMoves() {
+        UserEquipment ue = ue(50.0, 19.01);
+        assertTrue(distanceService.isInRange("Chn0001", ue));
+
+        when(ue.getLatitude()).thenReturn(50.19);
+
+        assertFalse(distanceService.isInRange("Chn0001", ue));
+        assertTrue(distanceService.isInRange("Chn0002", ue));
+    }
+
+    @Test
+    void shouldRecomputeCoverageWhenCellsAreReindexed() {
+        UserEquipment ue = ue(50.0, 19.01);
+        distanceService.refreshCoverage(List.of(ue));
+        assertEquals(List.of("Chn0001"), distanceService.getCellIdsInRange(ue));
+
+        distanceService.indexCells(List.of(cell("Chn0003", 50.0, 19.0)));
+
+        assertEquals(List.of("Chn0003"), distanceService.getCellIdsInRange(ue));
+    }
+
+    private static CellDetails cell(String id, double latitude, double longitude) {
+        return CellDetails.builder().id(id).latitude(latitude).longitude(longitude).build();
+    }
+
+    private static UserEquipment ue(double latitude, double longitude) {
+        UserEquipment ue = mock(UserEquipment.class);
+        when(ue.getId()).thenReturn("emergency_police_111");
+        when(ue.getLatitude()).thenReturn(latitude);
+        when(ue.getLongitude()).thenReturn(longitude);
+        return ue;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+class NotificationHubTest {
+
+    private static final String TOPIC = "/topic/test";
+    // long enough not to flush on its own during the test
+    private static final long WINDOW_MS = 60_000;
+
+    @Mock
+    SimpMessagingTemplate messagingTemplate;
+
+    private NotificationHub notificationHub;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.initMocks(this);
+        notificationHub = new NotificationHub(messagingTemplate, WINDOW_MS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationHub.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldSendLatestNotificationOfEveryEntityInOneBatch() {
+        notificationHub.publish(TOPIC, "Cell1", "Cell1-first");
+        notificationHub.publish(TOPIC, "Cell2", "Cell2-first");
+        notificationHub.publish(TOPIC, "Cell1", "Cell1-second");
+
+        notificationHub.flush();
+
+        ArgumentCaptor<Object> batch = ArgumentCaptor.forClass(Object.class);
+        verify(messagingTemplate).convertAndSend(eq(TOPIC), batch.capture());
+        assertEquals(Set.of("Cell1-second", "Cell2-first"), Set.copyOf((List<Object>) batch.getValue()));
+    }
+
+    @Test
+    void shouldNotSendWithoutNotifications() {
+        notificationHub.publish(TOPIC, "Cell1", "Cell1-first");
+        notificationHub.flush();
+        notificationHub.flush();
+
+        verify(messagingTemplate).convertAndSend(anyString(), any(Object.class));
+    }
+
+    @Test
+    void shouldSendOnlyAfterFlush() {
+        notificationHub.publish(TOPIC, "Cell1", "Cell1-first");
+
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+    }
+}
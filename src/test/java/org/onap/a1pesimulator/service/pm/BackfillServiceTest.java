@@ -0,0 +1,208 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.pm;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.fileready.BackfillRequest;
+import org.onap.a1pesimulator.data.fileready.BackfillRequest.BackfillOutput;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus;
+import org.onap.a1pesimulator.data.fileready.BackfillStatus.BackfillState;
+import org.onap.a1pesimulator.data.fileready.FileData;
+import org.onap.a1pesimulator.service.cell.RanCellsHolder;
+import org.onap.a1pesimulator.service.report.RanCellEventCustomizer;
+import org.onap.a1pesimulator.service.report.RanVesDataProvider;
+import org.onap.a1pesimulator.service.report.RanVesSender;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.util.VnfConfigReader;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import reactor.core.publisher.Mono;
+
+class BackfillServiceTest extends CommonFileReady {
+
+    private static final Instant START = Instant.parse("2021-06-01T00:00:10Z");
+    private static final Instant END = Instant.parse("2021-06-01T00:02:00Z");
+
+    @InjectMocks
+    VnfConfigReader vnfConfigReader;
+
+    @Mock
+    RanCellsHolder ranCellsHolder;
+
+    @Mock
+    RanVesDataProvider vesDataProvider;
+
+    @Mock
+    RanUeHolder ranUeHolder;
+
+    @Mock
+    FtpServerService ftpServerService;
+
+    @Mock
+    FileReadyEventService fileReadyEventService;
+
+    @Mock
+    RanVesSender ranVesSender;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        super.setUp();
+        ReflectionTestUtils.setField(vnfConfigReader, "vnfConfigFile", "src/test/resources/vnf.config");
+        when(ranCellsHolder.getCellIds()).thenReturn(Set.of("Cell1", "Cell2"));
+        when(ranCellsHolder.getCellById(anyString())).thenAnswer(
+                invocation -> CellDetails.builder().id(invocation.getArgument(0)).build());
+        when(vesDataProvider.getRegularVesInterval()).thenReturn(10);
+        when(vesDataProvider.getPmVesEvent()).thenReturn(loadEventFromFile());
+        when(ranUeHolder.getUserEquipments()).thenReturn(List.of());
+    }
+
+    @Test
+    void shouldGenerateSameFilesForSameSeed() throws Exception {
+        Map<String, String> first = runBackfill(tempDir.resolve("first"), 7);
+        Map<String, String> second = runBackfill(tempDir.resolve("second"), 7);
+
+        // 2 cells x 4 reporting periods of 30 s aligned to 00:00:00
+        assertEquals(8, first.size());
+        assertEquals(first, second);
+    }
+
+    @Test
+    void shouldGenerateDifferentValuesForDifferentSeed() throws Exception {
+        Map<String, String> first = runBackfill(tempDir.resolve("first"), 7);
+        Map<String, String> second = runBackfill(tempDir.resolve("second"), 8);
+
+        assertEquals(first.keySet(), second.keySet());
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void shouldRejectEmptyTimeRange() {
+        BackfillService backfillService = createService(tempDir);
+        BackfillRequest request = BackfillRequest.builder().start(END).end(START).build();
+
+        assertThrows(IllegalArgumentException.class, () -> backfillService.start(request));
+    }
+
+    @Test
+    void shouldGenerateReportingPeriodsEndingWithinUnalignedRange() throws Exception {
+        // periods ending at 00:00:30, 00:01:00 and 00:01:30, the one ending at 00:02:00 is after the end
+        Map<String, String> files =
+                runBackfill(tempDir, START, Instant.parse("2021-06-01T00:01:40Z"), 7, 3);
+
+        assertEquals(6, files.size());
+    }
+
+    @Test
+    void shouldNotGenerateReportingPeriodEndingAtStart() throws Exception {
+        // periods ending at 00:01:00 and 00:01:30
+        Map<String, String> files = runBackfill(tempDir, Instant.parse("2021-06-01T00:00:30Z"),
+                Instant.parse("2021-06-01T00:01:30Z"), 7, 2);
+
+        assertEquals(4, files.size());
+    }
+
+    @Test
+    void shouldRejectRangeWithoutReportingPeriodEnd() {
+        BackfillService backfillService = createService(tempDir);
+        BackfillRequest request = BackfillRequest.builder().start(Instant.parse("2021-06-01T00:00:35Z"))
+                                          .end(Instant.parse("2021-06-01T00:00:50Z")).build();
+
+        assertThrows(IllegalArgumentException.class, () -> backfillService.start(request));
+    }
+
+    @Test
+    void shouldReportFailedFiles() throws Exception {
+        when(ftpServerService.uploadFileToFtp(any())).thenAnswer(invocation -> {
+            Files.delete(invocation.<FileData>getArgument(0).getPmBulkFile().toPath());
+            return Mono.error(new IllegalStateException("upload refused"));
+        });
+        when(fileReadyEventService.createFileReadyEventAndDeleteTmpFile(any())).thenAnswer(
+                invocation -> invocation.getArgument(0));
+        BackfillService backfillService = createService(tempDir);
+        try {
+            BackfillStatus status = backfillService.start(
+                    BackfillRequest.builder().start(START).end(END).output(BackfillOutput.UPLOAD).build());
+            status = backfillService.awaitStatus(status.getId(), Duration.ofSeconds(30)).orElseThrow();
+
+            assertEquals(BackfillState.COMPLETED, status.getState());
+            assertEquals(0, status.getWrittenFiles());
+            assertEquals(status.getTotalFiles(), status.getFailedFiles());
+            assertNotNull(status.getLastFailure());
+        } finally {
+            backfillService.destroy();
+        }
+    }
+
+    private Map<String, String> runBackfill(Path location, long seed) throws InterruptedException, IOException {
+        return runBackfill(location, START, END, seed, 4);
+    }
+
+    private Map<String, String> runBackfill(Path location, Instant start, Instant end, long seed,
+            int reportingPeriods) throws InterruptedException, IOException {
+        BackfillService backfillService = createService(location);
+        try {
+            BackfillStatus status = backfillService.start(
+                    BackfillRequest.builder().start(start).end(end).seed(seed).build());
+            status = backfillService.awaitStatus(status.getId(), Duration.ofSeconds(30)).orElseThrow();
+
+            assertEquals(BackfillState.COMPLETED, status.getState());
+            assertEquals(2, status.getCells());
+            assertEquals(reportingPeriods, status.getReportingPeriods());
+            assertEquals(status.getTotalFiles(), status.getWrittenFiles());
+        } finally {
+            backfillService.destroy();
+        }
+
+        Map<String, String> files = new TreeMap<>();
+        for (File file : location.toFile().listFiles()) {
+            files.put(file.getName(), Files.readString(file.toPath()));
+        }
+        return files;
+    }
+
+    private BackfillService createService(Path location) {
+        return new BackfillService(new PMBulkFileService(vnfConfigReader, Clock.systemUTC()), ftpServerService, fileReadyEventService,
+                ranVesSender, ranCellsHolder, vesDataProvider, vnfConfigReader,
+                new RanCellEventCustomizer(ranUeHolder, Clock.systemUTC()), Clock.systemUTC(), 2,
+                location.toString());
+    }
+}
@@ -20,6 +20,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.file.InvalidPathException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,9 +36,14 @@ import reactor.test.StepVerifier;
 
 class FileReadyEventServiceTest extends CommonFileReady {
 
+    private static final ZoneOffset CLOCK_OFFSET = ZoneOffset.ofHours(2);
+
     @Mock
     private FtpServerService ftpServerService;
 
+    @Mock
+    private Clock clock;
+
     @InjectMocks
     private FileReadyEventService fileReadyEventService;
 
@@ -43,6 +51,8 @@ class FileReadyEventServiceTest extends CommonFileReady {
     void setUp() {
         super.setUp();
         when(ftpServerService.getFtpPath()).thenReturn("");
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        when(clock.getZone()).thenReturn(CLOCK_OFFSET);
     }
 
     @Test
@@ -65,6 +75,13 @@ class FileReadyEventServiceTest extends CommonFileReady {
         verify(ftpServerService, times(1)).getFtpPath();
     }
 
+    @Test
+    void shouldTakeTimeZoneOffsetFromClock() {
+        FileData resultFileData = fileReadyEventService.createFileReadyEvent(getTestFileData());
+        assertEquals(CLOCK_OFFSET.toString(),
+                resultFileData.getFileReadyEvent().getCommonEventHeader().getTimeZoneOffset());
+    }
+
     /**
      * Common asserst for all tests here
      */
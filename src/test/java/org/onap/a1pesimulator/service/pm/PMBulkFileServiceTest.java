@@ -15,6 +15,8 @@ package org.onap.a1pesimulator.service.pm;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import java.time.Clock;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -36,7 +38,7 @@ class PMBulkFileServiceTest extends CommonFileReady {
     void setUp() {
         super.setUp();
         ReflectionTestUtils.setField(vnfConfigReader, "vnfConfigFile", "src/test/resources/vnf.config");
-        pmBulkFileService = new PMBulkFileService(vnfConfigReader);
+        pmBulkFileService = new PMBulkFileService(vnfConfigReader, Clock.systemUTC());
     }
 
     @Test
@@ -21,14 +21,15 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import java.util.Collections;
 
+import java.time.Clock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.onap.a1pesimulator.data.ves.VesEvent;
 import org.onap.a1pesimulator.exception.VesBrokerException;
 import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.service.report.OnEventActionBus;
 import org.onap.a1pesimulator.service.report.RanCellEventCustomizer;
 import org.onap.a1pesimulator.service.report.RanEventCustomizerFactory;
 import org.onap.a1pesimulator.service.report.RanEventCustomizerFactory.Mode;
@@ -49,13 +50,16 @@ class RanSaveFileReadyRunnableTest extends CommonFileReady {
     @Mock
     RanUeHolder ranUeHolder;
 
+    @Mock
+    OnEventActionBus onEventActionBus;
+
     @BeforeEach
     void setUp() {
         super.setUp();
-        doReturn(new RanCellEventCustomizer(ranUeHolder)).when(ranEventCustomizerFactory).getEventCustomizer(any(), any());
+        doReturn(new RanCellEventCustomizer(ranUeHolder, Clock.systemUTC())).when(ranEventCustomizerFactory).getEventCustomizer(any(), any(), any());
         ranSaveFileReadyRunnable = spy(
-                new RanSaveFileReadyRunnable(ranFileReadyHolder, TEST_CELL_ID, loadEventFromFile(), ranEventCustomizerFactory.getEventCustomizer(new VesEvent(),
-                        Mode.REGULAR), 60, Collections.emptyList()));
+                new RanSaveFileReadyRunnable(ranFileReadyHolder, TEST_CELL_ID, loadEventFromFile(), ranEventCustomizerFactory.getEventCustomizer(TEST_CELL_ID, new VesEvent(),
+                        Mode.REGULAR), 60, onEventActionBus));
     }
 
     @Test
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Clock;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -42,7 +43,7 @@ class RanSendReportsRunnableTest extends CommonFileReady {
     @BeforeEach
     void setUp() {
         super.setUp();
-        doReturn(new RanCellEventCustomizer(ranUeHolder)).when(ranEventCustomizerFactory).getEventCustomizer(any(), any());
+        doReturn(new RanCellEventCustomizer(ranUeHolder, Clock.systemUTC())).when(ranEventCustomizerFactory).getEventCustomizer(any(), any(), any());
         ranSendReportsRunnable = spy(
                 new RanSendReportsRunnable(ranFileReadyHolder));
     }
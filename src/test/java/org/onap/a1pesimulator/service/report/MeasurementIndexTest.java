@@ -0,0 +1,105 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.ves.CommonEventHeader;
+import org.onap.a1pesimulator.data.ves.MeasurementFields;
+import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+
+class MeasurementIndexTest {
+
+    @Test
+    void shouldIndexNumericMeasurementsOfTemplate() {
+        VesEvent template = template(measurement("identifier", "Cell1"), measurement("latency", "[[200->500]]"),
+                measurement("throughput", "[[10->1]]"), measurement("load", "42"));
+
+        MeasurementIndex index = MeasurementIndex.of(template);
+        MeasurementSample sample = index.newSample();
+
+        assertEquals("Cell1", index.getCellId());
+        assertEquals(3, index.size());
+        assertEquals(-1, index.slotOf("identifier"));
+        assertFalse(sample.has(index.slotOf("latency")));
+        assertEquals(42, sample.get(index.slotOf("load")));
+        assertFalse(sample.has(index.slotOf("unknown")));
+    }
+
+    @Test
+    void shouldRecordValuesGeneratedByFailureCustomizer() {
+        VesEvent template = template(measurement("identifier", "Cell1"), measurement("latency", "[[200->500]]"),
+                measurement("throughput", "[[10->1]]"));
+        MeasurementIndex index = MeasurementIndex.of(template);
+        RanCellFailureEventCustomizer customizer = new RanCellFailureEventCustomizer(template, mock(RanUeHolder.class),
+                Clock.systemUTC(), new SplittableRandom(1));
+
+        for (int i = 0; i < 3; i++) {
+            MeasurementSample sample = index.newSample();
+            VesEvent event = customizer.apply(template, sample);
+
+            assertSampleMatchesEvent(index, sample, event);
+        }
+    }
+
+    @Test
+    void shouldRecordValuesGeneratedByRegularCustomizer() {
+        VesEvent template = template(measurement("identifier", "Cell1"), measurement("latency", "[[20-30]]"),
+                measurement("throughput", "[[1-5]]"));
+        MeasurementIndex index = MeasurementIndex.of(template);
+        MeasurementSample sample = index.newSample();
+
+        VesEvent event = new RanCellEventCustomizer(mock(RanUeHolder.class), Clock.systemUTC()).apply(template, sample);
+
+        assertSampleMatchesEvent(index, sample, event);
+    }
+
+    private static void assertSampleMatchesEvent(MeasurementIndex index, MeasurementSample sample, VesEvent event) {
+        MeasurementSample parsed = index.sampleOf(event);
+        for (String name : List.of("latency", "throughput")) {
+            int slot = index.slotOf(name);
+            assertTrue(sample.has(slot));
+            assertEquals(parsed.get(slot), sample.get(slot));
+        }
+    }
+
+    private static VesEvent template(AdditionalMeasurement... measurements) {
+        VesEvent event = new VesEvent();
+        event.setCommonEventHeader(new CommonEventHeader());
+        event.setMeasurementFields(
+                MeasurementFields.builder().additionalMeasurements(new ArrayList<>(List.of(measurements))).build());
+        return event;
+    }
+
+    private static AdditionalMeasurement measurement(String name, String value) {
+        AdditionalMeasurement measurement = new AdditionalMeasurement();
+        measurement.setName(name);
+        Map<String, String> hashMap = new HashMap<>();
+        hashMap.put("value", value);
+        measurement.setHashMap(hashMap);
+        return measurement;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+
+class OnEventActionBusTest {
+
+    private OnEventActionBus bus;
+
+    @AfterEach
+    void tearDown() {
+        bus.destroy();
+    }
+
+    @Test
+    void shouldRunSynchronousActionsOnPublishingThread() {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        OnEventAction action = new RecordingAction(threads, true);
+        bus = new OnEventActionBus(List.of(action), 10, 1000);
+
+        bus.publish(new VesEvent(), null);
+
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void shouldRunAsynchronousActionsInOrderOnTheirOwnThread() throws Exception {
+        List<VesEvent> events = new CopyOnWriteArrayList<>();
+        OnEventAction action = events::add;
+        bus = new OnEventActionBus(List.of(action), 100, 1000);
+        List<VesEvent> published = List.of(new VesEvent(), new VesEvent(), new VesEvent());
+
+        published.forEach(event -> bus.publish(event, null));
+
+        assertTrue(bus.awaitCompletion(5, TimeUnit.SECONDS));
+        assertEquals(published.size(), events.size());
+        for (int i = 0; i < published.size(); i++) {
+            assertSame(published.get(i), events.get(i));
+        }
+        assertEquals(3, bus.getStats().get(0).getHandled());
+    }
+
+    @Test
+    void shouldDropEventsInsteadOfBlockingOnFullQueue() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        OnEventAction slowAction = event -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        bus = new OnEventActionBus(List.of(slowAction), 2, 1000);
+
+        bus.publish(new VesEvent(), null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            bus.publish(new VesEvent(), null);
+        }
+        OnEventActionBus.ActionStats stats = bus.getStats().get(0);
+        release.countDown();
+
+        assertEquals(2, stats.getPending());
+        assertEquals(3, stats.getDropped());
+        assertTrue(bus.awaitCompletion(5, TimeUnit.SECONDS));
+        assertEquals(3, bus.getStats().get(0).getHandled());
+    }
+
+    @Test
+    void shouldKeepConsumingAfterFailingAction() throws Exception {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        OnEventAction failing = event -> {
+            throw new IllegalStateException("failed");
+        };
+        bus = new OnEventActionBus(List.of(failing, new RecordingAction(threads, false)), 10, 1000);
+
+        bus.publish(new VesEvent(), null);
+        bus.publish(new VesEvent(), null);
+
+        assertTrue(bus.awaitCompletion(5, TimeUnit.SECONDS));
+        assertEquals(2, bus.getStats().get(0).getHandled());
+        assertEquals(2, threads.size());
+        assertNotEquals(Thread.currentThread(), threads.get(0));
+    }
+
+    @Test
+    void shouldCountBatchesHandledLaterThanAllowed() throws Exception {
+        OnEventAction action = event -> {
+        };
+        bus = new OnEventActionBus(List.of(action), 10, -1);
+
+        bus.publish(new VesEvent(), null);
+
+        assertTrue(bus.awaitCompletion(5, TimeUnit.SECONDS));
+        assertTrue(bus.getStats().get(0).getLateBatches() >= 1);
+        bus.logSummary();
+    }
+
+    private static class RecordingAction implements OnEventAction {
+
+        private final List<Thread> threads;
+        private final boolean synchronous;
+
+        RecordingAction(List<Thread> threads, boolean synchronous) {
+            this.threads = threads;
+            this.synchronous = synchronous;
+        }
+
+        @Override
+        public void onEvent(VesEvent event) {
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public boolean isSynchronous() {
+            return synchronous;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.service.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.mock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.onap.a1pesimulator.data.ves.CommonEventHeader;
+import org.onap.a1pesimulator.data.ves.MeasurementFields;
+import org.onap.a1pesimulator.data.ves.MeasurementFields.AdditionalMeasurement;
+import org.onap.a1pesimulator.data.ves.VesEvent;
+import org.onap.a1pesimulator.service.common.EventCustomizer;
+import org.onap.a1pesimulator.service.report.RanEventCustomizerFactory.Mode;
+import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.util.SimulationRandom;
+
+class RanEventCustomizerFactoryTest {
+
+    private static final int EVENTS = 50;
+    private static final List<String> CELLS = List.of("Cell1", "Cell2", "Cell3", "Cell4");
+
+    private final VesEvent template = template(measurement("latency", "[[100-150]]"),
+            measurement("throughput", "[[1-1000]]"));
+
+    @Test
+    void shouldRepeatValuesOfCellForSameSeed() {
+        for (Mode mode : Mode.values()) {
+            assertEquals(generate(factory(42L), "Cell1", mode), generate(factory(42L), "Cell1", mode));
+        }
+    }
+
+    @Test
+    void shouldGenerateDifferentValuesForDifferentCellsAndSeeds() {
+        List<String> values = generate(factory(42L), "Cell1", Mode.REGULAR);
+
+        assertNotEquals(values, generate(factory(42L), "Cell2", Mode.REGULAR));
+        assertNotEquals(values, generate(factory(43L), "Cell1", Mode.REGULAR));
+        assertNotEquals(values, generate(factory(42L), "Cell1", Mode.FAILURE));
+    }
+
+    @Test
+    void shouldNotDependOnThreadInterleaving() throws Exception {
+        Map<String, List<String>> sequential = new HashMap<>();
+        for (String cell : CELLS) {
+            sequential.put(cell, generate(factory(42L), cell, Mode.REGULAR));
+        }
+
+        RanEventCustomizerFactory factory = factory(42L);
+        ExecutorService executor = Executors.newFixedThreadPool(CELLS.size());
+        try {
+            Map<String, Future<List<String>>> parallel = new HashMap<>();
+            for (String cell : CELLS) {
+                Callable<List<String>> task = () -> generate(factory, cell, Mode.REGULAR);
+                parallel.put(cell, executor.submit(task));
+            }
+            for (String cell : CELLS) {
+                assertEquals(sequential.get(cell), parallel.get(cell).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> generate(RanEventCustomizerFactory factory, String cellId, Mode mode) {
+        EventCustomizer customizer = factory.getEventCustomizer(cellId, template, mode);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < EVENTS; i++) {
+            customizer.apply(template).getMeasurementFields().getAdditionalMeasurements()
+                    .forEach(m -> values.add(m.getName() + "=" + m.getMeasurementValue()));
+        }
+        return values;
+    }
+
+    private static RanEventCustomizerFactory factory(long seed) {
+        RanUeHolder ranUeHolder = mock(RanUeHolder.class);
+        return new RanEventCustomizerFactory(new RanCellEventCustomizer(ranUeHolder, Clock.systemUTC()), ranUeHolder,
+                Clock.systemUTC(), new SimulationRandom(seed));
+    }
+
+    private static VesEvent template(AdditionalMeasurement... measurements) {
+        VesEvent event = new VesEvent();
+        event.setCommonEventHeader(new CommonEventHeader());
+        event.setMeasurementFields(
+                MeasurementFields.builder().additionalMeasurements(new ArrayList<>(List.of(measurements))).build());
+        return event;
+    }
+
+    private static AdditionalMeasurement measurement(String name, String value) {
+        AdditionalMeasurement measurement = new AdditionalMeasurement();
+        measurement.setName(name);
+        Map<String, String> hashMap = new HashMap<>();
+        hashMap.put("value", value);
+        measurement.setHashMap(hashMap);
+        return measurement;
+    }
+}
@@ -18,9 +18,12 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
 
+import java.time.Clock;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,7 @@ import org.onap.a1pesimulator.service.common.EventCustomizer;
 import org.onap.a1pesimulator.service.pm.CommonFileReady;
 import org.onap.a1pesimulator.service.pm.RanFileReadyHolder;
 import org.onap.a1pesimulator.service.ue.RanUeHolder;
+import org.onap.a1pesimulator.util.SimulationRandom;
 import org.onap.a1pesimulator.util.VnfConfigReader;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -48,7 +52,7 @@ class RanVesHolderTest extends CommonFileReady {
     RanVesDataProvider vesDataProvider;
 
     @Mock
-    Collection<OnEventAction> onEventActions;
+    OnEventActionBus onEventActionBus;
 
     @Mock
     RanFileReadyHolder ranFileReadyHolder;
@@ -71,9 +75,10 @@ class RanVesHolderTest extends CommonFileReady {
         ReflectionTestUtils.setField(vnfConfigReader, "vnfConfigFile", "src/test/resources/vnf.config");
         ThreadPoolTaskScheduler vesPmThreadPoolTaskScheduler = spy(new ThreadPoolTaskScheduler());
         vesPmThreadPoolTaskScheduler.initialize();
-        RanEventCustomizerFactory eventCustomizerFactory = spy(new RanEventCustomizerFactory(regularEventCustomizer, ranUeHolder));
+        RanEventCustomizerFactory eventCustomizerFactory = spy(new RanEventCustomizerFactory(regularEventCustomizer, ranUeHolder,
+                Clock.systemUTC(), new SimulationRandom(1L)));
         ranCellsHolder = spy(new RanVesHolder(vesPmThreadPoolTaskScheduler, ranFileReadyHolder, vesSender,
-                vnfConfigReader, eventCustomizerFactory, vesDataProvider, onEventActions));
+                vnfConfigReader, eventCustomizerFactory, vesDataProvider, onEventActionBus, Clock.systemUTC()));
     }
 
     @Test
@@ -90,6 +95,20 @@ class RanVesHolderTest extends CommonFileReady {
         assertThat(response.getBody()).contains("VES Event sending started");
     }
 
+    @Test
+    void startSendingVesEventsForManyCells() {
+        Map<String, VesEvent> vesEvents = new LinkedHashMap<>();
+        vesEvents.put("Cell1", loadEventFromFile());
+        vesEvents.put("Cell2", loadEventFromFile());
+
+        ranCellsHolder.startSendingVesEvents(vesEvents, 10, ReportingMethodEnum.VES);
+
+        Map<String, RanPeriodicEvent> periodicEventsCache = ranCellsHolder.getPeriodicEventsCache();
+        assertThat(periodicEventsCache).containsKeys("Cell1", "Cell2");
+        assertThat(periodicEventsCache.get("Cell2").getScheduledFuture().getDelay(TimeUnit.MILLISECONDS))
+                .isGreaterThan(4000);
+    }
+
     @Test
     void startSendingFailureVesEvents() {
         doReturn(10).when(vesDataProvider).getFailureVesInterval();
@@ -0,0 +1,84 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class DistanceCalculatorTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void shouldCalculateHaversineDistance() {
+        // Krakow - Warsaw
+        assertEquals(252.0, DistanceCalculator.calculate(50.0647, 19.9450, 52.2297, 21.0122), 1.0);
+    }
+
+    @Test
+    void fastPathShouldAgreeWithExactDistance() {
+        Random random = new Random(7);
+        for (double range : new double[] {0.5, 5, 50, 100, 500}) {
+            for (int i = 0; i < SAMPLES; i++) {
+                double startLat = random.nextDouble() * 178 - 89;
+                double startLong = random.nextDouble() * 360 - 180;
+                // mostly close pairs, many of them around the range boundary
+                double spread = Math.toDegrees(range / DistanceCalculator.EARTH_RADIUS) * (i % 10 == 0 ? 100 : 2);
+                double endLat = Math.max(-90, Math.min(90, startLat + (random.nextDouble() * 2 - 1) * spread));
+                double endLong = normalize(startLong + (random.nextDouble() * 2 - 1) * spread * 2);
+
+                boolean expected = DistanceCalculator.calculate(startLat, startLong, endLat, endLong) < range;
+                assertEquals(expected, DistanceCalculator.isInRange(startLat, startLong, endLat, endLong, range),
+                        () -> String.format("%f,%f -> %f,%f within %f", startLat, startLong, endLat, endLong, range));
+            }
+        }
+    }
+
+    @Test
+    void batchShouldAgreeWithSingleCalls() {
+        Random random = new Random(11);
+        double lat = 50.0;
+        double lon = 179.95;
+        double[] latitudes = new double[1000];
+        double[] longitudes = new double[1000];
+        boolean[] expected = new boolean[latitudes.length];
+        int expectedCount = 0;
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = lat + random.nextDouble() * 0.2 - 0.1;
+            longitudes[i] = normalize(lon + random.nextDouble() * 0.3 - 0.15);
+            expected[i] = DistanceCalculator.isInRange(lat, lon, latitudes[i], longitudes[i], 5);
+            expectedCount += expected[i] ? 1 : 0;
+        }
+
+        boolean[] result = new boolean[latitudes.length];
+        assertEquals(expectedCount, DistanceCalculator.isInRange(lat, lon, latitudes, longitudes, 5, result));
+        assertArrayEquals(expected, result);
+
+        double[] distances = new double[latitudes.length];
+        DistanceCalculator.calculate(lat, lon, latitudes, longitudes, distances);
+        for (int i = 0; i < latitudes.length; i++) {
+            assertEquals(expected[i], distances[i] < 5);
+        }
+    }
+
+    private static double normalize(double longitude) {
+        if (longitude > 180) {
+            return longitude - 360;
+        }
+        return longitude < -180 ? longitude + 360 : longitude;
+    }
+}
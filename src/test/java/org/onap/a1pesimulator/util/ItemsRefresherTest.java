@@ -26,7 +26,8 @@ public class ItemsRefresherTest {
 
     private final RanCellsHolder cellsHolder = mock(RanCellsHolder.class);
     private final RanUeHolder ueHolder = mock(RanUeHolder.class);
-    private final ItemsRefresher refresher = new ItemsRefresher(cellsHolder, ueHolder);
+    private final ItemsRefresher refresher =
+            new ItemsRefresher(cellsHolder, ueHolder, mock(TopologyReader.class));
 
     @Test
     public void testHaveNotChanged() {
@@ -60,6 +61,21 @@ public class ItemsRefresherTest {
         verify(ueHolder).refresh();
     }
 
+    @Test
+    public void testOnlyCellsHaveChanged() {
+        // given
+        when(cellsHolder.hasChanged()).thenReturn(true);
+        when(ueHolder.hasChanged()).thenReturn(false);
+
+        // when
+        refresher.refresh();
+
+        // then
+        verify(cellsHolder).refresh();
+        verify(ueHolder, never()).refresh();
+        verify(ueHolder).writeSnapshot();
+    }
+
     @Test
     public void testBothHaveChanged() {
         // given
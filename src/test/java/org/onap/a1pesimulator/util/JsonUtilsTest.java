@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.util.JsonUtils.JsonUtilsException;
+
+class JsonUtilsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldStreamArrayOfRootObjectField() throws IOException {
+        Path file = write("{\"other\": {\"cellList\": []}, \"cellList\": [{\"Cell\": {\"nodeId\": \"Cell1\"}}, "
+                                  + "{\"Cell\": {\"nodeId\": \"Cell2\"}}], \"last\": 1}");
+        List<CellData> cells = new ArrayList<>();
+
+        JsonUtils.INSTANCE.streamFromFile(file.toString(), "cellList", CellData.class, cells::add);
+
+        assertEquals(List.of("Cell1", "Cell2"),
+                cells.stream().map(cell -> cell.getCell().getNodeId()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldStreamRootArray() throws IOException {
+        Path file = write("[{\"id\": \"ue1\", \"cellId\": \"Cell1\"}, null, {\"id\": \"ue2\"}]");
+        List<UserEquipment> ues = new ArrayList<>();
+
+        JsonUtils.INSTANCE.streamFromFile(file.toString(), null, UserEquipment.class, ues::add);
+
+        assertEquals(List.of("ue1", "ue2"), ues.stream().map(UserEquipment::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    void shouldStreamNothingWithoutArray() throws IOException {
+        Path file = write("{\"other\": []}");
+        List<CellData> cells = new ArrayList<>();
+
+        JsonUtils.INSTANCE.streamFromFile(file.toString(), "cellList", CellData.class, cells::add);
+
+        assertEquals(0, cells.size());
+    }
+
+    @Test
+    void shouldFailOnMalformedFile() throws IOException {
+        Path file = write("[{\"id\": \"ue1\"");
+
+        assertThrows(JsonUtilsException.class,
+                () -> JsonUtils.INSTANCE.streamFromFile(file.toString(), null, UserEquipment.class, ue -> { }));
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("topology.json"), content);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+
+/**
+ * Compares drawing measurement values from one shared {@link Random} with drawing them from per-cell
+ * {@link SimulationRandom} streams, N threads drawing bounded ints at the same time. Not run by the build, start it
+ * from the test classpath:
+ *
+ * <pre>
+ * java -cp target/test-classes:target/classes \
+ *         org.onap.a1pesimulator.util.SimulationRandomBenchmark [draws per thread] [thread counts...]
+ * </pre>
+ */
+public class SimulationRandomBenchmark {
+
+    private static final int BOUND = 100;
+    private static final int WARMUP_ROUNDS = 2;
+
+    private SimulationRandomBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int draws = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            threadCounts.add(Integer.parseInt(args[i]));
+        }
+        if (threadCounts.isEmpty()) {
+            threadCounts = List.of(1, 2, 4, 8);
+        }
+
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            runShared(2, draws / 10);
+            runPerCell(2, draws / 10);
+        }
+        System.out.printf("%d available processors, %d draws per thread%n",
+                Runtime.getRuntime().availableProcessors(), draws);
+        for (int threads : threadCounts) {
+            System.out.printf("%2d threads: shared Random %6.1f M/s, per-cell SplittableRandom %6.1f M/s%n", threads,
+                    runShared(threads, draws), runPerCell(threads, draws));
+        }
+    }
+
+    private static double runShared(int threads, int draws) throws Exception {
+        Random shared = new Random(1L);
+        List<IntSupplier> generators = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            generators.add(() -> shared.nextInt(BOUND));
+        }
+        return run(generators, draws);
+    }
+
+    private static double runPerCell(int threads, int draws) throws Exception {
+        SimulationRandom random = new SimulationRandom(1L);
+        List<IntSupplier> generators = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            SplittableRandom cellRandom = random.forCell("Chn" + i);
+            generators.add(() -> cellRandom.nextInt(BOUND));
+        }
+        return run(generators, draws);
+    }
+
+    /**
+     * @return millions of draws per second over all threads
+     */
+    private static double run(List<IntSupplier> generators, int draws) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(generators.size());
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> sums = new ArrayList<>();
+            for (IntSupplier generator : generators) {
+                Callable<Long> task = () -> {
+                    start.await();
+                    long sum = 0;
+                    for (int i = 0; i < draws; i++) {
+                        sum += generator.getAsInt();
+                    }
+                    return sum;
+                };
+                sums.add(executor.submit(task));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            long checksum = 0;
+            for (Future<Long> sum : sums) {
+                checksum += sum.get();
+            }
+            long elapsed = System.nanoTime() - begin;
+            // keeps the draws from being optimized away
+            if (checksum < 0) {
+                throw new IllegalStateException("Negative checksum");
+            }
+            return (double) generators.size() * draws * 1000 / elapsed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
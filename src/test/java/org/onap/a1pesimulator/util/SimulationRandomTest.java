@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+class SimulationRandomTest {
+
+    private static final long SEED = 42L;
+
+    @Test
+    void shouldGiveSameStreamForSameSeedAndCell() {
+        assertEquals(new SimulationRandom(SEED).forCell("Chn0001").nextLong(),
+                new SimulationRandom(SEED).forCell("Chn0001").nextLong());
+    }
+
+    @Test
+    void shouldNotShareStreamBetweenCellsWithEqualHashCodes() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertNotEquals(SimulationRandom.streamSeed(SEED, "Aa"), SimulationRandom.streamSeed(SEED, "BB"));
+    }
+
+    @Test
+    void shouldNotShareStreamBetweenPrefixedIds() {
+        assertNotEquals(SimulationRandom.streamSeed(SEED, "Chn0001"), SimulationRandom.streamSeed(SEED, "Chn00010"));
+        assertNotEquals(SimulationRandom.streamSeed(SEED, ""), SimulationRandom.streamSeed(SEED, "\0"));
+    }
+
+    @Test
+    void shouldGiveDifferentSeedsForDifferentIndexes() {
+        assertNotEquals(SimulationRandom.streamSeed(SEED, "Chn0001", 0),
+                SimulationRandom.streamSeed(SEED, "Chn0001", 1));
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SimulationTaskSchedulerTest {
+
+    private static final long ORIGIN = 1_600_000_000_000L;
+    private static final long ROP = TimeUnit.MINUTES.toMillis(15);
+
+    private SimulationTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    void shouldRunDayOfRopsAsFastAsPossible() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(0, ORIGIN, ZoneOffset.UTC);
+        scheduler = createScheduler(clock);
+        List<Long> ropTimes = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch day = new CountDownLatch(96);
+        long start = System.nanoTime();
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(() -> {
+            ropTimes.add(clock.millis());
+            day.countDown();
+        }, new Date(ORIGIN + ROP), ROP);
+
+        assertTrue(day.await(10, TimeUnit.SECONDS));
+        future.cancel(false);
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(10));
+        for (int i = 0; i < 96; i++) {
+            assertEquals(ORIGIN + (i + 1) * ROP, ropTimes.get(i));
+        }
+    }
+
+    @Test
+    void shouldRunTasksInSimulatedTimeOrder() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(0, ORIGIN, ZoneOffset.UTC);
+        scheduler = createScheduler(clock);
+        List<String> runs = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+
+        scheduler.scheduleAtFixedRate(() -> runs.add("cell"), new Date(ORIGIN + 1), ROP / 3);
+        scheduler.scheduleAtFixedRate(() -> {
+            runs.add("report");
+            if (runs.size() > 6) {
+                done.countDown();
+            }
+        }, new Date(ORIGIN + ROP), ROP);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(List.of("cell", "cell", "cell", "report", "cell", "cell", "cell", "report"),
+                List.copyOf(runs).subList(0, 8));
+    }
+
+    @Test
+    void shouldStopCancelledVirtualTask() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(0, ORIGIN, ZoneOffset.UTC);
+        scheduler = createScheduler(clock);
+        CountDownLatch ran = new CountDownLatch(3);
+
+        ScheduledFuture<?> future = scheduler.scheduleAtFixedRate(ran::countDown, ROP);
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        future.cancel(false);
+        long stoppedAt = clock.millis();
+        Thread.sleep(50);
+
+        assertTrue(future.isCancelled());
+        assertTrue(clock.millis() <= stoppedAt + ROP);
+    }
+
+    @Test
+    void shouldScalePeriodsToWallTime() throws InterruptedException {
+        SimulationClock clock = new SimulationClock(1000, System.currentTimeMillis(), ZoneId.systemDefault());
+        scheduler = createScheduler(clock);
+        CountDownLatch ran = new CountDownLatch(5);
+
+        scheduler.scheduleAtFixedRate(ran::countDown, TimeUnit.SECONDS.toMillis(10));
+
+        assertTrue(ran.await(2, TimeUnit.SECONDS));
+        assertEquals(10, clock.toWallMillis(TimeUnit.SECONDS.toMillis(10)));
+    }
+
+    @Test
+    void shouldRejectNegativeSpeed() {
+        assertThrows(IllegalArgumentException.class, () -> new SimulationClock(-1));
+    }
+
+    private static SimulationTaskScheduler createScheduler(SimulationClock clock) {
+        SimulationTaskScheduler taskScheduler = new SimulationTaskScheduler(clock);
+        taskScheduler.setPoolSize(2);
+        taskScheduler.initialize();
+        return taskScheduler;
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TopologyFileWatcherTest {
+
+    private static final long DEBOUNCE_MS = 50;
+
+    @TempDir
+    Path directory;
+
+    private final Semaphore notifications = new Semaphore(0);
+    private Path cells;
+    private TopologyFileWatcher watcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cells = Files.writeString(directory.resolve("cells.json"), "{}");
+        watcher = new TopologyFileWatcher(List.of(cells), DEBOUNCE_MS, notifications::release);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        watcher.close();
+    }
+
+    @Test
+    void shouldNotifyOnceAfterBurstOfWrites() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(cells, "{\"cellList\":[]}" + i);
+        }
+
+        assertTrue(notifications.tryAcquire(5, TimeUnit.SECONDS));
+        assertFalse(notifications.tryAcquire(DEBOUNCE_MS * 4, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void shouldNotifyOnAtomicRename() throws Exception {
+        Path temporary = Files.writeString(directory.resolve(".cells.json.swp"), "{\"cellList\":[]}");
+        Files.move(temporary, cells, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        assertTrue(notifications.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldNotifyOnConfigMapSymlinkSwap() throws Exception {
+        Files.createDirectory(directory.resolve("..2021_01_01"));
+        Files.createSymbolicLink(directory.resolve("..data_tmp"), directory.resolve("..2021_01_01"));
+
+        assertTrue(notifications.tryAcquire(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldIgnoreUnrelatedFiles() throws Exception {
+        Files.writeString(directory.resolve("other.json"), "{}");
+
+        assertFalse(notifications.tryAcquire(DEBOUNCE_MS * 4, TimeUnit.MILLISECONDS));
+    }
+}
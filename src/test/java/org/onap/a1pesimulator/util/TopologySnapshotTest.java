@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2021 Samsung Electronics
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License
+ */
+
+package org.onap.a1pesimulator.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.onap.a1pesimulator.data.cell.CellDetails;
+import org.onap.a1pesimulator.data.cell.CellList.CellData;
+import org.onap.a1pesimulator.data.ue.UserEquipment;
+import org.onap.a1pesimulator.util.TopologySnapshot.Fingerprint;
+
+class TopologySnapshotTest {
+
+    private static final double RANGE = 5;
+
+    @TempDir
+    Path directory;
+
+    private Path cellFile;
+    private Path ueFile;
+    private Path snapshotFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        cellFile = Files.writeString(directory.resolve("cells.json"), "{\"cellList\": []}");
+        ueFile = Files.writeString(directory.resolve("ue.json"), "[]");
+        snapshotFile = directory.resolve("topology.snapshot");
+    }
+
+    @Test
+    void shouldReadWrittenTopology() throws IOException {
+        List<CellDetails> cells = List.of(CellDetails.builder().id("Cell1").latitude(50.0).longitude(19.0).build(),
+                CellDetails.builder().id("Cell2").build());
+        List<UserEquipment> ues = List.of(new UserEquipment("ue1", 50.01, 19.01, "Cell1"),
+                new UserEquipment("ue2", null, null, null));
+        TopologySnapshot.of(Fingerprint.of(cellFile.toFile()), Fingerprint.of(ueFile.toFile()), RANGE, 1, cells,
+                ues, ue -> ue.getCellId() == null ? new int[0] : new int[] {0}).write(snapshotFile);
+
+        TopologySnapshot snapshot = TopologySnapshot.read(snapshotFile);
+
+        List<CellData> readCells = new ArrayList<>();
+        snapshot.forEachCell(readCells::add);
+        assertEquals(2, readCells.size());
+        assertEquals("Cell1", readCells.get(0).getCell().getNodeId());
+        assertEquals(50.0, readCells.get(0).getCell().getLatitude());
+        assertNull(readCells.get(1).getCell().getLongitude());
+
+        List<UserEquipment> readUes = new ArrayList<>();
+        snapshot.forEachUe(readUes::add);
+        assertEquals("ue1", readUes.get(0).getId());
+        assertEquals(19.01, readUes.get(0).getLongitude());
+        assertEquals("Cell1", readUes.get(0).getCellId());
+        assertNull(readUes.get(1).getCellId());
+        assertNull(readUes.get(1).getLatitude());
+
+        Map<String, int[]> coverage = new HashMap<>();
+        snapshot.forEachCoverage(coverage::put);
+        assertArrayEquals(new int[] {0}, coverage.get("ue1"));
+        assertArrayEquals(new int[0], coverage.get("ue2"));
+        assertTrue(snapshot.hasCoverageFor(RANGE, 1));
+        assertFalse(snapshot.hasCoverageFor(RANGE + 1, 1));
+    }
+
+    @Test
+    void shouldNotMatchChangedTopologyFile() throws IOException {
+        writeEmptySnapshot();
+        TopologySnapshot snapshot = TopologySnapshot.read(snapshotFile);
+        assertTrue(snapshot.matches(cellFile.toFile(), ueFile.toFile()));
+
+        // same size, different content
+        Files.writeString(ueFile, "{}");
+        assertFalse(snapshot.matches(cellFile.toFile(), ueFile.toFile()));
+    }
+
+    @Test
+    void shouldRejectCorruptedSnapshot() throws IOException {
+        writeEmptySnapshot();
+        byte[] content = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(content, content.length / 2));
+
+        assertThrows(IOException.class, () -> TopologySnapshot.read(snapshotFile));
+    }
+
+    @Test
+    void shouldKeepFingerprintTakenBeforeTheFileChanged() throws IOException {
+        Fingerprint readFingerprint = Fingerprint.of(ueFile.toFile());
+        Files.writeString(ueFile, "[ ]");
+        TopologySnapshot.of(Fingerprint.of(cellFile.toFile()), readFingerprint, RANGE, 0, List.of(), List.of(),
+                ue -> new int[0]).write(snapshotFile);
+
+        assertFalse(TopologySnapshot.read(snapshotFile).matches(cellFile.toFile(), ueFile.toFile()));
+    }
+
+    private void writeEmptySnapshot() throws IOException {
+        TopologySnapshot.of(Fingerprint.of(cellFile.toFile()), Fingerprint.of(ueFile.toFile()), RANGE, 0, List.of(),
+                List.of(), ue -> new int[0]).write(snapshotFile);
+    }
+}